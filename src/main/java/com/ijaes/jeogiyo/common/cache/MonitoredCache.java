@@ -0,0 +1,65 @@
+package com.ijaes.jeogiyo.common.cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.ijaes.jeogiyo.common.dto.CacheStatsResponse;
+
+// 최대 크기와 TTL 로 제한되는 Caffeine 캐시, 히트/미스/축출 통계를 함께 기록한다
+public abstract class MonitoredCache<K, V> {
+
+	private final String name;
+	private final Cache<K, V> cache;
+
+	protected MonitoredCache(String name, long maximumSize, Duration timeToLive) {
+		this.name = name;
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(maximumSize)
+			.expireAfterWrite(timeToLive)
+			.recordStats()
+			.build();
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	// 캐시에 없으면 loader 로 적재, loader 가 예외를 던지면 캐시하지 않고 그대로 전파된다
+	public V get(K key, Function<? super K, ? extends V> loader) {
+		return cache.get(key, loader);
+	}
+
+	// 캐시에 없는 키만 모아 loader 로 한 번에 적재, loader 결과에 없는 키는 반환 값에서 빠진다
+	public Map<K, V> getAll(Iterable<? extends K> keys,
+		Function<? super Set<? extends K>, ? extends Map<? extends K, ? extends V>> loader) {
+		return cache.getAll(keys, loader);
+	}
+
+	public void put(K key, V value) {
+		cache.put(key, value);
+	}
+
+	public void invalidate(K key) {
+		cache.invalidate(key);
+	}
+
+	public void invalidateIf(Predicate<? super V> predicate) {
+		cache.asMap().values().removeIf(predicate);
+	}
+
+	public void invalidateAll() {
+		cache.invalidateAll();
+	}
+
+	public CacheStatsResponse stats() {
+		CacheStats stats = cache.stats();
+		return new CacheStatsResponse(name, cache.estimatedSize(), stats.hitCount(), stats.missCount(),
+			stats.hitRate(), stats.evictionCount());
+	}
+}
@@ -0,0 +1,19 @@
+package com.ijaes.jeogiyo.common.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+// JPQL 에서 function('match_against', 컬럼, 검색어) 로 MySQL FULLTEXT 검색을 쓰기 위한 함수 등록
+// 호출될 때만 SQL 로 변환되므로 H2 에서도 등록 자체는 문제없다
+public class MySqlFunctionContributor implements FunctionContributor {
+
+	@Override
+	public void contributeFunctions(FunctionContributions functionContributions) {
+		functionContributions.getFunctionRegistry().registerPattern(
+			"match_against",
+			"match (?1) against (?2 in boolean mode)",
+			functionContributions.getTypeConfiguration().getBasicTypeRegistry().resolve(StandardBasicTypes.DOUBLE)
+		);
+	}
+}
@@ -0,0 +1,32 @@
+package com.ijaes.jeogiyo.common.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.ijaes.jeogiyo.common.dto.CacheStatsResponse;
+import com.ijaes.jeogiyo.common.service.CacheAdminService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/v1/admin/caches")
+@RequiredArgsConstructor
+@Tag(name = "관리자", description = "관리자 권한이 필요한 API")
+public class CacheAdminController {
+
+	private final CacheAdminService cacheAdminService;
+
+	@GetMapping("")
+	@Operation(summary = "캐시 통계 조회", description = "MANAGER 역할의 관리자가 애플리케이션 캐시별 히트/미스/축출 횟수를 조회합니다", security = @SecurityRequirement(name = "bearer-jwt"))
+	public ResponseEntity<List<CacheStatsResponse>> getCacheStats() {
+		List<CacheStatsResponse> response = cacheAdminService.getCacheStats();
+		return ResponseEntity.ok(response);
+	}
+}
@@ -0,0 +1,31 @@
+package com.ijaes.jeogiyo.common.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "캐시 통계 응답")
+public class CacheStatsResponse {
+
+	@Schema(description = "캐시 이름", example = "storeDetail")
+	private String name;
+
+	@Schema(description = "현재 적재된 항목 수 (추정치)", example = "120")
+	private long size;
+
+	@Schema(description = "히트 횟수", example = "950")
+	private long hitCount;
+
+	@Schema(description = "미스 횟수", example = "50")
+	private long missCount;
+
+	@Schema(description = "히트율", example = "0.95")
+	private double hitRate;
+
+	@Schema(description = "크기/TTL 초과로 축출된 항목 수", example = "3")
+	private long evictionCount;
+}
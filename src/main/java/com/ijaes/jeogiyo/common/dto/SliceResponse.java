@@ -0,0 +1,24 @@
+package com.ijaes.jeogiyo.common.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "커서 기반 페이지 응답 (전체 개수 없음)")
+public class SliceResponse<T> {
+
+	@Schema(description = "조회 결과")
+	private List<T> content;
+
+	@Schema(description = "다음 페이지 조회 시 전달할 커서 (마지막 페이지면 null)")
+	private String nextCursor;
+
+	@Schema(description = "다음 페이지 존재 여부")
+	private boolean hasNext;
+}
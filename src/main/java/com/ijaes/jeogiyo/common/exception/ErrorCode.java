@@ -40,6 +40,7 @@ public enum ErrorCode {
 	BUSINESS_ERROR(HttpStatus.BAD_REQUEST, "B-001", "비즈니스 로직 오류가 발생했습니다."),
 	INVALID_REQUEST(HttpStatus.BAD_REQUEST, "B-002", "잘못된 요청입니다."),
 	INVALID_INPUT_VALUE(HttpStatus.BAD_REQUEST, "B-003", "잘못된 입력값입니다."), // 범용 입력값 검증 실패
+	INVALID_CURSOR(HttpStatus.BAD_REQUEST, "B-004", "유효하지 않은 커서입니다."),
 
 	// 사용자 정보 수정 관련 (U-xxx)
 	INVALID_ADDRESS(HttpStatus.BAD_REQUEST, "U-001", "주소는 100자 이내여야 합니다."),
@@ -55,6 +56,8 @@ public enum ErrorCode {
 	DUPLICATE_STORE(HttpStatus.CONFLICT, "S-001", "이미 등록한 매장이 있습니다. 한 명의 OWNER는 하나의 매장만 등록할 수 있습니다."),
 	STORE_NOT_FOUND(HttpStatus.NOT_FOUND, "S-002", "매장을 찾을 수 없습니다. 먼저 매장을 등록해주세요."),
 	INVALID_CATEGORY(HttpStatus.BAD_REQUEST, "S-003", "유효하지 않은 카테고리입니다. (KOREAN, JAPANESE, CHINESE, ITALIAN)"),
+	INVALID_SEARCH_MODE(HttpStatus.BAD_REQUEST, "S-004", "유효하지 않은 검색 방식입니다. (TEXT, CHOSUNG, JAMO)"),
+	SEARCH_INDEX_NOT_READY(HttpStatus.SERVICE_UNAVAILABLE, "S-005", "검색 색인을 준비 중입니다. 잠시 후 다시 시도해주세요."),
 
 	// 리뷰 관련 (W-xxx)
 	REVIEW_ALREADY_EXISTS(HttpStatus.CONFLICT, "W-001", "이미 해당 주문에 대한 리뷰가 작성되었습니다."),
@@ -0,0 +1,23 @@
+package com.ijaes.jeogiyo.common.service;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import com.ijaes.jeogiyo.common.cache.MonitoredCache;
+import com.ijaes.jeogiyo.common.dto.CacheStatsResponse;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class CacheAdminService {
+
+	private final List<MonitoredCache<?, ?>> caches;
+
+	public List<CacheStatsResponse> getCacheStats() {
+		return caches.stream()
+			.map(MonitoredCache::stats)
+			.toList();
+	}
+}
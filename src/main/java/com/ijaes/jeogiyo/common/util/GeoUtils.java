@@ -0,0 +1,38 @@
+package com.ijaes.jeogiyo.common.util;
+
+public final class GeoUtils {
+
+	public static final double EARTH_RADIUS_KM = 6371.0;
+
+	public static final double KM_PER_DEGREE = Math.toRadians(1) * EARTH_RADIUS_KM;
+
+	private GeoUtils() {
+	}
+
+	public static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+		double dLat = Math.toRadians(lat2 - lat1);
+		double dLon = Math.toRadians(lon2 - lon1);
+
+		double a = Math.sin(dLat / 2) * Math.sin(dLat / 2) +
+			Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) *
+				Math.sin(dLon / 2) * Math.sin(dLon / 2);
+
+		double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+
+		return EARTH_RADIUS_KM * c;
+	}
+
+	public static double latitudeDelta(double radiusKm) {
+		return radiusKm / KM_PER_DEGREE;
+	}
+
+	// 반경 원에 외접하는 경도 폭, 극점이 원 안에 포함되면 전체 범위(180도)를 반환
+	public static double longitudeDelta(double latitude, double radiusKm) {
+		double angularRadius = radiusKm / EARTH_RADIUS_KM;
+		double cosLatitude = Math.cos(Math.toRadians(latitude));
+		if (angularRadius >= Math.PI / 2 || Math.sin(angularRadius) >= cosLatitude) {
+			return 180.0;
+		}
+		return Math.toDegrees(Math.asin(Math.sin(angularRadius) / cosLatitude));
+	}
+}
@@ -0,0 +1,75 @@
+package com.ijaes.jeogiyo.common.util;
+
+import java.util.Map;
+
+public final class HangulUtils {
+
+	private static final char SYLLABLE_FIRST = '가';
+	private static final char SYLLABLE_LAST = '힣';
+	private static final int JUNGSUNG_COUNT = 21;
+	private static final int JONGSUNG_COUNT = 28;
+
+	private static final String CHOSUNG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+
+	// 겹모음/겹받침은 자판에서 두 번 입력하므로 낱자로 풀어 둔다
+	private static final String[] JUNGSUNG = {
+		"ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ",
+		"ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+	};
+
+	private static final String[] JONGSUNG = {
+		"", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ",
+		"ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+	};
+
+	private static final Map<Character, String> COMPOUND_JAMO = Map.ofEntries(
+		Map.entry('ㄳ', "ㄱㅅ"), Map.entry('ㄵ', "ㄴㅈ"), Map.entry('ㄶ', "ㄴㅎ"), Map.entry('ㄺ', "ㄹㄱ"),
+		Map.entry('ㄻ', "ㄹㅁ"), Map.entry('ㄼ', "ㄹㅂ"), Map.entry('ㄽ', "ㄹㅅ"), Map.entry('ㄾ', "ㄹㅌ"),
+		Map.entry('ㄿ', "ㄹㅍ"), Map.entry('ㅀ', "ㄹㅎ"), Map.entry('ㅄ', "ㅂㅅ"), Map.entry('ㅘ', "ㅗㅏ"),
+		Map.entry('ㅙ', "ㅗㅐ"), Map.entry('ㅚ', "ㅗㅣ"), Map.entry('ㅝ', "ㅜㅓ"), Map.entry('ㅞ', "ㅜㅔ"),
+		Map.entry('ㅟ', "ㅜㅣ"), Map.entry('ㅢ', "ㅡㅣ")
+	);
+
+	private HangulUtils() {
+	}
+
+	// 완성형 음절을 초성으로 바꾼다 (치킨 -> ㅊㅋ), 그 외 문자는 그대로 둔다
+	public static String toChosung(String text) {
+		StringBuilder builder = new StringBuilder(text.length());
+		for (int i = 0; i < text.length(); i++) {
+			char ch = text.charAt(i);
+			builder.append(isSyllable(ch) ? CHOSUNG.charAt((ch - SYLLABLE_FIRST) / (JUNGSUNG_COUNT * JONGSUNG_COUNT)) : ch);
+		}
+		return builder.toString();
+	}
+
+	// 완성형 음절과 겹자모를 입력 순서의 낱자로 푼다 (치킨 -> ㅊㅣㅋㅣㄴ, 칰 -> ㅊㅣㅋ)
+	public static String toJamo(String text) {
+		StringBuilder builder = new StringBuilder(text.length() * 3);
+		for (int i = 0; i < text.length(); i++) {
+			appendJamo(builder, text.charAt(i));
+		}
+		return builder.toString();
+	}
+
+	// 한 글자를 낱자로 풀어 붙인다, 글자 단위 경계가 필요한 호출부에서 사용
+	public static void appendJamo(StringBuilder builder, char ch) {
+		if (isSyllable(ch)) {
+			int offset = ch - SYLLABLE_FIRST;
+			builder.append(CHOSUNG.charAt(offset / (JUNGSUNG_COUNT * JONGSUNG_COUNT)))
+				.append(JUNGSUNG[offset / JONGSUNG_COUNT % JUNGSUNG_COUNT])
+				.append(JONGSUNG[offset % JONGSUNG_COUNT]);
+		} else {
+			String compound = COMPOUND_JAMO.get(ch);
+			if (compound != null) {
+				builder.append(compound);
+			} else {
+				builder.append(ch);
+			}
+		}
+	}
+
+	private static boolean isSyllable(char ch) {
+		return ch >= SYLLABLE_FIRST && ch <= SYLLABLE_LAST;
+	}
+}
@@ -1,5 +1,7 @@
 package com.ijaes.jeogiyo.gemini.service;
 
+import java.util.Optional;
+
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
@@ -13,6 +15,8 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 public class GeminiService {
 	private static final String GEMINI_MODEL = "gemini-2.5-flash";
+	// 리뷰 검사 프롬프트나 판정 방식을 바꾸면 올린다, 저장된 리뷰 검사 결과가 모두 무효화된다
+	public static final String ABUSE_CHECK_VERSION = GEMINI_MODEL + "/abuse-v1";
 	private static final String GEMINI_API_URL = "https://generativelanguage.googleapis.com/v1beta/models/{model}:generateContent";
 
 	@Value("${gemini.api-key}")
@@ -96,12 +100,12 @@ public class GeminiService {
 		}
 	}
 
-	//리뷰 내용에 비속어 포함되어 있는지 여부 판단
-	public boolean checkAbuseInReview(String reviewContent) {
+	//리뷰 비속어 판정 결과, 호출 실패나 모호한 응답이면 빈 값 (검사하는 쪽에서 실패를 구분해 다시 검사하기 위함)
+	public Optional<Boolean> findAbuseVerdict(String reviewContent) {
 
 		//리뷰 내용이 없을 때
 		if (reviewContent == null || reviewContent.trim().isEmpty()) {
-			return false;
+			return Optional.of(false);
 		}
 
 		try {
@@ -129,21 +133,21 @@ public class GeminiService {
 				.retrieve() //빌더 체인 끝 -> 실제 네트워크 호출 실행
 				.body(JsonNode.class); //자바 객체 타입으로 변환
 
-			//호출 실패 시 일단 숨김 처리
+			//호출 실패
 			if (response == null) {
 				log.warn("Gemini API returned null response for abuse check.");
-				return true;
+				return Optional.empty();
 			}
 
 			return extractSafetyRating(response);
 
-		} catch (Exception e) { //외부 서비스 오류 시 일단 숨김 처리
+		} catch (Exception e) { //외부 서비스 오류
 			log.error("Failed to check abuse from Gemini API for review: {}", reviewContent, e);
-			return true;
+			return Optional.empty();
 		}
 	}
 
-	private boolean extractSafetyRating(JsonNode response) {
+	private Optional<Boolean> extractSafetyRating(JsonNode response) {
 
 		if (response.has("promptFeedback")) {
 			JsonNode feedback = response.path("promptFeedback");
@@ -151,7 +155,7 @@ public class GeminiService {
 			// 프롬프트 자체가 차단된 경우, 안전하게 true로 처리
 			if ("SAFETY".equalsIgnoreCase(blockReason)) {
 				log.warn("Gemini blocked the prompt for safety reasons: {}", feedback.toPrettyString());
-				return true;
+				return Optional.of(true);
 			}
 		}
 
@@ -159,7 +163,7 @@ public class GeminiService {
 		JsonNode candidates = response.path("candidates");
 		if (!candidates.isArray() || candidates.isEmpty()) {
 			log.warn("Gemini response has no candidates. Full response: {}", response.toPrettyString());
-			return true;
+			return Optional.empty();
 		}
 
 		// 텍스트 응답 추출
@@ -176,14 +180,14 @@ public class GeminiService {
 
 		// 텍스트 내용 기반으로 판정
 		if (answer.contains("false")) {
-			return false;
+			return Optional.of(false);
 		}
 		if (answer.contains("true")) {
-			return true;
+			return Optional.of(true);
 		}
 
-		//모호한 경우 보수적으로 true
-		log.warn("Unclear abuse check result, treating as unsafe. Full answer: {}", answer);
-		return true;
+		//모호한 경우 판정하지 않음, 검사하는 쪽에서 다시 검사한다
+		log.warn("Unclear abuse check result, leaving it undecided. Full answer: {}", answer);
+		return Optional.empty();
 	}
 }
@@ -0,0 +1,18 @@
+package com.ijaes.jeogiyo.menu.cache;
+
+import java.util.List;
+
+import com.ijaes.jeogiyo.menu.dto.response.MenuUserResponse;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 한 매장의 메뉴 목록과, 목록을 만들기 직전에 읽은 매장 메뉴 버전
+@Getter
+@AllArgsConstructor
+public class MenuCatalog {
+
+	private final long version;
+
+	private final List<MenuUserResponse> menus;
+}
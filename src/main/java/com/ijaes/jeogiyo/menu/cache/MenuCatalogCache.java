@@ -0,0 +1,50 @@
+package com.ijaes.jeogiyo.menu.cache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.ijaes.jeogiyo.common.cache.MonitoredCache;
+import com.ijaes.jeogiyo.menu.dto.response.MenuUserResponse;
+
+// 매장별 메뉴 목록 캐시
+// 메뉴가 바뀔 때마다 매장 버전을 올리고, 조회 시 캐시된 목록의 버전이 현재 버전보다 낮으면 다시 적재한다
+// 버전은 적재 전에 읽으므로, 적재 도중 메뉴가 바뀌면 그 목록은 다음 조회에서 버려진다
+@Component
+public class MenuCatalogCache extends MonitoredCache<UUID, MenuCatalog> {
+
+	private final Map<UUID, Long> versions = new ConcurrentHashMap<>();
+
+	public MenuCatalogCache(
+		@Value("${menu.catalog-cache.maximum-size:10000}") long maximumSize,
+		@Value("${menu.catalog-cache.ttl-seconds:3600}") long ttlSeconds
+	) {
+		super("menuCatalog", maximumSize, Duration.ofSeconds(ttlSeconds));
+	}
+
+	public List<MenuUserResponse> getMenus(UUID storeId, Function<UUID, List<MenuUserResponse>> loader) {
+		long version = currentVersion(storeId);
+		MenuCatalog catalog = get(storeId, id -> new MenuCatalog(version, List.copyOf(loader.apply(id))));
+
+		if (catalog.getVersion() < version) {
+			invalidate(storeId);
+			catalog = get(storeId, id -> new MenuCatalog(version, List.copyOf(loader.apply(id))));
+		}
+		return catalog.getMenus();
+	}
+
+	public long currentVersion(UUID storeId) {
+		return versions.getOrDefault(storeId, 0L);
+	}
+
+	public void bumpVersion(UUID storeId) {
+		versions.merge(storeId, 1L, Long::sum);
+		invalidate(storeId);
+	}
+}
@@ -0,0 +1,34 @@
+package com.ijaes.jeogiyo.menu.event;
+
+import java.util.UUID;
+
+import com.ijaes.jeogiyo.menu.entity.Menu;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class MenuEvent {
+
+	//메뉴가 생성/수정/삭제된 매장 식별자
+	UUID storeId;
+
+	//메뉴 식별자
+	UUID menuId;
+
+	//메뉴명
+	String name;
+
+	//삭제 여부
+	boolean deleted;
+
+	public static MenuEvent from(Menu menu) {
+		return new MenuEvent(
+			menu.getStore().getId(),
+			menu.getId(),
+			menu.getName(),
+			menu.isDeleted()
+		);
+	}
+}
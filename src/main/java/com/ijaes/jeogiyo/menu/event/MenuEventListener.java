@@ -0,0 +1,30 @@
+package com.ijaes.jeogiyo.menu.event;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.ijaes.jeogiyo.menu.cache.MenuCatalogCache;
+import com.ijaes.jeogiyo.store.event.StoreEvent;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class MenuEventListener {
+
+	private final MenuCatalogCache menuCatalogCache;
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void handleMenuEvent(MenuEvent event) {
+		menuCatalogCache.bumpVersion(event.getStoreId());
+	}
+
+	// 삭제된 매장의 메뉴 목록이 캐시에서 계속 조회되지 않도록 한다
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void handleStoreEvent(StoreEvent event) {
+		if (event.isDeleted()) {
+			menuCatalogCache.bumpVersion(event.getStoreId());
+		}
+	}
+}
@@ -8,6 +8,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import com.ijaes.jeogiyo.menu.entity.Menu;
+import com.ijaes.jeogiyo.store.index.SearchableMenu;
 
 public interface MenuRepositoryCustom {
 
@@ -20,4 +21,6 @@ public interface MenuRepositoryCustom {
 	Optional<Menu> findByIdNotDeleted(UUID menuId);
 
 	Page<Menu> findAllIncludingDeleted(Pageable pageable);
+
+	List<SearchableMenu> findAllSearchableNotDeleted();
 }
@@ -10,6 +10,8 @@ import org.springframework.data.domain.Pageable;
 
 import com.ijaes.jeogiyo.menu.entity.Menu;
 import com.ijaes.jeogiyo.menu.entity.QMenu;
+import com.ijaes.jeogiyo.store.index.SearchableMenu;
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import lombok.RequiredArgsConstructor;
@@ -90,4 +92,18 @@ public class MenuRepositoryCustomImpl implements MenuRepositoryCustom {
 
 		return new PageImpl<>(content, pageable, total == null ? 0 : total);
 	}
+
+	@Override
+	public List<SearchableMenu> findAllSearchableNotDeleted() {
+		QMenu menu = QMenu.menu;
+
+		return queryFactory
+			.select(Projections.constructor(SearchableMenu.class, menu.id, menu.store.id, menu.name))
+			.from(menu)
+			.where(
+				menu.deletedAt.isNull(),
+				menu.store.deletedAt.isNull()
+			)
+			.fetch();
+	}
 }
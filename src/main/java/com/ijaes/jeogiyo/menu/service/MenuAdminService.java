@@ -2,6 +2,7 @@ package com.ijaes.jeogiyo.menu.service;
 
 import java.util.UUID;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -15,6 +16,7 @@ import com.ijaes.jeogiyo.menu.dto.request.CreateMenuRequest;
 import com.ijaes.jeogiyo.menu.dto.request.UpdateMenuRequest;
 import com.ijaes.jeogiyo.menu.dto.response.MenuDetailResponse;
 import com.ijaes.jeogiyo.menu.entity.Menu;
+import com.ijaes.jeogiyo.menu.event.MenuEvent;
 import com.ijaes.jeogiyo.menu.repository.MenuRepository;
 import com.ijaes.jeogiyo.store.entity.Store;
 import com.ijaes.jeogiyo.store.repository.StoreRepository;
@@ -29,6 +31,7 @@ public class MenuAdminService {
 	private final MenuRepository menuRepository;
 	private final StoreRepository storeRepository;
 	private final GeminiService geminiService;
+	private final ApplicationEventPublisher eventPublisher;
 
 	@Transactional
 	public MenuDetailResponse createMenu(UUID storeId, @Valid CreateMenuRequest request) {
@@ -49,6 +52,7 @@ public class MenuAdminService {
 			.build();
 
 		Menu savedMenu = menuRepository.save(menu);
+		eventPublisher.publishEvent(MenuEvent.from(savedMenu));
 
 		return MenuDetailResponse.from(savedMenu);
 	}
@@ -78,6 +82,7 @@ public class MenuAdminService {
 		}
 
 		menu.softDelete();
+		eventPublisher.publishEvent(MenuEvent.from(menu));
 	}
 
 	@Transactional
@@ -86,6 +91,7 @@ public class MenuAdminService {
 			.orElseThrow(() -> new CustomException(ErrorCode.MENU_NOT_FOUND));
 
 		menu.update(request.getName(), request.getDescription(), request.getPrice());
+		eventPublisher.publishEvent(MenuEvent.from(menu));
 
 		return MenuDetailResponse.from(menu);
 	}
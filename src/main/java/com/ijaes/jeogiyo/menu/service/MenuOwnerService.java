@@ -3,6 +3,7 @@ package com.ijaes.jeogiyo.menu.service;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -14,6 +15,7 @@ import com.ijaes.jeogiyo.menu.dto.request.CreateMenuRequest;
 import com.ijaes.jeogiyo.menu.dto.request.UpdateMenuRequest;
 import com.ijaes.jeogiyo.menu.dto.response.MenuDetailResponse;
 import com.ijaes.jeogiyo.menu.entity.Menu;
+import com.ijaes.jeogiyo.menu.event.MenuEvent;
 import com.ijaes.jeogiyo.menu.repository.MenuRepository;
 import com.ijaes.jeogiyo.store.entity.Store;
 import com.ijaes.jeogiyo.store.repository.StoreRepository;
@@ -28,6 +30,7 @@ public class MenuOwnerService {
 	private final StoreRepository storeRepository;
 	private final MenuRepository menuRepository;
 	private final GeminiService geminiService;
+	private final ApplicationEventPublisher eventPublisher;
 
 	@Transactional
 	public MenuDetailResponse createMenu(CreateMenuRequest request, Authentication authentication) {
@@ -50,6 +53,7 @@ public class MenuOwnerService {
 			.build();
 
 		Menu savedMenu = menuRepository.save(menu);
+		eventPublisher.publishEvent(MenuEvent.from(savedMenu));
 
 		return MenuDetailResponse.from(savedMenu);
 	}
@@ -81,6 +85,7 @@ public class MenuOwnerService {
 			.orElseThrow(() -> new CustomException(ErrorCode.MENU_NOT_FOUND));
 
 		menu.update(request.getName(), request.getDescription(), request.getPrice());
+		eventPublisher.publishEvent(MenuEvent.from(menu));
 
 		return MenuDetailResponse.from(menu);
 	}
@@ -97,5 +102,6 @@ public class MenuOwnerService {
 		}
 
 		menu.softDelete();
+		eventPublisher.publishEvent(MenuEvent.from(menu));
 	}
 }
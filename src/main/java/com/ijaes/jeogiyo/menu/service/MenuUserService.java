@@ -8,6 +8,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.ijaes.jeogiyo.common.exception.CustomException;
 import com.ijaes.jeogiyo.common.exception.ErrorCode;
+import com.ijaes.jeogiyo.menu.cache.MenuCatalogCache;
 import com.ijaes.jeogiyo.menu.dto.response.MenuUserResponse;
 import com.ijaes.jeogiyo.menu.entity.Menu;
 import com.ijaes.jeogiyo.menu.repository.MenuRepository;
@@ -21,9 +22,14 @@ public class MenuUserService {
 
 	private final MenuRepository menuRepository;
 	private final StoreRepository storeRepository;
+	private final MenuCatalogCache menuCatalogCache;
 
 	@Transactional(readOnly = true)
 	public List<MenuUserResponse> getMenusByStoreId(UUID storeId) {
+		return menuCatalogCache.getMenus(storeId, this::loadMenus);
+	}
+
+	private List<MenuUserResponse> loadMenus(UUID storeId) {
 		storeRepository.findByIdNotDeleted(storeId)
 			.orElseThrow(() -> new CustomException(ErrorCode.STORE_NOT_FOUND));
 
@@ -0,0 +1,22 @@
+package com.ijaes.jeogiyo.review.cache;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.ijaes.jeogiyo.common.cache.MonitoredCache;
+import com.ijaes.jeogiyo.review.entity.ModerationVerdict;
+
+// 리뷰 내용 해시별 비속어 판정 결과 캐시, 없으면 j_moderation_verdict 테이블에서 적재
+// 판정 시각과 버전을 함께 두어 TTL 이 남아 있어도 테이블에서 정리된 결과는 사용하지 않는다
+@Component
+public class ModerationVerdictCache extends MonitoredCache<String, ModerationVerdict> {
+
+	public ModerationVerdictCache(
+		@Value("${review.moderation.verdict-cache.maximum-size:50000}") long maximumSize,
+		@Value("${review.moderation.verdict-cache.ttl-seconds:86400}") long ttlSeconds
+	) {
+		super("moderationVerdict", maximumSize, Duration.ofSeconds(ttlSeconds));
+	}
+}
@@ -13,6 +13,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.ijaes.jeogiyo.review.dto.response.ModerationStatsResponse;
 import com.ijaes.jeogiyo.review.dto.response.ReviewResponse;
 import com.ijaes.jeogiyo.review.entity.ReviewStatus;
 import com.ijaes.jeogiyo.review.service.ReviewAdminService;
@@ -49,6 +50,14 @@ public class ReviewAdminController {
 		return ResponseEntity.ok(response);
 	}
 
+	@GetMapping("/moderation-stats")
+	@Operation(summary = "리뷰 비속어 검사 현황 조회", description = "관리자 권한으로 검사 대기 리뷰 수, 작업 큐 깊이, 처리 시간을 조회합니다.", security = @SecurityRequirement(name = "bearer-jwt"))
+	@PreAuthorize("hasRole('MANAGER')")
+	public ResponseEntity<ModerationStatsResponse> getModerationStats() {
+		ModerationStatsResponse response = reviewAdminService.getModerationStats();
+		return ResponseEntity.ok(response);
+	}
+
 	@GetMapping("/{reviewId}")
 	@Operation(summary = "리뷰 단건 조회", description = "관리자 권한으로 리뷰 하나를 조회합니다.", security = @SecurityRequirement(name = "bearer-jwt"))
 	@PreAuthorize("hasRole('MANAGER')")
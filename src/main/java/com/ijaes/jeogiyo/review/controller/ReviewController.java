@@ -15,6 +15,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.ijaes.jeogiyo.common.dto.SliceResponse;
 import com.ijaes.jeogiyo.review.dto.request.CreateReviewRequest;
 import com.ijaes.jeogiyo.review.dto.request.UpdateReviewRequest;
 import com.ijaes.jeogiyo.review.dto.response.CreateReviewResponse;
@@ -77,6 +78,29 @@ public class ReviewController {
 		return ResponseEntity.ok(response);
 	}
 
+	@GetMapping(value = "/users/{userId}", params = "cursor")
+	@Operation(summary = "사용자별 리뷰 목록 커서 조회", description = "특정 id가 작성한 리뷰 목록을 커서 기반으로 조회합니다. 첫 페이지는 cursor를 빈 값으로 요청합니다", security = @SecurityRequirement(name = "bearer-jwt"))
+	public ResponseEntity<SliceResponse<ReviewResponse>> getUserReviewsByCursor(Authentication authentication,
+		@PathVariable UUID userId,
+		@Parameter(description = "이전 응답의 nextCursor (첫 페이지는 빈 값)") @RequestParam String cursor,
+		@RequestParam(defaultValue = "10") int size,
+		@Parameter(
+			description = "리뷰 상태 필터. 입력하지 않으면 모든 상태 조회",
+			schema = @Schema(implementation = ReviewStatus.class),
+			required = false
+		)
+		@RequestParam(required = false) String filterType,
+		@Parameter(
+			description = "정렬 기준 타입. 입력하지 않으면 최신순 (커서를 받은 정렬과 같아야 함)",
+			schema = @Schema(implementation = ReviewSortType.class)
+		)
+		@RequestParam(defaultValue = "LATEST") String sortType
+	) {
+		SliceResponse<ReviewResponse> response = reviewService.getUserReviewsByCursor(authentication, userId, cursor,
+			size, filterType, sortType);
+		return ResponseEntity.ok(response);
+	}
+
 	@GetMapping("/stores/{storeId}")
 	@Operation(summary = "가게별 리뷰 목록 조회", description = "특정 store에 작성된 전체 리뷰 목록을 조회합니다.", security = @SecurityRequirement(name = "bearer-jwt"))
 	public ResponseEntity<Page<ReviewResponse>> getStoreReviews(
@@ -93,6 +117,23 @@ public class ReviewController {
 		return ResponseEntity.ok(response);
 	}
 
+	@GetMapping(value = "/stores/{storeId}", params = "cursor")
+	@Operation(summary = "가게별 리뷰 목록 커서 조회", description = "특정 store에 작성된 리뷰 목록을 커서 기반으로 조회합니다. 첫 페이지는 cursor를 빈 값으로 요청합니다", security = @SecurityRequirement(name = "bearer-jwt"))
+	public ResponseEntity<SliceResponse<ReviewResponse>> getStoreReviewsByCursor(
+		@PathVariable UUID storeId,
+		@Parameter(description = "이전 응답의 nextCursor (첫 페이지는 빈 값)") @RequestParam String cursor,
+		@RequestParam(defaultValue = "10") int size,
+		@Parameter(
+			description = "정렬 기준 타입. 입력하지 않으면 최신순 (커서를 받은 정렬과 같아야 함)",
+			schema = @Schema(implementation = ReviewSortType.class)
+		)
+		@RequestParam(defaultValue = "LATEST") String sortType
+	) {
+		SliceResponse<ReviewResponse> response = reviewService.getStoreReviewsByCursor(storeId, cursor, size,
+			sortType);
+		return ResponseEntity.ok(response);
+	}
+
 	@PatchMapping("/{reviewId}")
 	@Operation(summary = "리뷰 수정", description = "작성자가 본인의 리뷰를 수정합니다", security = @SecurityRequirement(name = "bearer-jwt"))
 	public ResponseEntity<ReviewResponse> updateReview(Authentication authentication,
@@ -1,6 +1,8 @@
 package com.ijaes.jeogiyo.review.dto.request;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -19,6 +21,8 @@ public class UpdateReviewRequest {
 	@Schema(description = "수정된 내용", example = "재주문입니다. 맛있어요.", nullable = true)
 	private String content;
 
+	@Min(value = 1, message = "평점은 최소 1점 이상이어야 합니다.")
+	@Max(value = 5, message = "평점은 최대 5점 이하여야 합니다.")
 	@Schema(description = "수정된 평점", example = "5", nullable = true)
 	private Integer rate;
 }
@@ -0,0 +1,60 @@
+package com.ijaes.jeogiyo.review.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "리뷰 비속어 검사 처리 현황 응답")
+public class ModerationStatsResponse {
+
+	@Schema(description = "검사 대기 상태인 리뷰 수 (큐에 들어가지 못한 리뷰 포함)", example = "12")
+	private long pendingReviews;
+
+	@Schema(description = "작업 큐에서 대기 중인 검사 수", example = "8")
+	private int queueDepth;
+
+	@Schema(description = "작업 큐 최대 크기", example = "500")
+	private int queueCapacity;
+
+	@Schema(description = "현재 검사 중인 작업 수", example = "4")
+	private int activeWorkers;
+
+	@Schema(description = "검사를 마친 리뷰 수", example = "1024")
+	private long completedCount;
+
+	@Schema(description = "오류로 실패한 검사 수 (다음 주기에 다시 시도)", example = "2")
+	private long failedCount;
+
+	@Schema(description = "큐가 가득 차 넣지 못한 횟수", example = "0")
+	private long droppedCount;
+
+	@Schema(description = "큐 평균 대기 시간(ms)", example = "35.2")
+	private double averageWaitMillis;
+
+	@Schema(description = "평균 검사 시간(ms)", example = "1840.5")
+	private double averageProcessingMillis;
+
+	@Schema(description = "최대 처리 시간(ms, 대기 + 검사)", example = "5230")
+	private long maxLatencyMillis;
+
+	@Schema(description = "욕설 사전으로 정상 판정해 외부 검사를 생략한 수", example = "870")
+	private long prefilterCleanCount;
+
+	@Schema(description = "욕설 사전으로 부적절 판정해 외부 검사를 생략한 수", example = "45")
+	private long prefilterAbusiveCount;
+
+	@Schema(description = "같은 내용의 저장된 판정을 재사용해 외부 검사를 생략한 수", example = "230")
+	private long verdictCacheHitCount;
+
+	@Schema(description = "판정이 애매해 Gemini 로 넘긴 수", example = "109")
+	private long geminiCallCount;
+
+	@Schema(description = "검사 중 Gemini 호출을 생략한 비율 (0~1)", example = "0.89")
+	private double geminiCallAvoidedRatio;
+}
@@ -0,0 +1,7 @@
+package com.ijaes.jeogiyo.review.entity;
+
+public enum ModerationStatus {
+	PENDING,  // 비속어 검사 대기 (공개 목록, 평점 집계에서 제외)
+	APPROVED, // 검사 통과
+	REJECTED  // 부적절한 내용으로 숨김 처리
+}
@@ -0,0 +1,56 @@
+package com.ijaes.jeogiyo.review.entity;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.domain.Persistable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 리뷰 내용별 Gemini 비속어 판정 결과, 같은 내용이 다시 들어오면 외부 호출 없이 재사용한다
+// 키는 판정 버전 + 정규화한 내용의 SHA-256, 리뷰 원문은 저장하지 않는다
+// 정리 작업이 바로 지우는 캐시 행이므로 BaseEntity(생성/수정 시각, 소프트 삭제)를 쓰지 않고 필요한 열만 둔다
+@Entity
+@Table(name = "j_moderation_verdict", indexes = {
+	@Index(name = "idx_moderation_verdict_checked_at", columnList = "checked_at")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode
+public class ModerationVerdict implements Persistable<String> {
+
+	@Id
+	@Column(length = 64)
+	private String contentHash;
+
+	@Column(nullable = false, length = 100)
+	private String version;
+
+	@Column(nullable = false)
+	private boolean abusive;
+
+	// 보관 기간 기준, 같은 내용을 다시 검사해 덮어쓰면 함께 갱신된다
+	@Column(nullable = false)
+	private LocalDateTime checkedAt;
+
+	@Override
+	public String getId() {
+		return contentHash;
+	}
+
+	// 키를 직접 정하므로 save 가 merge(조회 후 덮어쓰기)가 되지 않도록 항상 INSERT, 같은 해시가 있으면 키 중복으로 실패한다
+	@Override
+	public boolean isNew() {
+		return true;
+	}
+}
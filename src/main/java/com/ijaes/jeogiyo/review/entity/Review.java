@@ -3,13 +3,18 @@ package com.ijaes.jeogiyo.review.entity;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+import org.hibernate.annotations.ColumnDefault;
+
 import com.ijaes.jeogiyo.common.entity.BaseEntity;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -18,7 +23,17 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "j_review")
+// 가게별/사용자별 리뷰 커서 조회가 정렬 순서 그대로 인덱스를 읽도록 정렬 키와 같은 순서로 둔다
+// 평점 낮은순은 작성 시각만 역순이라 방향을 지정한 인덱스가 따로 필요하다
+@Table(name = "j_review", indexes = {
+	@Index(name = "idx_review_store_created_at", columnList = "store_id, created_at, review_id"),
+	@Index(name = "idx_review_store_rate_created_at", columnList = "store_id, rate, created_at, review_id"),
+	@Index(name = "idx_review_store_rate_asc_created_at_desc",
+		columnList = "store_id, rate ASC, created_at DESC, review_id DESC"),
+	@Index(name = "idx_review_user_created_at", columnList = "user_id, created_at, review_id"),
+	@Index(name = "idx_review_user_rate_created_at", columnList = "user_id, rate, created_at, review_id"),
+	@Index(name = "idx_review_moderation_status_updated_at", columnList = "moderation_status, updated_at")
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -63,6 +78,13 @@ public class Review extends BaseEntity {
 	@Column(nullable = false)
 	private boolean isDeleted = false;
 
+	//비속어 검사 상태, 기존 리뷰는 검사를 마친 것으로 본다
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 20)
+	@ColumnDefault("'APPROVED'")
+	@Builder.Default
+	private ModerationStatus moderationStatus = ModerationStatus.APPROVED;
+
 	//제목 업데이트
 	public void updateTitle(String title) {
 		this.title = title;
@@ -88,6 +110,34 @@ public class Review extends BaseEntity {
 		this.isHidden = false;
 	}
 
+	//비속어 검사 요청 (작성 직후, 내용 수정 시)
+	public void requestModeration() {
+		this.moderationStatus = ModerationStatus.PENDING;
+	}
+
+	//비속어 검사 결과 반영, 부적절하면 숨김 처리
+	public void completeModeration(boolean abusive) {
+		if (abusive) {
+			this.moderationStatus = ModerationStatus.REJECTED;
+			hide();
+		} else {
+			this.moderationStatus = ModerationStatus.APPROVED;
+			show();
+		}
+	}
+
+	public boolean isModerationPending() {
+		return moderationStatus == ModerationStatus.PENDING;
+	}
+
+	//가게 평점 집계에 반영되는 평점 (삭제/숨김/검사 대기 리뷰와 차단/탈퇴한 작성자의 리뷰는 null)
+	public Integer ratedValue(boolean authorExcluded) {
+		if (isDeleted || isHidden || isModerationPending() || authorExcluded) {
+			return null;
+		}
+		return rate;
+	}
+
 	public void softDelete() {
 		this.setDeletedAt(LocalDateTime.now());
 		this.isDeleted = true;
@@ -3,5 +3,21 @@ package com.ijaes.jeogiyo.review.entity;
 public enum ReviewSortType {
 	HIGH_RATE, // 평점 높은 순
 	LOW_RATE,  // 평점 낮은 순
-	LATEST     // 최신 순 (기본값)
-}
\ No newline at end of file
+	LATEST;    // 최신 순 (기본값)
+
+	// 입력하지 않았거나 알 수 없는 값이면 최신순
+	public static ReviewSortType from(String sortType) {
+		if (sortType == null) {
+			return LATEST;
+		}
+		try {
+			return valueOf(sortType.toUpperCase());
+		} catch (IllegalArgumentException e) {
+			return LATEST;
+		}
+	}
+
+	public boolean isByRate() {
+		return this != LATEST;
+	}
+}
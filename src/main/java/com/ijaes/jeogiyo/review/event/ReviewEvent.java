@@ -1,7 +1,10 @@
 package com.ijaes.jeogiyo.review.event;
 
+import java.util.Arrays;
 import java.util.UUID;
 
+import com.ijaes.jeogiyo.store.repository.RatingAggregate;
+
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -12,6 +15,22 @@ public class ReviewEvent {
 	//매장 식별자
 	UUID storeId;
 
-	//재계산된 평점 평균
-	Double averageRate;
-}
\ No newline at end of file
+	//별점별 집계 리뷰 수 변화량 (인덱스 0 이 1점), 평점 합계/개수 변화량도 여기서 계산된다
+	long[] starCountDeltas;
+
+	//리뷰 하나가 집계에 반영되던 평점에서 새 평점으로 바뀐 변화량 (집계 제외는 null)
+	public static ReviewEvent between(UUID storeId, Integer ratedBefore, Integer ratedAfter) {
+		long[] starCountDeltas = new long[RatingAggregate.STAR_LEVELS];
+		if (ratedBefore != null) {
+			starCountDeltas[ratedBefore - 1]--;
+		}
+		if (ratedAfter != null) {
+			starCountDeltas[ratedAfter - 1]++;
+		}
+		return new ReviewEvent(storeId, starCountDeltas);
+	}
+
+	public boolean hasChanges() {
+		return Arrays.stream(starCountDeltas).anyMatch(delta -> delta != 0);
+	}
+}
@@ -0,0 +1,14 @@
+package com.ijaes.jeogiyo.review.event;
+
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ReviewModerationEvent {
+
+	//비속어 검사를 요청한 리뷰 식별자
+	UUID reviewId;
+}
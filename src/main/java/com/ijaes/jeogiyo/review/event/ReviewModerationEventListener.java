@@ -0,0 +1,23 @@
+package com.ijaes.jeogiyo.review.event;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.ijaes.jeogiyo.review.moderation.ReviewModerationWorker;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class ReviewModerationEventListener {
+
+	private final ReviewModerationWorker reviewModerationWorker;
+
+	// 커밋된 뒤에 넘겨야 작업 스레드에서 저장된 리뷰를 읽을 수 있다
+	// 큐가 가득 차서 넘기지 못한 리뷰는 PENDING 으로 남아 ReviewModerationScheduler 가 다시 넣는다
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void handleModerationEvent(ReviewModerationEvent event) {
+		reviewModerationWorker.submit(event.getReviewId());
+	}
+}
@@ -0,0 +1,112 @@
+package com.ijaes.jeogiyo.review.moderation;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.TreeSet;
+
+// 여러 패턴을 한 번의 본문 순회로 모두 찾는 Aho-Corasick 자동자
+// 실패 링크를 미리 펼쳐 상태 x 문자 전이표로 만들어 두므로 글자당 전이 한 번, 패턴 수와 무관하게 본문 길이에 비례한다
+public final class AhoCorasickMatcher {
+
+	// 패턴에 나오는 문자만 열로 두고, 그 외 문자는 모두 0번 열(루트로 돌아감)로 보낸다
+	private final char[] alphabet;
+	private final int[][] transitions;
+	private final int[][] outputs;
+	private final int[] patternLengths;
+
+	public AhoCorasickMatcher(List<String> patterns) {
+		TreeSet<Character> chars = new TreeSet<>();
+		for (String pattern : patterns) {
+			if (pattern.isEmpty()) {
+				throw new IllegalArgumentException("pattern must not be empty");
+			}
+			for (int i = 0; i < pattern.length(); i++) {
+				chars.add(pattern.charAt(i));
+			}
+		}
+		this.alphabet = new char[chars.size()];
+		int index = 0;
+		for (char ch : chars) {
+			alphabet[index++] = ch;
+		}
+
+		// 1. 트라이 구성
+		List<int[]> trie = new ArrayList<>();
+		List<List<Integer>> nodeOutputs = new ArrayList<>();
+		trie.add(newRow());
+		nodeOutputs.add(new ArrayList<>());
+		this.patternLengths = new int[patterns.size()];
+		for (int p = 0; p < patterns.size(); p++) {
+			String pattern = patterns.get(p);
+			patternLengths[p] = pattern.length();
+			int state = 0;
+			for (int i = 0; i < pattern.length(); i++) {
+				int column = column(pattern.charAt(i));
+				if (trie.get(state)[column] == 0) {
+					trie.get(state)[column] = trie.size();
+					trie.add(newRow());
+					nodeOutputs.add(new ArrayList<>());
+				}
+				state = trie.get(state)[column];
+			}
+			nodeOutputs.get(state).add(p);
+		}
+
+		// 2. 너비 우선으로 실패 링크를 구하면서 없는 전이는 실패 상태의 전이로 채우고, 출력도 실패 상태 것을 합친다
+		int[] failure = new int[trie.size()];
+		Queue<Integer> queue = new ArrayDeque<>();
+		for (int column = 1; column <= alphabet.length; column++) {
+			int child = trie.get(0)[column];
+			if (child != 0) {
+				queue.add(child);
+			}
+		}
+		while (!queue.isEmpty()) {
+			int state = queue.poll();
+			nodeOutputs.get(state).addAll(nodeOutputs.get(failure[state]));
+			for (int column = 1; column <= alphabet.length; column++) {
+				int child = trie.get(state)[column];
+				if (child != 0) {
+					failure[child] = trie.get(failure[state])[column];
+					queue.add(child);
+				} else {
+					trie.get(state)[column] = trie.get(failure[state])[column];
+				}
+			}
+		}
+
+		this.transitions = trie.toArray(new int[0][]);
+		this.outputs = new int[nodeOutputs.size()][];
+		for (int state = 0; state < outputs.length; state++) {
+			outputs[state] = nodeOutputs.get(state).stream().mapToInt(Integer::intValue).toArray();
+		}
+	}
+
+	// 찾은 패턴마다 (패턴 번호, 시작 위치, 끝 위치(미포함)) 를 끝 위치 순으로 넘긴다, 겹치는 일치도 모두 넘긴다
+	public void forEachMatch(CharSequence text, MatchConsumer consumer) {
+		int state = 0;
+		for (int i = 0; i < text.length(); i++) {
+			state = transitions[state][column(text.charAt(i))];
+			for (int pattern : outputs[state]) {
+				consumer.accept(pattern, i + 1 - patternLengths[pattern], i + 1);
+			}
+		}
+	}
+
+	private int[] newRow() {
+		return new int[alphabet.length + 1];
+	}
+
+	private int column(char ch) {
+		int position = Arrays.binarySearch(alphabet, ch);
+		return position < 0 ? 0 : position + 1;
+	}
+
+	@FunctionalInterface
+	public interface MatchConsumer {
+		void accept(int pattern, int start, int end);
+	}
+}
@@ -0,0 +1,123 @@
+package com.ijaes.jeogiyo.review.moderation;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ijaes.jeogiyo.gemini.service.GeminiService;
+import com.ijaes.jeogiyo.review.cache.ModerationVerdictCache;
+import com.ijaes.jeogiyo.review.entity.ModerationVerdict;
+import com.ijaes.jeogiyo.review.repository.ModerationVerdictRepository;
+
+// 같은 리뷰 내용에 대한 Gemini 판정을 메모리 캐시 -> 테이블 순으로 재사용한다
+// 키에 판정 버전이 들어가므로 프롬프트를 바꿔 버전을 올리면 이전 결과는 조회되지 않고 정리 작업에서 지워진다
+@Service
+public class ModerationVerdictService {
+
+	private final ModerationVerdictCache moderationVerdictCache;
+	private final ModerationVerdictRepository moderationVerdictRepository;
+	private final Duration retention;
+
+	public ModerationVerdictService(
+		ModerationVerdictCache moderationVerdictCache,
+		ModerationVerdictRepository moderationVerdictRepository,
+		@Value("${review.moderation.verdict-cache.retention-days:30}") long retentionDays
+	) {
+		this.moderationVerdictCache = moderationVerdictCache;
+		this.moderationVerdictRepository = moderationVerdictRepository;
+		this.retention = Duration.ofDays(retentionDays);
+	}
+
+	//1. 저장된 판정 결과, 없거나 보관 기간이 지났으면 빈 값
+	//메모리에 있어도 보관 기간이 지났거나 이전 버전이면 정리 작업이 테이블에서 지우는 결과이므로 사용하지 않는다
+	public Optional<Boolean> findVerdict(String content) {
+		return Optional.ofNullable(moderationVerdictCache.get(hash(content), this::loadVerdict))
+			.filter(this::isValid)
+			.map(ModerationVerdict::isAbusive);
+	}
+
+	//2. Gemini 판정 결과 저장, 항상 INSERT 라 같은 내용을 동시에 검사한 작업과 겹치면 먼저 저장된 결과를 둔다
+	//이미 있는 결과가 보관 기간이 지났으면(정리 작업 전) 새 판정으로 교체
+	public void saveVerdict(String content, boolean abusive) {
+		String contentHash = hash(content);
+		LocalDateTime now = LocalDateTime.now();
+		ModerationVerdict verdict = ModerationVerdict.builder()
+			.contentHash(contentHash)
+			.version(GeminiService.ABUSE_CHECK_VERSION)
+			.abusive(abusive)
+			.checkedAt(now)
+			.build();
+		try {
+			moderationVerdictRepository.saveAndFlush(verdict);
+		} catch (DataIntegrityViolationException e) {
+			int replaced = moderationVerdictRepository.replaceExpired(contentHash, GeminiService.ABUSE_CHECK_VERSION,
+				abusive, now, now.minus(retention));
+			if (replaced == 0) {
+				// 먼저 저장된 결과를 다음 조회 때 테이블에서 읽도록 메모리에는 넣지 않는다
+				moderationVerdictCache.invalidate(contentHash);
+				return;
+			}
+		}
+		moderationVerdictCache.put(contentHash, verdict);
+	}
+
+	//3. 보관 기간이 지났거나 이전 버전인 판정 결과 삭제, 메모리에 남은 같은 결과도 함께 비운다
+	@Transactional
+	public int purgeExpired() {
+		int purged = moderationVerdictRepository.deleteExpired(LocalDateTime.now().minus(retention),
+			GeminiService.ABUSE_CHECK_VERSION);
+		moderationVerdictCache.invalidateIf(verdict -> !isValid(verdict));
+		return purged;
+	}
+
+	private ModerationVerdict loadVerdict(String contentHash) {
+		return moderationVerdictRepository.findById(contentHash)
+			.filter(this::isValid)
+			.orElse(null);
+	}
+
+	private boolean isValid(ModerationVerdict verdict) {
+		return GeminiService.ABUSE_CHECK_VERSION.equals(verdict.getVersion())
+			&& verdict.getCheckedAt().isAfter(LocalDateTime.now().minus(retention));
+	}
+
+	// 판정에 영향이 없는 차이는 지워 거의 같은 내용이 같은 키를 갖게 한다
+	// 유니코드 조합 형태/대소문자 통일, 공백과 기호 제거, 같은 글자가 3번 이상 반복되면 2번으로 (최고!!!, ㅋㅋㅋㅋ)
+	static String normalize(String content) {
+		String text = Normalizer.normalize(content, Normalizer.Form.NFC).toLowerCase();
+		StringBuilder builder = new StringBuilder(text.length());
+		for (int i = 0; i < text.length(); i++) {
+			char ch = text.charAt(i);
+			if (!Character.isLetterOrDigit(ch)) {
+				continue;
+			}
+			int length = builder.length();
+			if (length >= 2 && builder.charAt(length - 1) == ch && builder.charAt(length - 2) == ch) {
+				continue;
+			}
+			builder.append(ch);
+		}
+		return builder.toString();
+	}
+
+	private static String hash(String content) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			byte[] hash = digest.digest((GeminiService.ABUSE_CHECK_VERSION + "\n" + normalize(content))
+				.getBytes(StandardCharsets.UTF_8));
+			return HexFormat.of().formatHex(hash);
+		} catch (NoSuchAlgorithmException e) {
+			throw new RuntimeException("SHA-256 알고리즘을 찾을 수 없습니다.", e);
+		}
+	}
+}
@@ -0,0 +1,193 @@
+package com.ijaes.jeogiyo.review.moderation;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.ijaes.jeogiyo.common.util.HangulUtils;
+
+// 외부 검사 전에 욕설 사전으로 리뷰를 먼저 판정한다, 확실한 경우만 결론을 내고 나머지는 UNCERTAIN
+// 사전에 없다고 정상은 아니므로(사전 밖의 욕설, 인신공격) 기본값에서는 사전에 걸리지 않은 리뷰도 외부 검사로 넘긴다
+// 본문과 사전 단어를 모두 낱자로 풀어 비교하므로 자모를 나눠 쓴 표현(ㅅㅣㅂㅏㄹ)도 같은 단어로 찾는다
+// 심한 욕설 목록에는 일상 단어와 겹치기 쉬운 짧은 단어(니미, 좆)를 두지 않는다, 정상 리뷰가 외부 검사 없이 숨겨지기 때문
+@Component
+public class ProfanityFilter {
+
+	static final String DEFAULT_SEVERE = "씨발,시발,씨바,씨팔,시팔,쉬발,ㅅㅂ,ㅆㅂ,병신,븅신,빙신,ㅂㅅ,개새끼,개새기,개세끼,"
+		+ "개색기,개색끼,ㄱㅅㄲ,좆같,좃같,니애미,느금마,엠창,썅,쌍년,쌍놈,미친놈,미친년,미친새끼,"
+		+ "fuck,fucking,fucker,motherfucker,bitch,asshole";
+	static final String DEFAULT_MILD = "시바,미친,새끼,존나,졸라,ㅈㄴ,지랄,ㅈㄹ,염병,닥쳐,꺼져,개같,니미,좆,"
+		+ "shit,damn,bastard,crap,wtf";
+	static final String DEFAULT_ALLOWED = "시발점,시발역,시발택시,시바견,시바이누";
+
+	private static final byte SEVERE = 0;
+	private static final byte MILD = 1;
+	private static final byte ALLOWED = 2;
+
+	private final boolean enabled;
+	private final boolean cleanOnMiss;
+	private final AhoCorasickMatcher matcher;
+	private final byte[] kinds;
+
+	public ProfanityFilter(
+		@Value("${review.moderation.prefilter.enabled:true}") boolean enabled,
+		@Value("${review.moderation.prefilter.clean-on-miss:false}") boolean cleanOnMiss,
+		@Value("${review.moderation.lexicon.severe:" + DEFAULT_SEVERE + "}") List<String> severeTerms,
+		@Value("${review.moderation.lexicon.mild:" + DEFAULT_MILD + "}") List<String> mildTerms,
+		@Value("${review.moderation.lexicon.allowed:" + DEFAULT_ALLOWED + "}") List<String> allowedTerms
+	) {
+		this.enabled = enabled;
+		this.cleanOnMiss = cleanOnMiss;
+
+		List<String> patterns = new ArrayList<>();
+		List<Byte> patternKinds = new ArrayList<>();
+		addTerms(severeTerms, SEVERE, patterns, patternKinds);
+		addTerms(mildTerms, MILD, patterns, patternKinds);
+		addTerms(allowedTerms, ALLOWED, patterns, patternKinds);
+
+		this.matcher = new AhoCorasickMatcher(patterns);
+		this.kinds = new byte[patternKinds.size()];
+		for (int i = 0; i < kinds.length; i++) {
+			kinds[i] = patternKinds.get(i);
+		}
+	}
+
+	public ProfanityVerdict check(String content) {
+		if (!enabled) {
+			return ProfanityVerdict.UNCERTAIN;
+		}
+		if (content == null || content.isBlank()) {
+			return ProfanityVerdict.CLEAN;
+		}
+
+		//1. 띄어쓰기를 살린 본문에서 심한 욕설이 단어 그대로 나오면 바로 판정
+		ProfanityVerdict spaced = scan(NormalizedText.of(content, true), true);
+		if (spaced != ProfanityVerdict.CLEAN) {
+			return spaced;
+		}
+
+		//2. 띄어쓰기를 모두 지운 본문에서만 나오면 띄어쓰기 회피일 수도, 단어 경계를 넘긴 우연일 수도 있어 외부 검사로 넘김
+		ProfanityVerdict compact = scan(NormalizedText.of(content, false), false);
+		if (compact != ProfanityVerdict.CLEAN) {
+			return ProfanityVerdict.UNCERTAIN;
+		}
+
+		//3. 사전에 전혀 걸리지 않음, clean-on-miss 를 켠 경우에만 정상으로 판정
+		return cleanOnMiss ? ProfanityVerdict.CLEAN : ProfanityVerdict.UNCERTAIN;
+	}
+
+	// 사전 단어가 없으면 CLEAN
+	private ProfanityVerdict scan(NormalizedText text, boolean strict) {
+		List<int[]> flagged = new ArrayList<>();
+		List<int[]> allowed = new ArrayList<>();
+		matcher.forEachMatch(text.value, (pattern, start, end) -> {
+			// 글자 중간에서 시작하거나 끝나는 일치는 낱자 분해로 생긴 우연이므로 버린다 (맛보 -> ㅁㅏㅅㅂㅗ 의 ㅅㅂ)
+			if (!text.isUnitBoundary(start) || !text.isUnitBoundary(end)) {
+				return;
+			}
+			if (kinds[pattern] == ALLOWED) {
+				allowed.add(new int[] {start, end});
+			} else {
+				flagged.add(new int[] {pattern, start, end});
+			}
+		});
+
+		ProfanityVerdict verdict = ProfanityVerdict.CLEAN;
+		for (int[] match : flagged) {
+			if (isAllowed(match[1], match[2], allowed)) {
+				continue;
+			}
+			if (!strict || kinds[match[0]] == MILD || !text.isWordBoundary(match[1], match[2])) {
+				verdict = ProfanityVerdict.UNCERTAIN;
+				continue;
+			}
+			return ProfanityVerdict.ABUSIVE;
+		}
+		return verdict;
+	}
+
+	// 욕설 일치가 허용 단어 안에 들어 있으면 무시 (시발점)
+	private boolean isAllowed(int start, int end, List<int[]> allowed) {
+		for (int[] range : allowed) {
+			if (range[0] <= start && end <= range[1]) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static void addTerms(List<String> terms, byte kind, List<String> patterns, List<Byte> patternKinds) {
+		for (String term : terms) {
+			String pattern = NormalizedText.of(term, false).value;
+			if (!pattern.isEmpty()) {
+				patterns.add(pattern);
+				patternKinds.add(kind);
+			}
+		}
+	}
+
+	// 소문자 + 낱자로 푼 본문, 숫자와 기호는 지운다 (씨1발, f.u.c.k 같은 끼워 넣기 회피)
+	// units 는 원래 글자(음절 하나, 낱자 하나)가 시작하는 위치
+	private static final class NormalizedText {
+
+		private final String value;
+		private final BitSet units;
+
+		private NormalizedText(String value, BitSet units) {
+			this.value = value;
+			this.units = units;
+		}
+
+		private static NormalizedText of(String text, boolean keepSpaces) {
+			StringBuilder builder = new StringBuilder(text.length() * 3);
+			BitSet units = new BitSet();
+			for (int i = 0; i < text.length(); i++) {
+				char ch = text.charAt(i);
+				if (Character.isLetter(ch)) {
+					units.set(builder.length());
+					HangulUtils.appendJamo(builder, Character.toLowerCase(ch));
+				} else if (keepSpaces && Character.isWhitespace(ch)
+					&& !builder.isEmpty() && builder.charAt(builder.length() - 1) != ' ') {
+					units.set(builder.length());
+					builder.append(' ');
+				}
+			}
+			units.set(builder.length());
+			return new NormalizedText(builder.toString(), units);
+		}
+
+		private boolean isUnitBoundary(int position) {
+			return units.get(position);
+		}
+
+		// 앞뒤에 같은 문자(영문자, 한글)가 붙어 있지 않아야 단어 그대로로 본다 (class 안의 ass, 할머니미역국 안의 니미)
+		// 한글은 조사가 붙은 경우(개새끼야)도 여기서 걸러지지만, 외부 검사로 넘길 뿐이라 정상 리뷰를 숨기는 것보다 낫다
+		private boolean isWordBoundary(int start, int end) {
+			return !continuesWord(start - 1, start) && !continuesWord(end - 1, end);
+		}
+
+		private boolean continuesWord(int left, int right) {
+			return (isLatin(left) && isLatin(right)) || (isHangul(left) && isHangul(right));
+		}
+
+		private boolean isLatin(int position) {
+			if (position < 0 || position >= value.length()) {
+				return false;
+			}
+			char ch = value.charAt(position);
+			return ch >= 'a' && ch <= 'z';
+		}
+
+		// 음절은 낱자로 풀려 있으므로 호환 자모 범위만 보면 된다
+		private boolean isHangul(int position) {
+			if (position < 0 || position >= value.length()) {
+				return false;
+			}
+			char ch = value.charAt(position);
+			return ch >= 'ㄱ' && ch <= 'ㆎ';
+		}
+	}
+}
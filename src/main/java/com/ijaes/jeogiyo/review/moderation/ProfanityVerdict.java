@@ -0,0 +1,7 @@
+package com.ijaes.jeogiyo.review.moderation;
+
+public enum ProfanityVerdict {
+	CLEAN,      // 내용이 비었음 (clean-on-miss 설정 시 사전 단어가 전혀 없음)
+	ABUSIVE,    // 심한 욕설이 단어 그대로 포함됨
+	UNCERTAIN   // 사전에 걸리지 않았거나, 가벼운 표현/띄어쓰기로 흩어진 단어만 있어 외부 검사가 필요함
+}
@@ -0,0 +1,89 @@
+package com.ijaes.jeogiyo.review.moderation;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ijaes.jeogiyo.review.entity.ModerationStatus;
+import com.ijaes.jeogiyo.review.entity.Review;
+import com.ijaes.jeogiyo.review.event.ReviewEvent;
+import com.ijaes.jeogiyo.review.repository.ReviewRepository;
+import com.ijaes.jeogiyo.user.entity.Role;
+import com.ijaes.jeogiyo.user.repository.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+
+// 비속어 검사 전후의 짧은 트랜잭션, 외부 API 호출 동안에는 DB 커넥션을 잡지 않는다
+@Service
+@RequiredArgsConstructor
+public class ReviewModerationService {
+
+	private final ReviewRepository reviewRepository;
+	private final UserRepository userRepository;
+	private final ApplicationEventPublisher eventPublisher;
+
+	//1. 검사할 내용 조회, 이미 검사를 마쳤거나 삭제된 리뷰는 빈 값
+	@Transactional(readOnly = true)
+	public Optional<String> findPendingContent(UUID reviewId) {
+		return reviewRepository.findById(reviewId)
+			.filter(review -> review.isModerationPending() && !review.isDeleted())
+			.map(Review::getContent);
+	}
+
+	//2. 검사 결과 반영, 공개 여부가 바뀌면 평점 집계 변화량 이벤트 발행
+	//검사하는 동안 내용이 다시 수정되었으면 이 결과는 버린다 (수정된 내용은 따로 검사된다)
+	//조회 후 반영 사이의 수정도 놓치지 않도록 조건부 UPDATE 로 반영하고, 반영된 경우에만 읽은 평점으로 이벤트를 만든다
+	@Transactional
+	public boolean applyVerdict(UUID reviewId, String checkedContent, boolean abusive) {
+		Review review = reviewRepository.findById(reviewId).orElse(null);
+		if (review == null || !review.isModerationPending() || !review.getContent().equals(checkedContent)) {
+			return false;
+		}
+
+		boolean authorExcluded = isAuthorExcluded(review);
+		Integer ratedBefore = review.ratedValue(authorExcluded);
+		ModerationStatus status = abusive ? ModerationStatus.REJECTED : ModerationStatus.APPROVED;
+		int updated = reviewRepository.completeModeration(reviewId, ModerationStatus.PENDING, checkedContent,
+			review.getRate(), status, abusive, LocalDateTime.now());
+		if (updated == 0) {
+			return false;
+		}
+		//UPDATE 후 영속성 컨텍스트가 비워져 review 는 준영속 상태, 이벤트 계산용으로만 상태를 맞춘다
+		review.completeModeration(abusive);
+
+		ReviewEvent event = ReviewEvent.between(review.getStoreId(), ratedBefore, review.ratedValue(authorExcluded));
+		if (event.hasChanges()) {
+			eventPublisher.publishEvent(event);
+		}
+		return true;
+	}
+
+	//3. 일정 시간 넘게 검사 대기 중인 리뷰 (한 번에 최대 100건, 오래된 순)
+	@Transactional(readOnly = true)
+	public List<UUID> findStalledReviewIds(Duration stalledAfter) {
+		return reviewRepository.findTop100ByModerationStatusAndDeletedAtIsNullAndUpdatedAtBeforeOrderByUpdatedAtAsc(
+				ModerationStatus.PENDING, LocalDateTime.now().minus(stalledAfter))
+			.stream()
+			.map(Review::getReviewId)
+			.toList();
+	}
+
+	//4. 검사 대기 중인 리뷰 수
+	@Transactional(readOnly = true)
+	public long countPending() {
+		return reviewRepository.countByModerationStatusAndDeletedAtIsNull(ModerationStatus.PENDING);
+	}
+
+	//차단되었거나 탈퇴한 작성자의 리뷰는 평점 집계에서 제외
+	private boolean isAuthorExcluded(Review review) {
+		return userRepository.findById(review.getUserId())
+			.map(user -> user.getRole() == Role.BLOCK)
+			.orElse(true);
+	}
+}
@@ -0,0 +1,173 @@
+package com.ijaes.jeogiyo.review.moderation;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import com.ijaes.jeogiyo.gemini.service.GeminiService;
+import com.ijaes.jeogiyo.review.dto.response.ModerationStatsResponse;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+// 리뷰 비속어 검사를 고정 크기 스레드 풀과 크기 제한 큐에서 처리한다
+// 외부 API 응답을 기다리는 동안 DB 커넥션이나 요청 스레드를 잡지 않는다
+@Slf4j
+@Component
+public class ReviewModerationWorker {
+
+	private final GeminiService geminiService;
+	private final ProfanityFilter profanityFilter;
+	private final ModerationVerdictService moderationVerdictService;
+	private final ReviewModerationService reviewModerationService;
+	private final ThreadPoolExecutor executor;
+	private final int queueCapacity;
+
+	// 큐에 있거나 검사 중인 리뷰, 스케줄러가 같은 리뷰를 다시 넣지 않도록 한다
+	private final Set<UUID> inFlight = ConcurrentHashMap.newKeySet();
+
+	private final LongAdder completedCount = new LongAdder();
+	private final LongAdder failedCount = new LongAdder();
+	private final LongAdder droppedCount = new LongAdder();
+	private final LongAdder totalWaitNanos = new LongAdder();
+	private final LongAdder totalProcessingNanos = new LongAdder();
+	private final AtomicLong maxLatencyNanos = new AtomicLong();
+	private final LongAdder prefilterCleanCount = new LongAdder();
+	private final LongAdder prefilterAbusiveCount = new LongAdder();
+	private final LongAdder verdictCacheHitCount = new LongAdder();
+	private final LongAdder geminiCallCount = new LongAdder();
+
+	public ReviewModerationWorker(
+		GeminiService geminiService,
+		ProfanityFilter profanityFilter,
+		ModerationVerdictService moderationVerdictService,
+		ReviewModerationService reviewModerationService,
+		@Value("${review.moderation.threads:4}") int threads,
+		@Value("${review.moderation.queue-capacity:500}") int queueCapacity
+	) {
+		this.geminiService = geminiService;
+		this.profanityFilter = profanityFilter;
+		this.moderationVerdictService = moderationVerdictService;
+		this.reviewModerationService = reviewModerationService;
+		this.queueCapacity = queueCapacity;
+		this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("review-moderation-"));
+	}
+
+	// 큐가 가득 차면 넣지 않고 false, 리뷰는 PENDING 으로 남아 다음 주기에 다시 들어온다
+	public boolean submit(UUID reviewId) {
+		if (!inFlight.add(reviewId)) {
+			return false;
+		}
+
+		long submittedAt = System.nanoTime();
+		try {
+			executor.execute(() -> moderate(reviewId, submittedAt));
+			return true;
+		} catch (RejectedExecutionException e) {
+			inFlight.remove(reviewId);
+			droppedCount.increment();
+			return false;
+		}
+	}
+
+	public boolean isInFlight(UUID reviewId) {
+		return inFlight.contains(reviewId);
+	}
+
+	public ModerationStatsResponse stats(long pendingReviews) {
+		long processed = completedCount.sum() + failedCount.sum();
+		long avoided = prefilterCleanCount.sum() + prefilterAbusiveCount.sum() + verdictCacheHitCount.sum();
+		long checked = avoided + geminiCallCount.sum();
+		return ModerationStatsResponse.builder()
+			.pendingReviews(pendingReviews)
+			.queueDepth(executor.getQueue().size())
+			.queueCapacity(queueCapacity)
+			.activeWorkers(executor.getActiveCount())
+			.completedCount(completedCount.sum())
+			.failedCount(failedCount.sum())
+			.droppedCount(droppedCount.sum())
+			.averageWaitMillis(processed == 0 ? 0 : toMillis(totalWaitNanos.sum()) / processed)
+			.averageProcessingMillis(processed == 0 ? 0 : toMillis(totalProcessingNanos.sum()) / processed)
+			.maxLatencyMillis(TimeUnit.NANOSECONDS.toMillis(maxLatencyNanos.get()))
+			.prefilterCleanCount(prefilterCleanCount.sum())
+			.prefilterAbusiveCount(prefilterAbusiveCount.sum())
+			.verdictCacheHitCount(verdictCacheHitCount.sum())
+			.geminiCallCount(geminiCallCount.sum())
+			.geminiCallAvoidedRatio(checked == 0 ? 0 : (double)avoided / checked)
+			.build();
+	}
+
+	// 큐에 남은 검사는 버리고, 해당 리뷰는 PENDING 으로 남아 재시작 후 다시 검사된다
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+
+	private void moderate(UUID reviewId, long submittedAt) {
+		long startedAt = System.nanoTime();
+		try {
+			Optional<String> content = reviewModerationService.findPendingContent(reviewId);
+			if (content.isPresent()) {
+				Optional<Boolean> abusive = checkAbuse(content.get());
+				if (abusive.isEmpty()) {
+					// 판정하지 못한 리뷰는 PENDING 으로 남겨 검사 지연 스케줄러가 다시 넣게 한다
+					failedCount.increment();
+					log.warn("Review moderation has no verdict, will be retried: {}", reviewId);
+					return;
+				}
+				reviewModerationService.applyVerdict(reviewId, content.get(), abusive.get());
+			}
+			completedCount.increment();
+		} catch (RuntimeException e) {
+			failedCount.increment();
+			log.warn("Review moderation failed, will be retried: {}", reviewId, e);
+		} finally {
+			inFlight.remove(reviewId);
+			long finishedAt = System.nanoTime();
+			totalWaitNanos.add(startedAt - submittedAt);
+			totalProcessingNanos.add(finishedAt - startedAt);
+			maxLatencyNanos.accumulateAndGet(finishedAt - submittedAt, Math::max);
+		}
+	}
+
+	// 사전으로 확실히 판정되거나 같은 내용의 이전 판정이 있으면 외부 API 를 부르지 않는다
+	// 외부 API 장애나 모호한 응답으로 판정하지 못하면 빈 값, 검사를 끝내지 않고 저장하지도 않는다
+	Optional<Boolean> checkAbuse(String content) {
+		ProfanityVerdict verdict = profanityFilter.check(content);
+		if (verdict == ProfanityVerdict.CLEAN) {
+			prefilterCleanCount.increment();
+			return Optional.of(false);
+		}
+		if (verdict == ProfanityVerdict.ABUSIVE) {
+			prefilterAbusiveCount.increment();
+			return Optional.of(true);
+		}
+
+		Optional<Boolean> cached = moderationVerdictService.findVerdict(content);
+		if (cached.isPresent()) {
+			verdictCacheHitCount.increment();
+			return cached;
+		}
+
+		geminiCallCount.increment();
+		Optional<Boolean> abusive = geminiService.findAbuseVerdict(content);
+		abusive.ifPresent(value -> moderationVerdictService.saveVerdict(content, value));
+		return abusive;
+	}
+
+	private static double toMillis(long nanos) {
+		return nanos / 1_000_000.0;
+	}
+}
@@ -0,0 +1,26 @@
+package com.ijaes.jeogiyo.review.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ijaes.jeogiyo.review.entity.ModerationVerdict;
+
+public interface ModerationVerdictRepository extends JpaRepository<ModerationVerdict, String> {
+
+	//보관 기간이 지난 결과만 새 판정으로 교체, 아직 유효한 결과는 먼저 저장된 것을 둔다
+	@Transactional
+	@Modifying
+	@Query("UPDATE ModerationVerdict v SET v.version = :version, v.abusive = :abusive, v.checkedAt = :checkedAt "
+		+ "WHERE v.contentHash = :contentHash AND v.checkedAt < :expiredBefore")
+	int replaceExpired(String contentHash, String version, boolean abusive, LocalDateTime checkedAt,
+		LocalDateTime expiredBefore);
+
+	//보관 기간이 지났거나 현재 판정 버전이 아닌 결과 삭제
+	@Modifying
+	@Query("DELETE FROM ModerationVerdict v WHERE v.checkedAt < :before OR v.version <> :version")
+	int deleteExpired(LocalDateTime before, String version);
+}
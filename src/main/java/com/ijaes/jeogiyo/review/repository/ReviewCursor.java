@@ -0,0 +1,78 @@
+package com.ijaes.jeogiyo.review.repository;
+
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.UUID;
+
+import com.ijaes.jeogiyo.common.exception.CustomException;
+import com.ijaes.jeogiyo.common.exception.ErrorCode;
+import com.ijaes.jeogiyo.review.dto.response.ReviewResponse;
+import com.ijaes.jeogiyo.review.entity.ReviewSortType;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 리뷰 목록 무한 스크롤용 커서, 마지막으로 내려준 (작성 시각, 리뷰 ID) 바로 다음부터 조회한다
+// 평점순 정렬이면 평점도 함께 담아 (평점, 작성 시각, 리뷰 ID) 로 이어서 조회한다
+// 클라이언트에는 Base64url 문자열로만 노출된다
+@Getter
+@AllArgsConstructor
+public class ReviewCursor {
+
+	private static final int ENCODED_BYTES = Byte.BYTES + Long.BYTES + Integer.BYTES + Long.BYTES * 2;
+
+	// 최신순 커서는 null
+	private final Integer rate;
+
+	private final LocalDateTime createdAt;
+
+	private final UUID reviewId;
+
+	public static ReviewCursor after(ReviewResponse last, ReviewSortType sortType) {
+		return new ReviewCursor(sortType.isByRate() ? last.getRate() : null, last.getCreatedAt(),
+			last.getReviewId());
+	}
+
+	public String encode() {
+		ByteBuffer buffer = ByteBuffer.allocate(ENCODED_BYTES)
+			.put((byte)(rate == null ? 0 : rate))
+			.putLong(createdAt.toEpochSecond(ZoneOffset.UTC))
+			.putInt(createdAt.getNano())
+			.putLong(reviewId.getMostSignificantBits())
+			.putLong(reviewId.getLeastSignificantBits());
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+	}
+
+	// 다른 정렬에서 받은 커서는 이어서 조회할 위치가 맞지 않으므로 거부
+	public static ReviewCursor decode(String cursor, ReviewSortType sortType) {
+		byte[] bytes;
+		try {
+			bytes = Base64.getUrlDecoder().decode(cursor);
+		} catch (IllegalArgumentException e) {
+			throw new CustomException(ErrorCode.INVALID_CURSOR);
+		}
+
+		if (bytes.length != ENCODED_BYTES) {
+			throw new CustomException(ErrorCode.INVALID_CURSOR);
+		}
+
+		ByteBuffer buffer = ByteBuffer.wrap(bytes);
+		int rate = buffer.get();
+		long epochSecond = buffer.getLong();
+		int nano = buffer.getInt();
+		if ((rate == 0) == sortType.isByRate() || rate < 0 || rate > 5 || nano < 0 || nano > 999_999_999) {
+			throw new CustomException(ErrorCode.INVALID_CURSOR);
+		}
+
+		LocalDateTime createdAt;
+		try {
+			createdAt = LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+		} catch (DateTimeException e) {
+			throw new CustomException(ErrorCode.INVALID_CURSOR);
+		}
+		return new ReviewCursor(rate == 0 ? null : rate, createdAt, new UUID(buffer.getLong(), buffer.getLong()));
+	}
+}
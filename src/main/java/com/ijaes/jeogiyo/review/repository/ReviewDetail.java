@@ -0,0 +1,26 @@
+package com.ijaes.jeogiyo.review.repository;
+
+import com.ijaes.jeogiyo.review.entity.Review;
+import com.ijaes.jeogiyo.user.entity.Role;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 리뷰 단건 조회 결과, 리뷰와 작성자/가게 정보를 한 번의 조회로 가져온다
+// 탈퇴한 사용자나 없어진 가게면 해당 값은 null
+@Getter
+@AllArgsConstructor
+public class ReviewDetail {
+
+	private final Review review;
+
+	private final String reviewerName;
+
+	private final Role reviewerRole;
+
+	private final String storeName;
+
+	public boolean isReviewerBlocked() {
+		return reviewerRole == Role.BLOCK;
+	}
+}
@@ -1,10 +1,15 @@
 package com.ijaes.jeogiyo.review.repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
+import com.ijaes.jeogiyo.review.entity.ModerationStatus;
 import com.ijaes.jeogiyo.review.entity.Review;
 
 public interface ReviewRepository extends JpaRepository<Review, UUID> {
@@ -18,4 +23,20 @@ public interface ReviewRepository extends JpaRepository<Review, UUID> {
 
 	//3. 사용자 아이디와 리뷰 아이디로 조회(단건)
 	Optional<Review> findByReviewIdAndUserId(UUID reviewId, UUID userId);
+
+	//4. 일정 시각 이전부터 검사 대기 중인 삭제되지 않은 리뷰 (오래된 순)
+	List<Review> findTop100ByModerationStatusAndDeletedAtIsNullAndUpdatedAtBeforeOrderByUpdatedAtAsc(
+		ModerationStatus moderationStatus, LocalDateTime updatedAt);
+
+	//5. 검사 상태별 삭제되지 않은 리뷰 수
+	long countByModerationStatusAndDeletedAtIsNull(ModerationStatus moderationStatus);
+
+	//6. 검사 결과 반영, 검사한 내용과 평점 그대로 검사 대기 중일 때만 검사 상태와 숨김 여부를 바꾼다
+	//그 사이 수정/삭제되었으면 0건 (행 전체를 다시 쓰지 않으므로 수정 내용을 덮어쓰지 않는다)
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE Review r SET r.moderationStatus = :status, r.isHidden = :hidden, r.updatedAt = :updatedAt "
+		+ "WHERE r.reviewId = :reviewId AND r.moderationStatus = :pending AND r.deletedAt IS NULL "
+		+ "AND r.content = :content AND r.rate = :rate")
+	int completeModeration(UUID reviewId, ModerationStatus pending, String content, Integer rate,
+		ModerationStatus status, boolean hidden, LocalDateTime updatedAt);
 }
@@ -1,10 +1,14 @@
 package com.ijaes.jeogiyo.review.repository;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.domain.Page;
 
 import com.ijaes.jeogiyo.review.dto.response.ReviewResponse;
+import com.ijaes.jeogiyo.review.entity.ReviewSortType;
+import com.ijaes.jeogiyo.store.repository.RatingAggregate;
 
 public interface ReviewRepositoryCustom {
 	//복잡한 조회, 복잡한 검색 및 페이지네이션이 필요한 경우
@@ -18,6 +22,20 @@ public interface ReviewRepositoryCustom {
 	//3. 가게 아이디 기준으로 리뷰 전체 조회
 	Page<ReviewResponse> findReviewsByStoreID(UUID storeId, int page, int size, String sortType);
 
-	//4. 가게별 리뷰 평점 계산
-	Double calculateAverageRateByStoreId(UUID storeId);
+	//4. 가게별 리뷰 별점 분포
+	List<RatingAggregate> countRatesGroupByStore();
+
+	//5. 특정 사용자 리뷰의 가게별 별점 분포
+	List<RatingAggregate> countRatesGroupByStoreForUser(UUID userId);
+
+	//6. 가게 아이디 기준으로 커서 다음 리뷰 조회
+	List<ReviewResponse> findReviewsByStoreIdAfter(UUID storeId, ReviewCursor cursor, int limit,
+		ReviewSortType sortType);
+
+	//7. 사용자 아이디 기준으로 커서 다음 리뷰 조회
+	List<ReviewResponse> findReviewsByUserIdAfter(UUID userId, ReviewCursor cursor, int limit, String filterType,
+		ReviewSortType sortType);
+
+	//8. 리뷰 단건과 작성자/가게 정보 조회
+	Optional<ReviewDetail> findReviewDetail(UUID reviewId);
 }
@@ -3,7 +3,10 @@ package com.ijaes.jeogiyo.review.repository;
 import static com.ijaes.jeogiyo.store.entity.QStore.*;
 import static com.ijaes.jeogiyo.user.entity.QUser.*;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.domain.Page;
@@ -12,8 +15,13 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
 import com.ijaes.jeogiyo.review.dto.response.ReviewResponse;
+import com.ijaes.jeogiyo.review.entity.ModerationStatus;
 import com.ijaes.jeogiyo.review.entity.QReview;
+import com.ijaes.jeogiyo.review.entity.ReviewSortType;
+import com.ijaes.jeogiyo.store.repository.RatingAggregate;
 import com.ijaes.jeogiyo.user.entity.Role;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
@@ -170,6 +178,7 @@ public class ReviewRepositoryCustomImpl implements ReviewRepositoryCustom {
 			.where(
 				review.storeId.eq(storeId),
 				review.isHidden.eq(false), //숨김처리된 리뷰 제외
+				review.moderationStatus.ne(ModerationStatus.PENDING), //검사 대기 리뷰 제외
 				review.deletedAt.isNull(), //삭제된 리뷰 제외
 				user.role.ne(Role.BLOCK) //차단된 사용자 리뷰 제외
 			);
@@ -190,6 +199,7 @@ public class ReviewRepositoryCustomImpl implements ReviewRepositoryCustom {
 			.where(
 				review.storeId.eq(storeId),
 				review.isHidden.eq(false),
+				review.moderationStatus.ne(ModerationStatus.PENDING),
 				review.deletedAt.isNull(),
 				user.role.ne(Role.BLOCK)
 			)
@@ -199,22 +209,167 @@ public class ReviewRepositoryCustomImpl implements ReviewRepositoryCustom {
 		return new PageImpl<>(content, PageRequest.of(page, size), totalCount);
 	}
 
-	//4. 가게별 전체 평점의 평균 구하기
+	//4. 가게별 별점 분포 (야간 집계 보정용 전체 재계산)
 	@Override
-	public Double calculateAverageRateByStoreId(UUID storeId) {
+	public List<RatingAggregate> countRatesGroupByStore() {
 		QReview review = QReview.review;
 
-		return queryFactory
-			.select(review.rate.avg())
+		List<Tuple> rows = queryFactory
+			.select(review.storeId, review.rate, review.count())
 			.from(review)
 			.innerJoin(user).on(review.userId.eq(user.id))
 			.where(
-				review.storeId.eq(storeId),
 				review.deletedAt.isNull(),
 				review.isHidden.eq(false),
+				review.moderationStatus.ne(ModerationStatus.PENDING),
 				user.role.ne(Role.BLOCK)
 			)
-			.fetchOne();
+			.groupBy(review.storeId, review.rate)
+			.fetch();
+
+		return toRatingAggregates(rows, review);
+	}
+
+	//5. 특정 사용자가 작성한 리뷰의 가게별 별점 분포 (사용자 차단/해제 시 집계 변화량)
+	@Override
+	public List<RatingAggregate> countRatesGroupByStoreForUser(UUID userId) {
+		QReview review = QReview.review;
+
+		List<Tuple> rows = queryFactory
+			.select(review.storeId, review.rate, review.count())
+			.from(review)
+			.where(
+				review.userId.eq(userId),
+				review.deletedAt.isNull(),
+				review.isHidden.eq(false),
+				review.moderationStatus.ne(ModerationStatus.PENDING)
+			)
+			.groupBy(review.storeId, review.rate)
+			.fetch();
+
+		return toRatingAggregates(rows, review);
+	}
+
+	//6. 가게 아이디 기준으로 커서 다음 리뷰 조회 (OFFSET, 전체 개수 조회 없이 인덱스에서 바로 이어서 읽음)
+	@Override
+	public List<ReviewResponse> findReviewsByStoreIdAfter(UUID storeId, ReviewCursor cursor, int limit,
+		ReviewSortType sortType) {
+		QReview review = QReview.review;
+
+		return selectReviewResponses(review)
+			.where(
+				review.storeId.eq(storeId),
+				review.isHidden.eq(false), //숨김처리된 리뷰 제외
+				review.moderationStatus.ne(ModerationStatus.PENDING), //검사 대기 리뷰 제외
+				review.deletedAt.isNull(), //삭제된 리뷰 제외
+				user.role.ne(Role.BLOCK), //차단된 사용자 리뷰 제외
+				afterCursor(cursor, sortType, review)
+			)
+			.orderBy(keysetOrder(sortType, review))
+			.limit(limit)
+			.fetch();
+	}
+
+	//7. 사용자 아이디 기준으로 커서 다음 리뷰 조회
+	@Override
+	public List<ReviewResponse> findReviewsByUserIdAfter(UUID userId, ReviewCursor cursor, int limit,
+		String filterType, ReviewSortType sortType) {
+		QReview review = QReview.review;
+
+		return selectReviewResponses(review)
+			.where(
+				review.userId.eq(userId),
+				createFilterCondition(filterType, review),
+				afterCursor(cursor, sortType, review)
+			)
+			.orderBy(keysetOrder(sortType, review))
+			.limit(limit)
+			.fetch();
+	}
+
+	//8. 리뷰 단건과 작성자 이름/권한, 가게 이름을 한 번에 조회
+	//탈퇴한 사용자, 없어진 가게의 리뷰도 조회되도록 외부 조인
+	@Override
+	public Optional<ReviewDetail> findReviewDetail(UUID reviewId) {
+		QReview review = QReview.review;
+
+		return Optional.ofNullable(queryFactory
+			.select(Projections.constructor(ReviewDetail.class,
+				review,
+				user.username,
+				user.role,
+				store.name
+			))
+			.from(review)
+			.leftJoin(user).on(review.userId.eq(user.id))
+			.leftJoin(store).on(review.storeId.eq(store.id))
+			.where(review.reviewId.eq(reviewId))
+			.fetchOne());
+	}
+
+	private JPAQuery<ReviewResponse> selectReviewResponses(QReview review) {
+		return queryFactory
+			.select(Projections.constructor(ReviewResponse.class,
+				review.reviewId,
+				review.orderId,
+				review.storeId,
+				review.title,
+				review.content,
+				review.rate,
+				user.username,
+				store.name,
+				review.isHidden,
+				review.deletedAt.isNotNull(),
+				review.createdAt,
+				review.updatedAt,
+				review.deletedAt
+			))
+			.from(review)
+			.innerJoin(user).on(review.userId.eq(user.id))
+			.innerJoin(store).on(review.storeId.eq(store.id));
+	}
+
+	//커서 정렬 - 기존 정렬에 리뷰 ID 를 더해 순서를 하나로 고정
+	private OrderSpecifier<?>[] keysetOrder(ReviewSortType sortType, QReview review) {
+		return switch (sortType) {
+			case HIGH_RATE -> new OrderSpecifier<?>[] {review.rate.desc(), review.createdAt.desc(),
+				review.reviewId.desc()};
+			case LOW_RATE -> new OrderSpecifier<?>[] {review.rate.asc(), review.createdAt.desc(),
+				review.reviewId.desc()};
+			case LATEST -> new OrderSpecifier<?>[] {review.createdAt.desc(), review.reviewId.desc()};
+		};
+	}
+
+	//커서 조건 - 정렬 순서에서 커서보다 뒤에 있는 리뷰, 첫 페이지는 조건 없음
+	private BooleanExpression afterCursor(ReviewCursor cursor, ReviewSortType sortType, QReview review) {
+		if (cursor == null) {
+			return null;
+		}
+
+		BooleanExpression afterCreatedAt = review.createdAt.lt(cursor.getCreatedAt())
+			.or(review.createdAt.eq(cursor.getCreatedAt()).and(review.reviewId.lt(cursor.getReviewId())));
+
+		return switch (sortType) {
+			case HIGH_RATE -> review.rate.lt(cursor.getRate())
+				.or(review.rate.eq(cursor.getRate()).and(afterCreatedAt));
+			case LOW_RATE -> review.rate.gt(cursor.getRate())
+				.or(review.rate.eq(cursor.getRate()).and(afterCreatedAt));
+			case LATEST -> afterCreatedAt;
+		};
+	}
+
+	//(가게, 별점)별 개수를 가게별 별점 분포로 모으기
+	private List<RatingAggregate> toRatingAggregates(List<Tuple> rows, QReview review) {
+		Map<UUID, long[]> starCountsByStore = new LinkedHashMap<>();
+		for (Tuple row : rows) {
+			long[] starCounts = starCountsByStore.computeIfAbsent(row.get(review.storeId),
+				id -> new long[RatingAggregate.STAR_LEVELS]);
+			starCounts[row.get(review.rate) - 1] += row.get(review.count());
+		}
+
+		return starCountsByStore.entrySet().stream()
+			.map(entry -> RatingAggregate.fromStarCounts(entry.getKey(), entry.getValue()))
+			.toList();
 	}
 
 	//필터 - 숨김, 삭제된 리뷰
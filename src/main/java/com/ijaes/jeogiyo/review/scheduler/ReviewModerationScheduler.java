@@ -0,0 +1,54 @@
+package com.ijaes.jeogiyo.review.scheduler;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.ijaes.jeogiyo.review.moderation.ModerationVerdictService;
+import com.ijaes.jeogiyo.review.moderation.ReviewModerationService;
+import com.ijaes.jeogiyo.review.moderation.ReviewModerationWorker;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReviewModerationScheduler {
+
+	private final ReviewModerationService reviewModerationService;
+	private final ReviewModerationWorker reviewModerationWorker;
+	private final ModerationVerdictService moderationVerdictService;
+
+	@Value("${review.moderation.stalled-after-seconds:60}")
+	private long stalledAfterSeconds;
+
+	// 큐가 가득 찼거나 검사 중 오류/재시작으로 PENDING 에 남은 리뷰를 다시 큐에 넣는다
+	@Scheduled(fixedDelayString = "${review.moderation.retry-interval-ms:60000}",
+		initialDelayString = "${review.moderation.retry-interval-ms:60000}")
+	public void resubmitStalledReviews() {
+		int resubmitted = 0;
+		for (UUID reviewId : reviewModerationService.findStalledReviewIds(Duration.ofSeconds(stalledAfterSeconds))) {
+			if (!reviewModerationWorker.isInFlight(reviewId) && reviewModerationWorker.submit(reviewId)) {
+				resubmitted++;
+			}
+		}
+
+		if (resubmitted > 0) {
+			log.info("Stalled review moderations resubmitted: {}", resubmitted);
+		}
+	}
+
+	// 보관 기간이 지났거나 판정 버전이 바뀐 리뷰 검사 결과 정리
+	@Scheduled(fixedDelayString = "${review.moderation.verdict-cache.purge-interval-ms:3600000}",
+		initialDelayString = "${review.moderation.verdict-cache.purge-interval-ms:3600000}")
+	public void purgeExpiredVerdicts() {
+		int purged = moderationVerdictService.purgeExpired();
+		if (purged > 0) {
+			log.info("Expired moderation verdicts purged: {}", purged);
+		}
+	}
+}
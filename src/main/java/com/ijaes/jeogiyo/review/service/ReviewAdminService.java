@@ -2,19 +2,23 @@ package com.ijaes.jeogiyo.review.service;
 
 import java.util.UUID;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.ijaes.jeogiyo.common.exception.CustomException;
 import com.ijaes.jeogiyo.common.exception.ErrorCode;
+import com.ijaes.jeogiyo.review.dto.response.ModerationStatsResponse;
 import com.ijaes.jeogiyo.review.dto.response.ReviewResponse;
 import com.ijaes.jeogiyo.review.entity.Review;
+import com.ijaes.jeogiyo.review.event.ReviewEvent;
+import com.ijaes.jeogiyo.review.moderation.ReviewModerationService;
+import com.ijaes.jeogiyo.review.moderation.ReviewModerationWorker;
+import com.ijaes.jeogiyo.review.repository.ReviewDetail;
 import com.ijaes.jeogiyo.review.repository.ReviewRepository;
 import com.ijaes.jeogiyo.review.repository.ReviewRepositoryCustomImpl;
-import com.ijaes.jeogiyo.store.entity.Store;
-import com.ijaes.jeogiyo.store.repository.StoreRepository;
-import com.ijaes.jeogiyo.user.entity.User;
+import com.ijaes.jeogiyo.user.entity.Role;
 import com.ijaes.jeogiyo.user.repository.UserRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -25,8 +29,10 @@ public class ReviewAdminService {
 
 	private final ReviewRepository reviewRepository;
 	private final UserRepository userRepository;
-	private final StoreRepository storeRepository;
 	private final ReviewRepositoryCustomImpl reviewRepositoryCustomImpl;
+	private final ApplicationEventPublisher eventPublisher;
+	private final ReviewModerationService reviewModerationService;
+	private final ReviewModerationWorker reviewModerationWorker;
 
 	//1. 전체 리뷰 조회(삭제된 리뷰, 숨겨진 리뷰 등 전체 포함)
 	@Transactional(readOnly = true)
@@ -41,21 +47,15 @@ public class ReviewAdminService {
 	@Transactional(readOnly = true)
 	public ReviewResponse getReviewForAdmin(UUID reviewId) {
 
-		//리뷰 존재 여부 확인
-		Review review = reviewRepository.findById(reviewId)
+		//리뷰와 작성자, 가게 이름을 한 번에 조회
+		ReviewDetail detail = reviewRepositoryCustomImpl.findReviewDetail(reviewId)
 			.orElseThrow(() -> new CustomException(ErrorCode.REVIEW_NOT_FOUND));
 
-		//작성자 이름 조회
-		String reviewerName = userRepository.findById(review.getUserId())
-			.map(User::getUsername)
-			.orElse("데이터 없음");
-
-		//가게 이름 조회
-		String storeName = storeRepository.findById(review.getStoreId())
-			.map(Store::getName)
-			.orElse("데이터 없음");
+		//관리자는 숨김/차단 여부와 관계없이 원래 내용을 본다
+		String reviewerName = detail.getReviewerName() == null ? "데이터 없음" : detail.getReviewerName();
+		String storeName = detail.getStoreName() == null ? "데이터 없음" : detail.getStoreName();
 
-		return ReviewResponse.of(review, reviewerName, storeName);
+		return ReviewResponse.of(detail.getReview(), reviewerName, storeName);
 	}
 
 	//3. 관리자 권한 리뷰 삭제(소프트 delete)
@@ -64,7 +64,10 @@ public class ReviewAdminService {
 		Review review = reviewRepository.findById(reviewId)
 			.orElseThrow(() -> new CustomException(ErrorCode.REVIEW_NOT_FOUND));
 
+		Integer ratedBefore = review.ratedValue(isAuthorExcluded(review));
 		review.softDelete();
+
+		publishRatingChange(review.getStoreId(), ratedBefore, null);
 	}
 
 	//4. 리뷰 숨김 처리
@@ -73,10 +76,35 @@ public class ReviewAdminService {
 		Review review = reviewRepository.findById(reviewId)
 			.orElseThrow(() -> new CustomException(ErrorCode.REVIEW_NOT_FOUND));
 
+		boolean authorExcluded = isAuthorExcluded(review);
+		Integer ratedBefore = review.ratedValue(authorExcluded);
+
 		if (hide) {
 			review.hide();
 		} else {
 			review.show();
 		}
+
+		publishRatingChange(review.getStoreId(), ratedBefore, review.ratedValue(authorExcluded));
+	}
+
+	//5. 비속어 검사 처리 현황 (대기 리뷰 수, 큐 깊이, 처리 시간)
+	public ModerationStatsResponse getModerationStats() {
+		return reviewModerationWorker.stats(reviewModerationService.countPending());
+	}
+
+	//차단되었거나 탈퇴한 작성자의 리뷰는 평점 집계에서 제외
+	private boolean isAuthorExcluded(Review review) {
+		return userRepository.findById(review.getUserId())
+			.map(user -> user.getRole() == Role.BLOCK)
+			.orElse(true);
+	}
+
+	//평점 집계가 바뀐 경우에만 이벤트 발행
+	private void publishRatingChange(UUID storeId, Integer ratedBefore, Integer ratedAfter) {
+		ReviewEvent event = ReviewEvent.between(storeId, ratedBefore, ratedAfter);
+		if (event.hasChanges()) {
+			eventPublisher.publishEvent(event);
+		}
 	}
 }
\ No newline at end of file
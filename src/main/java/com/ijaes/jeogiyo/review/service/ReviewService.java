@@ -1,5 +1,6 @@
 package com.ijaes.jeogiyo.review.service;
 
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.context.ApplicationEventPublisher;
@@ -8,22 +9,26 @@ import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.ijaes.jeogiyo.common.dto.SliceResponse;
 import com.ijaes.jeogiyo.common.exception.CustomException;
 import com.ijaes.jeogiyo.common.exception.ErrorCode;
-import com.ijaes.jeogiyo.gemini.service.GeminiService;
 import com.ijaes.jeogiyo.review.dto.request.CreateReviewRequest;
 import com.ijaes.jeogiyo.review.dto.request.UpdateReviewRequest;
 import com.ijaes.jeogiyo.review.dto.response.CreateReviewResponse;
 import com.ijaes.jeogiyo.review.dto.response.ReviewResponse;
+import com.ijaes.jeogiyo.review.entity.ModerationStatus;
 import com.ijaes.jeogiyo.review.entity.Review;
+import com.ijaes.jeogiyo.review.entity.ReviewSortType;
 import com.ijaes.jeogiyo.review.event.ReviewEvent;
+import com.ijaes.jeogiyo.review.event.ReviewModerationEvent;
+import com.ijaes.jeogiyo.review.repository.ReviewCursor;
+import com.ijaes.jeogiyo.review.repository.ReviewDetail;
 import com.ijaes.jeogiyo.review.repository.ReviewRepository;
 import com.ijaes.jeogiyo.review.repository.ReviewRepositoryCustomImpl;
 import com.ijaes.jeogiyo.store.entity.Store;
 import com.ijaes.jeogiyo.store.repository.StoreRepository;
 import com.ijaes.jeogiyo.user.entity.Role;
 import com.ijaes.jeogiyo.user.entity.User;
-import com.ijaes.jeogiyo.user.repository.UserRepository;
 
 import lombok.RequiredArgsConstructor;
 
@@ -32,11 +37,9 @@ import lombok.RequiredArgsConstructor;
 public class ReviewService {
 
 	private final ReviewRepository reviewRepository;
-	private final UserRepository userRepository;
 	private final StoreRepository storeRepository;
 	private final ReviewRepositoryCustomImpl reviewRepositoryCustomImpl;
 	private final ApplicationEventPublisher eventPublisher;
-	private final GeminiService geminiService;
 
 	//1. 리뷰 생성
 	@Transactional
@@ -53,11 +56,7 @@ public class ReviewService {
 			throw new CustomException(ErrorCode.REVIEW_ALREADY_EXISTS);
 		}
 
-		//비속어 포함 여부 판단
-		boolean isAbusive = geminiService.checkAbuseInReview(request.getContent());
-		System.out.println("isAbusive: " + isAbusive);
-
-		// 리뷰 객체 생성
+		// 리뷰 객체 생성 (비속어 검사가 끝날 때까지 공개 목록과 평점 집계에서 제외)
 		Review newReview = Review.builder()
 			.orderId(request.getOrderId())
 			.userId(currentUserId)
@@ -65,20 +64,14 @@ public class ReviewService {
 			.title(request.getTitle())
 			.content(request.getContent())
 			.rate(request.getRate())
-			.isHidden(isAbusive)
+			.moderationStatus(ModerationStatus.PENDING)
 			.build();
 
 		// db 저장
 		Review savedReview = reviewRepository.save(newReview);
 
-		//가게 평균 평점 재계산
-		Double averageRate = reviewRepositoryCustomImpl.calculateAverageRateByStoreId(request.getStoreId());
-
-		//이벤트 발행
-		eventPublisher.publishEvent(new ReviewEvent(
-			savedReview.getStoreId(),
-			averageRate
-		));
+		//커밋 후 비속어 검사 요청, 검사가 끝나면 공개 여부가 정해지고 평점 집계 이벤트가 발행된다
+		eventPublisher.publishEvent(new ReviewModerationEvent(savedReview.getReviewId()));
 
 		return CreateReviewResponse.builder()
 			.reviewId(savedReview.getReviewId())
@@ -91,31 +84,46 @@ public class ReviewService {
 	//2. 리뷰 단건 조회
 	@Transactional(readOnly = true)
 	public ReviewResponse getReview(UUID reviewId) {
-		//리뷰 조회
-		Review review = reviewRepository.findById(reviewId)
+		//리뷰와 작성자, 가게 이름을 한 번에 조회
+		ReviewDetail detail = reviewRepositoryCustomImpl.findReviewDetail(reviewId)
 			.orElseThrow(() -> new CustomException(ErrorCode.RESOURCE_NOT_FOUND));
+		Review review = detail.getReview();
 
 		//삭제된 리뷰인지 확인
 		if (review.isDeleted()) {
 			throw new CustomException(ErrorCode.REVIEW_ALREADY_DELETED);
 		}
 
-		//리뷰 작성자 이름 조회(리뷰에 저장된 userid 사용해서 유저 엔티티 가져오기)
-		User reviewer = userRepository.findById(review.getUserId()).orElse(null);
+		//가게가 없으면 폐점된 가게
+		String storeName = detail.getStoreName() == null ? "폐점된 가게" : detail.getStoreName();
 
-		//리뷰 작성된 가게 이름 조회(리뷰에 저장된 storeid 사용해서 가게의 name 가져오기)
-		String storeName = storeRepository.findById(review.getStoreId())
-			.map(Store::getName)
-			.orElse("폐점된 가게");
+		//비속어 검사 대기 중인 리뷰는 내용 비공개
+		if (review.isModerationPending()) {
+			return ReviewResponse.builder()
+				.reviewId(review.getReviewId())
+				.orderId(review.getOrderId())
+				.storeId(review.getStoreId())
+				.reviewerName(detail.getReviewerName() == null ? "탈퇴한 사용자" : detail.getReviewerName())
+				.storeName(storeName)
+				.title("검토 중인 리뷰입니다.")
+				.content("이 리뷰는 내용 검토가 끝난 뒤 공개됩니다.")
+				.rate(0)
+				.isHidden(review.isHidden())
+				.isDeleted(review.isDeleted())
+				.createdAt(review.getCreatedAt())
+				.updatedAt(review.getUpdatedAt())
+				.deletedAt(review.getDeletedAt())
+				.build();
+		}
 
 		//리뷰 숨김 여부 판단
 		boolean isHiddenByAdmin = review.isHidden();
-		boolean isHiddenByBlock = reviewer != null && reviewer.getRole().equals(Role.BLOCK);
+		boolean isHiddenByBlock = detail.isReviewerBlocked();
 
 		//관리자에 의해 숨겨진 리뷰일 경우
 		if (isHiddenByAdmin || isHiddenByBlock) {
 
-			String hiddenReviewerName = (reviewer != null && reviewer.getRole().equals(Role.BLOCK))
+			String hiddenReviewerName = isHiddenByBlock
 				? "차단된 사용자"
 				: "숨김 처리된 사용자";
 
@@ -137,7 +145,7 @@ public class ReviewService {
 		}
 
 		//리뷰어가 없을 때는 탈퇴한 사용자
-		String reviewerName = (reviewer == null) ? "탈퇴한 사용자" : reviewer.getUsername();
+		String reviewerName = (detail.getReviewerName() == null) ? "탈퇴한 사용자" : detail.getReviewerName();
 
 		return ReviewResponse.of(review, reviewerName, storeName);
 	}
@@ -159,6 +167,30 @@ public class ReviewService {
 		return reviewPage;
 	}
 
+	//3-1. 사용자별 리뷰 목록 커서 조회
+	@Transactional(readOnly = true)
+	public SliceResponse<ReviewResponse> getUserReviewsByCursor(Authentication authentication, UUID userId,
+		String cursor, int size, String filterType, String sortType) {
+		UUID currentUserId = ((User)authentication.getPrincipal()).getId();
+
+		//자신이 작성한 리뷰 목록만 조회 가능
+		if (!currentUserId.equals(userId)) {
+			throw new CustomException(ErrorCode.ACCESS_DENIED);
+		}
+		if (size <= 0) {
+			throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+		}
+
+		ReviewSortType reviewSortType = ReviewSortType.from(sortType);
+		ReviewCursor after = decodeCursor(cursor, reviewSortType);
+
+		//다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+		List<ReviewResponse> reviews = reviewRepositoryCustomImpl.findReviewsByUserIdAfter(userId, after, size + 1,
+			filterType, reviewSortType);
+
+		return toSlice(reviews, size, reviewSortType);
+	}
+
 	//4. 가게별 리뷰 전체 목록 조회
 	@Transactional(readOnly = true)
 	public Page<ReviewResponse> getStoreReviews(UUID storeId, int page, int size,
@@ -173,6 +205,26 @@ public class ReviewService {
 		return reviewPage;
 	}
 
+	//4-1. 가게별 리뷰 목록 커서 조회
+	@Transactional(readOnly = true)
+	public SliceResponse<ReviewResponse> getStoreReviewsByCursor(UUID storeId, String cursor, int size,
+		String sortType) {
+		storeRepository.findById(storeId)
+			.orElseThrow(() -> new CustomException(ErrorCode.STORE_NOT_FOUND));
+		if (size <= 0) {
+			throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+		}
+
+		ReviewSortType reviewSortType = ReviewSortType.from(sortType);
+		ReviewCursor after = decodeCursor(cursor, reviewSortType);
+
+		//다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+		List<ReviewResponse> reviews = reviewRepositoryCustomImpl.findReviewsByStoreIdAfter(storeId, after,
+			size + 1, reviewSortType);
+
+		return toSlice(reviews, size, reviewSortType);
+	}
+
 	//5. 리뷰 수정
 	@Transactional
 	public ReviewResponse updateReview(Authentication authentication, UUID reviewId,
@@ -188,6 +240,10 @@ public class ReviewService {
 			throw new CustomException(ErrorCode.ACCESS_DENIED);
 		}
 
+		//수정 전 집계에 반영되던 평점
+		boolean authorBlocked = isBlocked((User)authentication.getPrincipal());
+		Integer ratedBefore = review.ratedValue(authorBlocked);
+
 		//데이터 업데이트
 		if (request.getTitle() != null) {
 			review.updateTitle(request.getTitle());
@@ -196,30 +252,19 @@ public class ReviewService {
 			review.updateRate(request.getRate());
 		}
 
-		//리뷰 내용 수정 시 비속어 재탐지
+		//리뷰 내용 수정 시 비속어 재검사, 검사가 끝날 때까지 공개 목록과 평점 집계에서 제외
+		boolean moderationRequested = false;
 		if (request.getContent() != null && !request.getContent().equals(review.getContent())) {
-
-			//비속어 탐지
-			boolean isAbusive = geminiService.checkAbuseInReview(request.getContent());
-
-			//비속어 있으면 숨김 처리
-			if (isAbusive) {
-				review.hide();
-			} else
-				review.show();
-
-			//내용 업데이트
 			review.updateContent(request.getContent());
+			review.requestModeration();
+			moderationRequested = true;
 		}
 
-		//가게 평균 평점 재계산
-		Double averageRate = reviewRepositoryCustomImpl.calculateAverageRateByStoreId(review.getStoreId());
-
-		//이벤트 발행
-		eventPublisher.publishEvent(new ReviewEvent(
-			review.getStoreId(),
-			averageRate
-		));
+		//평점 변경, 검사 대기 여부에 따른 집계 변화량 이벤트 발행
+		publishRatingChange(review.getStoreId(), ratedBefore, review.ratedValue(authorBlocked));
+		if (moderationRequested) {
+			eventPublisher.publishEvent(new ReviewModerationEvent(review.getReviewId()));
+		}
 
 		//username을 가져옴
 		String reviewerName = ((User)authentication.getPrincipal()).getUsername();
@@ -247,15 +292,37 @@ public class ReviewService {
 		}
 
 		//삭제
+		Integer ratedBefore = review.ratedValue(isBlocked((User)authentication.getPrincipal()));
 		review.softDelete();
 
-		//가게 평균 평점 재계산
-		Double averageRate = reviewRepositoryCustomImpl.calculateAverageRateByStoreId(review.getStoreId());
+		//집계에서 빠지는 평점만큼 이벤트 발행
+		publishRatingChange(review.getStoreId(), ratedBefore, null);
+	}
+
+	//차단된 작성자의 리뷰는 평점 집계에서 제외
+	private boolean isBlocked(User user) {
+		return user.getRole() == Role.BLOCK;
+	}
+
+	//평점 집계가 바뀐 경우에만 이벤트 발행
+	private void publishRatingChange(UUID storeId, Integer ratedBefore, Integer ratedAfter) {
+		ReviewEvent event = ReviewEvent.between(storeId, ratedBefore, ratedAfter);
+		if (event.hasChanges()) {
+			eventPublisher.publishEvent(event);
+		}
+	}
+
+	//첫 페이지는 커서를 빈 값으로 요청
+	private ReviewCursor decodeCursor(String cursor, ReviewSortType sortType) {
+		return (cursor == null || cursor.isBlank()) ? null : ReviewCursor.decode(cursor, sortType);
+	}
+
+	//한 건 더 조회한 결과를 잘라 다음 커서는 마지막으로 내려주는 리뷰로 만든다
+	private SliceResponse<ReviewResponse> toSlice(List<ReviewResponse> reviews, int size, ReviewSortType sortType) {
+		boolean hasNext = reviews.size() > size;
+		List<ReviewResponse> pageReviews = hasNext ? reviews.subList(0, size) : reviews;
+		String nextCursor = hasNext ? ReviewCursor.after(pageReviews.get(size - 1), sortType).encode() : null;
 
-		//이벤트 발행
-		eventPublisher.publishEvent(new ReviewEvent(
-			review.getStoreId(),
-			averageRate
-		));
+		return new SliceResponse<>(pageReviews, nextCursor, hasNext);
 	}
 }
@@ -0,0 +1,19 @@
+package com.ijaes.jeogiyo.store.cache;
+
+import java.util.List;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 검색 결과 한 페이지의 매장 ID 목록과 전체 개수, 결과를 만들기 직전에 읽은 검색 캐시 세대
+@Getter
+@AllArgsConstructor
+public class SearchResultPage {
+
+	private final long generation;
+
+	private final List<UUID> storeIds;
+
+	private final long total;
+}
@@ -0,0 +1,26 @@
+package com.ijaes.jeogiyo.store.cache;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.ijaes.jeogiyo.common.cache.MonitoredCache;
+import com.ijaes.jeogiyo.store.dto.response.StoreDetailResponse;
+
+// 매장 ID 별 상세 응답 캐시 (매장 수정/삭제, 사장님 정보 변경, 평점 변경 시 무효화)
+@Component
+public class StoreDetailCache extends MonitoredCache<UUID, StoreDetailResponse> {
+
+	public StoreDetailCache(
+		@Value("${store.detail-cache.maximum-size:10000}") long maximumSize,
+		@Value("${store.detail-cache.ttl-seconds:600}") long ttlSeconds
+	) {
+		super("storeDetail", maximumSize, Duration.ofSeconds(ttlSeconds));
+	}
+
+	public void invalidateByOwner(UUID ownerId) {
+		invalidateIf(detail -> detail.getOwner() != null && ownerId.equals(detail.getOwner().getId()));
+	}
+}
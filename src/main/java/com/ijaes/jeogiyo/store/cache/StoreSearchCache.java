@@ -0,0 +1,50 @@
+package com.ijaes.jeogiyo.store.cache;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.ijaes.jeogiyo.common.cache.MonitoredCache;
+
+// 검색어/필터/페이지별 검색 결과(매장 ID 목록) 캐시
+// 매장/메뉴가 바뀌면 세대를 올리고, 조회 시 이전 세대에 만든 결과만 그때 다시 적재한다 (전체를 한 번에 비우지 않음)
+// 평점 변경은 결과 순서만 조금 바꾸므로 세대를 올리지 않고 TTL 로 반영한다
+@Component
+public class StoreSearchCache extends MonitoredCache<StoreSearchKey, SearchResultPage> {
+
+	private final AtomicLong generation = new AtomicLong();
+
+	public StoreSearchCache(
+		@Value("${store.search-cache.maximum-size:10000}") long maximumSize,
+		@Value("${store.search-cache.ttl-seconds:60}") long ttlSeconds
+	) {
+		super("storeSearch", maximumSize, Duration.ofSeconds(ttlSeconds));
+	}
+
+	public SearchResultPage getPage(StoreSearchKey key, Function<StoreSearchKey, SearchResultPage> loader) {
+		long current = generation.get();
+		SearchResultPage page = get(key, loader);
+
+		if (page.getGeneration() < current) {
+			invalidate(key);
+			page = get(key, loader);
+		}
+		return page;
+	}
+
+	// 만료를 기다리지 않고 새로 계산한 결과로 교체 (인기 검색 결과 미리 적재용)
+	public void refresh(StoreSearchKey key, Function<StoreSearchKey, SearchResultPage> loader) {
+		put(key, loader.apply(key));
+	}
+
+	public long currentGeneration() {
+		return generation.get();
+	}
+
+	public void bumpGeneration() {
+		generation.incrementAndGet();
+	}
+}
@@ -0,0 +1,37 @@
+package com.ijaes.jeogiyo.store.cache;
+
+import com.ijaes.jeogiyo.store.entity.Category;
+import com.ijaes.jeogiyo.store.index.SearchMode;
+
+// 검색 결과 캐시 키, 사용자 좌표는 격자 칸 번호로 바꿔 근처 사용자끼리 같은 결과를 공유한다
+public record StoreSearchKey(
+	String query,          // 검색 모드로 정규화한 검색어
+	SearchMode mode,
+	Category category,     // null 이면 전체
+	Integer latitudeCell,  // 좌표가 없으면 null
+	Integer longitudeCell,
+	int page,
+	int size
+) {
+
+	// 약 1km 격자
+	private static final double CELL_DEGREES = 0.01;
+
+	public static StoreSearchKey of(String query, SearchMode mode, Category category, Double latitude,
+		Double longitude, int page, int size) {
+		boolean located = latitude != null && longitude != null;
+		return new StoreSearchKey(mode.normalize(query), mode, category,
+			located ? (int)Math.floor(latitude / CELL_DEGREES) : null,
+			located ? (int)Math.floor(longitude / CELL_DEGREES) : null,
+			page, size);
+	}
+
+	// 순위 계산에 쓰는 격자 중심 좌표 (같은 키는 항상 같은 순위가 되도록 사용자 좌표 대신 사용)
+	public Double latitude() {
+		return latitudeCell == null ? null : (latitudeCell + 0.5) * CELL_DEGREES;
+	}
+
+	public Double longitude() {
+		return longitudeCell == null ? null : (longitudeCell + 0.5) * CELL_DEGREES;
+	}
+}
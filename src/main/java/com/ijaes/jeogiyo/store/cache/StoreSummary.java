@@ -0,0 +1,41 @@
+package com.ijaes.jeogiyo.store.cache;
+
+import com.ijaes.jeogiyo.common.util.GeoUtils;
+import com.ijaes.jeogiyo.store.dto.response.StoreResponse;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 사용자와 무관한 매장 목록 응답(거리 제외)과 매장 좌표, 거리는 조회한 사용자 기준으로 붙인다
+@Getter
+@AllArgsConstructor
+public class StoreSummary {
+
+	private final StoreResponse response;
+
+	private final Double latitude;
+
+	private final Double longitude;
+
+	// 사용자 좌표가 없으면 거리 없음, 매장 좌표가 없으면 가장 먼 매장으로 취급
+	public StoreResponse toResponse(Double userLatitude, Double userLongitude) {
+		Double distance = null;
+		if (userLatitude != null && userLongitude != null) {
+			distance = (latitude != null && longitude != null)
+				? GeoUtils.distanceKm(userLatitude, userLongitude, latitude, longitude)
+				: Double.MAX_VALUE;
+		}
+
+		return StoreResponse.builder()
+			.id(response.getId())
+			.businessNumber(response.getBusinessNumber())
+			.name(response.getName())
+			.address(response.getAddress())
+			.description(response.getDescription())
+			.category(response.getCategory())
+			.rate(response.getRate())
+			.ownerId(response.getOwnerId())
+			.distance(distance)
+			.build();
+	}
+}
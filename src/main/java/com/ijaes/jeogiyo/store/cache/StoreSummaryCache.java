@@ -0,0 +1,33 @@
+package com.ijaes.jeogiyo.store.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.ijaes.jeogiyo.common.cache.MonitoredCache;
+
+// 매장 ID 별 목록 응답 캐시, 검색 결과 ID 목록을 응답으로 바꿀 때 사용 (매장 수정/삭제, 평점 변경 시 무효화)
+@Component
+public class StoreSummaryCache extends MonitoredCache<UUID, StoreSummary> {
+
+	public StoreSummaryCache(
+		@Value("${store.summary-cache.maximum-size:50000}") long maximumSize,
+		@Value("${store.summary-cache.ttl-seconds:600}") long ttlSeconds
+	) {
+		super("storeSummary", maximumSize, Duration.ofSeconds(ttlSeconds));
+	}
+
+	// 캐시에 없는 매장만 한 번에 조회, 삭제되어 조회되지 않은 매장은 결과에서 빠진다
+	public Map<UUID, StoreSummary> getSummaries(Collection<UUID> storeIds,
+		Function<Collection<UUID>, List<StoreSummary>> loader) {
+		return getAll(storeIds, missing -> loader.apply(List.copyOf(missing)).stream()
+			.collect(Collectors.toMap(summary -> summary.getResponse().getId(), Function.identity())));
+	}
+}
@@ -0,0 +1,41 @@
+package com.ijaes.jeogiyo.store.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// FULLTEXT 검색 사용 시 매장명/메뉴명 ngram FULLTEXT 인덱스가 없으면 생성 (JPA @Index 로는 만들 수 없음)
+// 요청을 받기 전(ApplicationReadyEvent 이전)에 끝나도록 ApplicationStartedEvent 에서 수행
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "store.search.backend", havingValue = "fulltext")
+public class StoreFulltextIndexInitializer {
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@EventListener(ApplicationStartedEvent.class)
+	public void createFulltextIndexes() {
+		createIfAbsent("j_store", "ft_store_name", "name");
+		createIfAbsent("j_menu", "ft_menu_name", "name");
+	}
+
+	private void createIfAbsent(String table, String indexName, String column) {
+		Integer count = jdbcTemplate.queryForObject(
+			"SELECT COUNT(*) FROM information_schema.statistics "
+				+ "WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?",
+			Integer.class, table, indexName);
+		if (count != null && count > 0) {
+			return;
+		}
+
+		jdbcTemplate.execute(
+			"ALTER TABLE " + table + " ADD FULLTEXT INDEX " + indexName + " (" + column + ") WITH PARSER ngram");
+		log.info("FULLTEXT index created: {}.{}", table, indexName);
+	}
+}
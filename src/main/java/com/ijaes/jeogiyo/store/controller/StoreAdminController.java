@@ -1,5 +1,6 @@
 package com.ijaes.jeogiyo.store.controller;
 
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.domain.Page;
@@ -15,6 +16,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.ijaes.jeogiyo.store.dto.request.UpdateStoreRequest;
+import com.ijaes.jeogiyo.store.dto.response.SearchTrendResponse;
 import com.ijaes.jeogiyo.store.dto.response.StoreResponse;
 import com.ijaes.jeogiyo.store.service.StoreAdminService;
 
@@ -45,6 +47,16 @@ public class StoreAdminController {
 		return ResponseEntity.ok(response);
 	}
 
+	@GetMapping("/search-trends")
+	@Operation(summary = "인기 검색어 조회", description = "MANAGER 역할의 관리자가 최근 일정 시간 동안 많이 검색된 검색어를 조회합니다 (구간 단위로 집계한 추정치)", security = @SecurityRequirement(name = "bearer-jwt"))
+	public ResponseEntity<List<SearchTrendResponse>> getSearchTrends(
+		@Parameter(description = "조회 기간 (분)") @RequestParam(defaultValue = "60") int minutes,
+		@Parameter(description = "검색어 개수") @RequestParam(defaultValue = "20") int size
+	) {
+		List<SearchTrendResponse> response = storeAdminService.getSearchTrends(minutes, size);
+		return ResponseEntity.ok(response);
+	}
+
 	@PatchMapping("/{storeId}")
 	@Operation(summary = "특정 매장 정보 수정", description = "MANAGER 역할의 관리자가 특정 매장 정보를 수정합니다", security = @SecurityRequirement(name = "bearer-jwt"))
 	public ResponseEntity<StoreResponse> updateStore(
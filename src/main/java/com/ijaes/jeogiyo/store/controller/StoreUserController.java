@@ -1,5 +1,6 @@
 package com.ijaes.jeogiyo.store.controller;
 
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.domain.Page;
@@ -11,6 +12,9 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.ijaes.jeogiyo.common.dto.SliceResponse;
+import com.ijaes.jeogiyo.store.dto.response.AutocompleteResponse;
+import com.ijaes.jeogiyo.store.dto.response.RatingHistogramResponse;
 import com.ijaes.jeogiyo.store.dto.response.StoreDetailResponse;
 import com.ijaes.jeogiyo.store.dto.response.StoreResponse;
 import com.ijaes.jeogiyo.store.service.StoreUserService;
@@ -35,9 +39,25 @@ public class StoreUserController {
 		@Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
 		@Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size,
 		@Parameter(description = "정렬 기준 (distance: 거리순, rate: 평점순)") @RequestParam(defaultValue = "distance") String sortBy,
+		@Parameter(description = "카테고리 (KOREAN, JAPANESE, CHINESE, ITALIAN, 미입력 시 전체)") @RequestParam(required = false) String category,
+		@Parameter(description = "검색 반경 (km, 미입력 시 전체 매장)") @RequestParam(required = false) Double radiusKm,
 		Authentication authentication
 	) {
-		Page<StoreResponse> stores = storeUserService.getAllStores(page, size, sortBy, authentication);
+		Page<StoreResponse> stores = storeUserService.getAllStores(page, size, sortBy, category, radiusKm,
+			authentication);
+		return ResponseEntity.ok(stores);
+	}
+
+	@GetMapping(value = "", params = "cursor")
+	@Operation(summary = "거리순 매장 커서 조회", description = "거리순으로 매장을 커서 기반으로 조회합니다. 첫 페이지는 cursor를 빈 값으로 요청합니다", security = @SecurityRequirement(name = "bearer-jwt"))
+	public ResponseEntity<SliceResponse<StoreResponse>> getStoresByDistanceCursor(
+		@Parameter(description = "이전 응답의 nextCursor (첫 페이지는 빈 값)") @RequestParam String cursor,
+		@Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size,
+		@Parameter(description = "카테고리 (KOREAN, JAPANESE, CHINESE, ITALIAN, 미입력 시 전체)") @RequestParam(required = false) String category,
+		Authentication authentication
+	) {
+		SliceResponse<StoreResponse> stores = storeUserService.getStoresByDistanceCursor(cursor, size, category,
+			authentication);
 		return ResponseEntity.ok(stores);
 	}
 
@@ -49,14 +69,36 @@ public class StoreUserController {
 		return ResponseEntity.ok(storeDetail);
 	}
 
+	@GetMapping("/{storeId}/rating-histogram")
+	@Operation(summary = "매장 별점 분포 조회", description = "특정 매장의 1~5점 별점별 리뷰 수를 조회합니다", security = @SecurityRequirement(name = "bearer-jwt"))
+	public ResponseEntity<RatingHistogramResponse> getRatingHistogram(
+		@Parameter(description = "매장 ID") @PathVariable UUID storeId) {
+		RatingHistogramResponse histogram = storeUserService.getRatingHistogram(storeId);
+		return ResponseEntity.ok(histogram);
+	}
+
 	@GetMapping("/search")
 	@Operation(summary = "매장 검색", description = "검색어로 메뉴 또는 매장을 검색합니다", security = @SecurityRequirement(name = "bearer-jwt"))
 	public ResponseEntity<Page<StoreResponse>> searchStores(
 		@Parameter(description = "검색어 (메뉴명 또는 매장명)") @RequestParam String query,
 		@Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
-		@Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size
+		@Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size,
+		@Parameter(description = "카테고리 (KOREAN, JAPANESE, CHINESE, ITALIAN, 미입력 시 전체)") @RequestParam(required = false) String category,
+		@Parameter(description = "검색 방식 (TEXT, CHOSUNG, JAMO, 미입력 시 TEXT)") @RequestParam(required = false) String mode,
+		Authentication authentication
 		) {
-		Page<StoreResponse> stores = storeUserService.searchStores(query, page, size);
+		Page<StoreResponse> stores = storeUserService.searchStores(query, category, mode, page, size,
+			authentication);
 		return ResponseEntity.ok(stores);
 	}
+
+	@GetMapping("/autocomplete")
+	@Operation(summary = "검색어 자동완성", description = "입력 중인 검색어로 시작하는 매장명/메뉴명을 평점순으로 추천합니다", security = @SecurityRequirement(name = "bearer-jwt"))
+	public ResponseEntity<List<AutocompleteResponse>> autocomplete(
+		@Parameter(description = "입력 중인 검색어") @RequestParam String prefix,
+		@Parameter(description = "추천 개수 (최대 10)") @RequestParam(defaultValue = "10") int size
+	) {
+		List<AutocompleteResponse> suggestions = storeUserService.autocomplete(prefix, size);
+		return ResponseEntity.ok(suggestions);
+	}
 }
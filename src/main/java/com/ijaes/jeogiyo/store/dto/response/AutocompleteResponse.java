@@ -0,0 +1,40 @@
+package com.ijaes.jeogiyo.store.dto.response;
+
+import java.util.UUID;
+
+import com.ijaes.jeogiyo.store.index.AutocompleteSuggestion;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "검색어 자동완성 응답")
+public class AutocompleteResponse {
+
+	@Schema(description = "추천 종류 (STORE: 매장명, MENU: 메뉴명)", example = "STORE")
+	private String type;
+
+	@Schema(description = "추천 검색어", example = "소문난 국밥집")
+	private String text;
+
+	@Schema(description = "가게 ID (매장명 추천일 때만)")
+	private UUID storeId;
+
+	@Schema(description = "평점", example = "4.5")
+	private Double rate;
+
+	public static AutocompleteResponse from(AutocompleteSuggestion suggestion) {
+		return AutocompleteResponse.builder()
+			.type(suggestion.getType().name())
+			.text(suggestion.getText())
+			.storeId(suggestion.getStoreId())
+			.rate(suggestion.getRate())
+			.build();
+	}
+}
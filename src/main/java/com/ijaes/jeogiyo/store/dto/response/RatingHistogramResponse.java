@@ -0,0 +1,30 @@
+package com.ijaes.jeogiyo.store.dto.response;
+
+import java.util.List;
+import java.util.UUID;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "매장 별점 분포 응답")
+public class RatingHistogramResponse {
+
+	@Schema(description = "가게 ID")
+	private UUID storeId;
+
+	@Schema(description = "평균 평점", example = "4.5")
+	private Double rate;
+
+	@Schema(description = "평점 집계에 포함된 리뷰 수", example = "120")
+	private long ratingCount;
+
+	@Schema(description = "별점별 리뷰 수 (1점부터 5점 순서)", example = "[2, 3, 10, 35, 70]")
+	private List<Long> starCounts;
+}
@@ -0,0 +1,25 @@
+package com.ijaes.jeogiyo.store.dto.response;
+
+import com.ijaes.jeogiyo.store.trend.HeavyHitter;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "인기 검색어 응답")
+public class SearchTrendResponse {
+
+	@Schema(description = "검색어 (소문자로 정규화)", example = "국밥")
+	private String query;
+
+	@Schema(description = "조회 구간 동안의 검색 횟수 (추정치, 실제보다 크거나 같음)", example = "120")
+	private long count;
+
+	public static SearchTrendResponse from(HeavyHitter<String> hitter) {
+		return new SearchTrendResponse(hitter.getKey(), hitter.getCount());
+	}
+}
@@ -44,6 +44,12 @@ public class StoreResponse {
 	@Schema(description = "사용자로부터의 거리 (km)", example = "1.5")
 	private Double distance;
 
+	// 목록 프로젝션용 (거리 없음)
+	public StoreResponse(UUID id, String businessNumber, String name, String address, String description,
+		String category, Double rate, UUID ownerId) {
+		this(id, businessNumber, name, address, description, category, rate, ownerId, null);
+	}
+
 	public static StoreResponse fromEntity(Store store, Double distance) {
 		return StoreResponse.builder()
 			.id(store.getId())
@@ -14,6 +14,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -24,7 +25,10 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "j_store")
+@Table(name = "j_store", indexes = {
+	@Index(name = "idx_store_latitude_longitude", columnList = "latitude, longitude"),
+	@Index(name = "idx_store_category_deleted_at_rate", columnList = "category, deleted_at, rate")
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -61,6 +65,29 @@ public class Store extends BaseEntity {
 	@Column(nullable = false)
 	private Double rate;
 
+	// 평점 집계에 포함된 리뷰의 평점 합계와 개수, rate 는 이 둘로 계산한 평균 (리뷰 변화량으로 함께 갱신)
+	@Column(nullable = false)
+	private long ratingSum;
+
+	@Column(nullable = false)
+	private long ratingCount;
+
+	// 별점(1~5)별 리뷰 수, 평점 분포를 매장 한 행으로 조회하기 위해 합계/개수와 같은 UPDATE 로 갱신
+	@Column(nullable = false)
+	private long rating1Count;
+
+	@Column(nullable = false)
+	private long rating2Count;
+
+	@Column(nullable = false)
+	private long rating3Count;
+
+	@Column(nullable = false)
+	private long rating4Count;
+
+	@Column(nullable = false)
+	private long rating5Count;
+
 	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "owner_id", nullable = false)
 	private User owner;
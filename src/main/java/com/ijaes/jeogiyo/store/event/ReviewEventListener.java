@@ -1,16 +1,10 @@
 package com.ijaes.jeogiyo.store.event;
 
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
-import com.ijaes.jeogiyo.common.exception.CustomException;
-import com.ijaes.jeogiyo.common.exception.ErrorCode;
 import com.ijaes.jeogiyo.review.event.ReviewEvent;
-import com.ijaes.jeogiyo.review.repository.ReviewRepositoryCustom;
-import com.ijaes.jeogiyo.store.entity.Store;
-import com.ijaes.jeogiyo.store.repository.StoreRepository;
 
 import lombok.RequiredArgsConstructor;
 
@@ -18,16 +12,23 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ReviewEventListener {
 
-	private final StoreRepository storeRepository;
-	private final ReviewRepositoryCustom reviewRepositoryCustom;
+	private final StoreRatingDeltaBuffer storeRatingDeltaBuffer;
 
+	// 커밋부터 버퍼에 넣을 때까지 집계 보정이 스냅샷을 읽지 못하게 한다 (StoreRatingDeltaBuffer.commitGate)
+	@TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+	public void enterCommit(ReviewEvent event) {
+		storeRatingDeltaBuffer.enterCommit();
+	}
+
+	// 이벤트마다 비동기로 UPDATE 하지 않고 버퍼에 합쳐 두면 StoreRatingScheduler 가 주기적으로 한 번에 반영한다
 	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-	@Async
 	public void handleReviewEvent(ReviewEvent event) {
-		Store store = storeRepository.findById(event.getStoreId())
-			.orElseThrow(() -> new CustomException(ErrorCode.STORE_NOT_FOUND));
+		storeRatingDeltaBuffer.add(event.getStoreId(), event.getStarCountDeltas());
+	}
 
-		store.updateRate(event.getAverageRate() != null ? event.getAverageRate() : 0.0);
-		storeRepository.save(store);
+	// AFTER_COMMIT 이후에 호출되며, 롤백된 경우에도 호출된다
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION)
+	public void exitCommit(ReviewEvent event) {
+		storeRatingDeltaBuffer.exitCommit();
 	}
 }
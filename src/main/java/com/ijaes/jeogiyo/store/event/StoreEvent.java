@@ -0,0 +1,45 @@
+package com.ijaes.jeogiyo.store.event;
+
+import java.util.UUID;
+
+import com.ijaes.jeogiyo.store.entity.Category;
+import com.ijaes.jeogiyo.store.entity.Store;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class StoreEvent {
+
+	//매장 식별자
+	UUID storeId;
+
+	//매장명
+	String name;
+
+	//카테고리
+	Category category;
+
+	//위도, 경도
+	Double latitude;
+	Double longitude;
+
+	//평점
+	Double rate;
+
+	//삭제 여부
+	boolean deleted;
+
+	public static StoreEvent from(Store store) {
+		return new StoreEvent(
+			store.getId(),
+			store.getName(),
+			store.getCategory(),
+			store.getLatitude(),
+			store.getLongitude(),
+			store.getRate(),
+			store.isDeleted()
+		);
+	}
+}
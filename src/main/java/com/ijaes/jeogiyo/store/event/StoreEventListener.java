@@ -0,0 +1,101 @@
+package com.ijaes.jeogiyo.store.event;
+
+import java.util.List;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.ijaes.jeogiyo.menu.event.MenuEvent;
+import com.ijaes.jeogiyo.menu.repository.MenuRepository;
+import com.ijaes.jeogiyo.store.cache.StoreDetailCache;
+import com.ijaes.jeogiyo.store.cache.StoreSearchCache;
+import com.ijaes.jeogiyo.store.cache.StoreSummaryCache;
+import com.ijaes.jeogiyo.store.index.RatedStore;
+import com.ijaes.jeogiyo.store.index.SearchableMenu;
+import com.ijaes.jeogiyo.store.index.SearchableStore;
+import com.ijaes.jeogiyo.store.index.StoreAutocompleteIndex;
+import com.ijaes.jeogiyo.store.index.StoreCoordinates;
+import com.ijaes.jeogiyo.store.index.StoreGeoIndex;
+import com.ijaes.jeogiyo.store.index.StoreRateIndex;
+import com.ijaes.jeogiyo.store.index.StoreSearchIndex;
+import com.ijaes.jeogiyo.store.repository.StoreRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreEventListener {
+
+	private final StoreRepository storeRepository;
+	private final MenuRepository menuRepository;
+	private final StoreGeoIndex storeGeoIndex;
+	private final StoreRateIndex storeRateIndex;
+	private final StoreSearchIndex storeSearchIndex;
+	private final StoreAutocompleteIndex storeAutocompleteIndex;
+	private final StoreDetailCache storeDetailCache;
+	private final StoreSummaryCache storeSummaryCache;
+	private final StoreSearchCache storeSearchCache;
+
+	// 스냅샷을 읽는 동안 들어온 이벤트(삭제, 좌표/평점 변경)가 더 최신이므로, 그 매장은 스냅샷 값으로 덮어쓰지 않는다
+	@EventListener(ApplicationReadyEvent.class)
+	public void loadIndexes() {
+		StoreCoordinates coordinates = storeRepository.findAllCoordinatesNotDeleted(null);
+		storeGeoIndex.load(coordinates);
+
+		long rateSnapshotVersion = storeRateIndex.currentVersion();
+		List<RatedStore> rates = storeRepository.findAllRatesNotDeleted();
+		storeRateIndex.reconcile(rates, rateSnapshotVersion);
+		storeRateIndex.markLoaded();
+
+		List<SearchableStore> searchableStores = storeRepository.findAllSearchableNotDeleted();
+		List<SearchableMenu> searchableMenus = menuRepository.findAllSearchableNotDeleted();
+		storeSearchIndex.load(searchableStores, searchableMenus);
+		storeSearchIndex.markLoaded();
+
+		storeAutocompleteIndex.load(searchableStores, searchableMenus);
+		storeAutocompleteIndex.markLoaded();
+
+		log.info("Store indexes loaded: {} stores with coordinates, {} stores, {} menus", coordinates.size(),
+			rates.size(), searchableMenus.size());
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void handleStoreEvent(StoreEvent event) {
+		storeDetailCache.invalidate(event.getStoreId());
+		storeSummaryCache.invalidate(event.getStoreId());
+
+		if (event.isDeleted()) {
+			storeGeoIndex.remove(event.getStoreId());
+			storeRateIndex.remove(event.getStoreId());
+			storeSearchIndex.removeStore(event.getStoreId());
+			storeAutocompleteIndex.removeStore(event.getStoreId());
+			storeSearchCache.bumpGeneration();
+			return;
+		}
+
+		storeGeoIndex.put(event.getStoreId(), event.getCategory(), event.getLatitude(), event.getLongitude());
+		storeRateIndex.put(event.getStoreId(), event.getCategory(), event.getRate());
+		storeSearchIndex.putStore(event.getStoreId(), event.getName(), event.getCategory(), event.getRate(),
+			event.getLatitude(), event.getLongitude());
+		storeAutocompleteIndex.putStore(event.getStoreId(), event.getName(), event.getRate());
+		// 색인 반영 후에 세대를 올려야 이전 색인으로 만든 결과가 새 세대로 캐시되지 않는다
+		storeSearchCache.bumpGeneration();
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void handleMenuEvent(MenuEvent event) {
+		if (event.isDeleted()) {
+			storeSearchIndex.removeMenu(event.getMenuId());
+			storeAutocompleteIndex.removeMenu(event.getMenuId());
+		} else {
+			storeSearchIndex.putMenu(event.getMenuId(), event.getStoreId(), event.getName());
+			storeAutocompleteIndex.putMenu(event.getMenuId(), event.getStoreId(), event.getName());
+		}
+		storeSearchCache.bumpGeneration();
+	}
+}
@@ -0,0 +1,100 @@
+package com.ijaes.jeogiyo.store.event;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import com.ijaes.jeogiyo.store.repository.RatingAggregate;
+
+// 아직 DB 에 반영하지 않은 매장별 별점 분포 변화량, 같은 매장의 이벤트는 하나로 합쳐 둔다
+// 변화량은 더하는 순서와 무관하므로 이벤트가 어떤 순서로 들어와도 한 번에 반영한 결과는 같다
+@Component
+public class StoreRatingDeltaBuffer {
+
+	private final Map<UUID, long[]> pending = new ConcurrentHashMap<>();
+	// 리뷰 트랜잭션은 커밋 직전부터 변화량을 넣을 때까지 읽기 락을 잡고, 집계 보정은 쓰기 락을 잡은 채 스냅샷을 읽는다
+	// 커밋은 끝났지만 아직 버퍼에 들어오지 않은 변화량이 스냅샷에만 보여, 보정과 이후 반영에서 두 번 더해지는 것을 막는다
+	private final ReentrantReadWriteLock commitGate = new ReentrantReadWriteLock();
+
+	public void add(UUID storeId, long[] starCountDeltas) {
+		pending.merge(storeId, starCountDeltas.clone(), StoreRatingDeltaBuffer::sum);
+	}
+
+	// 꺼낸 매장은 버퍼에서 빠지고, 그 사이 들어온 이벤트는 다음 번에 꺼내진다
+	// 합쳐서 변화가 없어진 매장(수정 후 되돌리기 등)은 버린다
+	public List<RatingAggregate> drain() {
+		List<RatingAggregate> drained = new ArrayList<>();
+		for (UUID storeId : pending.keySet()) {
+			long[] starCountDeltas = pending.remove(storeId);
+			if (starCountDeltas == null) {
+				continue;
+			}
+			RatingAggregate delta = RatingAggregate.fromStarCounts(storeId, starCountDeltas);
+			if (!delta.isZero()) {
+				drained.add(delta);
+			}
+		}
+		return drained;
+	}
+
+	// 반영에 실패한 변화량을 다시 넣어 다음 주기에 재시도
+	public void restore(List<RatingAggregate> deltas) {
+		deltas.forEach(delta -> add(delta.getStoreId(), delta.getStarCounts()));
+	}
+
+	public boolean hasPending(UUID storeId) {
+		return pending.containsKey(storeId);
+	}
+
+	// 한 트랜잭션에서 이벤트가 여러 개면 이벤트마다 잡고 푼다 (읽기 락은 재진입 가능)
+	public void enterCommit() {
+		commitGate.readLock().lock();
+	}
+
+	// 커밋 전에 롤백되어 enterCommit 없이 호출될 수도 있다
+	public void exitCommit() {
+		if (commitGate.getReadHoldCount() > 0) {
+			commitGate.readLock().unlock();
+		}
+	}
+
+	// 진행 중인 커밋이 모두 버퍼에 넣을 때까지 기다린 뒤, 새 커밋을 잠시 막고 action 실행
+	// timeout 안에 막지 못하면 실행하지 않고 빈 값
+	public <T> Optional<T> whileCommitsPaused(Duration timeout, Supplier<T> action) {
+		try {
+			if (!commitGate.writeLock().tryLock(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+				return Optional.empty();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return Optional.empty();
+		}
+		try {
+			return Optional.of(action.get());
+		} finally {
+			commitGate.writeLock().unlock();
+		}
+	}
+
+	public int size() {
+		return pending.size();
+	}
+
+	// merge 중 다른 스레드가 읽고 있을 수 있으므로 기존 배열을 고치지 않고 새로 만든다
+	private static long[] sum(long[] left, long[] right) {
+		long[] sum = new long[RatingAggregate.STAR_LEVELS];
+		for (int i = 0; i < RatingAggregate.STAR_LEVELS; i++) {
+			sum[i] = left[i] + right[i];
+		}
+		return sum;
+	}
+}
@@ -0,0 +1,23 @@
+package com.ijaes.jeogiyo.store.event;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.ijaes.jeogiyo.store.cache.StoreDetailCache;
+import com.ijaes.jeogiyo.user.event.UserProfileEvent;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class UserProfileEventListener {
+
+	private final StoreDetailCache storeDetailCache;
+
+	// 매장 상세에 사장님 정보가 포함되므로, 해당 사용자가 소유한 매장의 캐시를 비운다
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void handleUserProfileEvent(UserProfileEvent event) {
+		storeDetailCache.invalidateByOwner(event.getUserId());
+	}
+}
@@ -0,0 +1,31 @@
+package com.ijaes.jeogiyo.store.index;
+
+import java.util.Comparator;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class AutocompleteSuggestion {
+
+	// 평점 내림차순, 같은 평점이면 짧은 이름, 이름 오름차순
+	static final Comparator<AutocompleteSuggestion> BY_RATE_DESC = Comparator
+		.comparingDouble(AutocompleteSuggestion::getRate).reversed()
+		.thenComparingInt(suggestion -> suggestion.getText().length())
+		.thenComparing(AutocompleteSuggestion::getText);
+
+	public enum Type {
+		STORE, MENU
+	}
+
+	private final Type type;
+
+	private final String text;
+
+	// 매장명 추천일 때만 존재 (메뉴명은 여러 매장이 공유)
+	private final UUID storeId;
+
+	private final double rate;
+}
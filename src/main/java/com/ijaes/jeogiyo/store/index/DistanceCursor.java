@@ -0,0 +1,58 @@
+package com.ijaes.jeogiyo.store.index;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.UUID;
+
+import com.ijaes.jeogiyo.common.exception.CustomException;
+import com.ijaes.jeogiyo.common.exception.ErrorCode;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 거리순 무한 스크롤용 커서, 마지막으로 내려준 (거리, 매장 ID) 바로 다음부터 조회한다
+// 클라이언트에는 Base64url 문자열로만 노출된다
+@Getter
+@AllArgsConstructor
+public class DistanceCursor {
+
+	private static final int ENCODED_BYTES = Double.BYTES + Long.BYTES * 2;
+
+	private final double distance;
+
+	private final UUID storeId;
+
+	// (거리, 매장 ID) 순서에서 이 커서보다 뒤에 있는지 여부
+	public boolean isBefore(double otherDistance, UUID otherStoreId) {
+		int result = Double.compare(distance, otherDistance);
+		return result != 0 ? result < 0 : storeId.compareTo(otherStoreId) < 0;
+	}
+
+	public String encode() {
+		ByteBuffer buffer = ByteBuffer.allocate(ENCODED_BYTES)
+			.putDouble(distance)
+			.putLong(storeId.getMostSignificantBits())
+			.putLong(storeId.getLeastSignificantBits());
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+	}
+
+	public static DistanceCursor decode(String cursor) {
+		byte[] bytes;
+		try {
+			bytes = Base64.getUrlDecoder().decode(cursor);
+		} catch (IllegalArgumentException e) {
+			throw new CustomException(ErrorCode.INVALID_CURSOR);
+		}
+
+		if (bytes.length != ENCODED_BYTES) {
+			throw new CustomException(ErrorCode.INVALID_CURSOR);
+		}
+
+		ByteBuffer buffer = ByteBuffer.wrap(bytes);
+		double distance = buffer.getDouble();
+		if (Double.isNaN(distance) || distance < 0) {
+			throw new CustomException(ErrorCode.INVALID_CURSOR);
+		}
+		return new DistanceCursor(distance, new UUID(buffer.getLong(), buffer.getLong()));
+	}
+}
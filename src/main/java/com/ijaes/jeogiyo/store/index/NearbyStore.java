@@ -0,0 +1,15 @@
+package com.ijaes.jeogiyo.store.index;
+
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class NearbyStore {
+
+	private final UUID storeId;
+
+	private final double distance;
+}
@@ -0,0 +1,24 @@
+package com.ijaes.jeogiyo.store.index;
+
+import java.util.Comparator;
+import java.util.UUID;
+
+import com.ijaes.jeogiyo.store.entity.Category;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class RatedStore {
+
+	// 평점 내림차순, 같은 평점이면 매장 ID 오름차순
+	static final Comparator<RatedStore> BY_RATE_DESC = Comparator.comparingDouble(RatedStore::getRate).reversed()
+		.thenComparing(RatedStore::getStoreId);
+
+	private final UUID storeId;
+
+	private final Category category;
+
+	private final double rate;
+}
@@ -0,0 +1,27 @@
+package com.ijaes.jeogiyo.store.index;
+
+import java.util.Locale;
+
+import com.ijaes.jeogiyo.common.util.HangulUtils;
+
+// 검색 색인이 매장명/메뉴명과 검색어를 비교하는 표현
+public enum SearchMode {
+
+	// 대소문자만 무시한 원문 (LIKE '%q%' 와 동일)
+	TEXT,
+
+	// 초성 (ㅊㅋ -> 치킨)
+	CHOSUNG,
+
+	// 자모 분해 (칰, 치ㅋ -> 치킨)
+	JAMO;
+
+	public String normalize(String text) {
+		String lowerCase = text == null ? "" : text.toLowerCase(Locale.ROOT);
+		return switch (this) {
+			case TEXT -> lowerCase;
+			case CHOSUNG -> HangulUtils.toChosung(lowerCase);
+			case JAMO -> HangulUtils.toJamo(lowerCase);
+		};
+	}
+}
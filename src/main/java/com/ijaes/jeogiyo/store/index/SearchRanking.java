@@ -0,0 +1,48 @@
+package com.ijaes.jeogiyo.store.index;
+
+// 검색 결과 정렬 점수 = 일치 정도 + 평점 + 거리 가중 합 (0 ~ 1)
+final class SearchRanking {
+
+	private static final double MATCH_WEIGHT = 0.6;
+	private static final double RATE_WEIGHT = 0.25;
+	private static final double DISTANCE_WEIGHT = 0.15;
+
+	// 같은 일치 정도라면 메뉴명 일치를 매장명 일치보다 앞에 둔다
+	private static final double MENU_WEIGHT = 1.0;
+	private static final double NAME_WEIGHT = 0.9;
+
+	private static final double EXACT = 1.0;
+	private static final double PREFIX = 0.8;
+	private static final double INFIX = 0.5;
+
+	private static final double MAX_RATE = 5.0;
+
+	// 이 거리에서 거리 점수가 절반이 된다
+	private static final double HALF_SCORE_DISTANCE_KM = 2.0;
+
+	private SearchRanking() {
+	}
+
+	// 일치하지 않으면 0
+	static double matchQuality(String text, String query) {
+		if (text.equals(query)) {
+			return EXACT;
+		}
+		if (text.startsWith(query)) {
+			return PREFIX;
+		}
+		return text.contains(query) ? INFIX : 0.0;
+	}
+
+	static double matchScore(double nameQuality, double menuQuality) {
+		return Math.max(nameQuality * NAME_WEIGHT, menuQuality * MENU_WEIGHT);
+	}
+
+	// 거리를 모르면(사용자/매장 좌표 없음) 거리 점수 없이 계산
+	static double score(double matchScore, double rate, double distanceKm) {
+		double rateScore = Math.min(Math.max(rate, 0.0), MAX_RATE) / MAX_RATE;
+		double distanceScore = Double.isNaN(distanceKm) ? 0.0
+			: HALF_SCORE_DISTANCE_KM / (HALF_SCORE_DISTANCE_KM + distanceKm);
+		return MATCH_WEIGHT * matchScore + RATE_WEIGHT * rateScore + DISTANCE_WEIGHT * distanceScore;
+	}
+}
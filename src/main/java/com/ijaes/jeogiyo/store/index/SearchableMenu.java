@@ -0,0 +1,18 @@
+package com.ijaes.jeogiyo.store.index;
+
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 검색 색인 적재용 메뉴 프로젝션
+@Getter
+@AllArgsConstructor
+public class SearchableMenu {
+
+	private final UUID menuId;
+
+	private final UUID storeId;
+
+	private final String name;
+}
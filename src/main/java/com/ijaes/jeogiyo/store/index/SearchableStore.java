@@ -0,0 +1,26 @@
+package com.ijaes.jeogiyo.store.index;
+
+import java.util.UUID;
+
+import com.ijaes.jeogiyo.store.entity.Category;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 검색 색인 적재용 매장 프로젝션 (평점/좌표는 검색 결과 정렬에 사용)
+@Getter
+@AllArgsConstructor
+public class SearchableStore {
+
+	private final UUID storeId;
+
+	private final String name;
+
+	private final Category category;
+
+	private final Double rate;
+
+	private final Double latitude;
+
+	private final Double longitude;
+}
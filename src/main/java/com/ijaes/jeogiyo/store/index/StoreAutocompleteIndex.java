@@ -0,0 +1,305 @@
+package com.ijaes.jeogiyo.store.index;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.stereotype.Component;
+
+// 매장명/메뉴명 접두사 트라이, 노드마다 평점순 상위 추천어를 미리 계산해 둔다
+// 트라이는 불변 스냅샷이라 읽기는 잠금 없이 수행하고, 변경은 원본만 고친 뒤 스케줄러가 모아서 다시 만든다 (조회 스레드는 만들지 않음)
+@Component
+public class StoreAutocompleteIndex {
+
+	public static final int MAX_SUGGESTIONS = 10;
+
+	private final Map<UUID, StoreEntry> stores = new ConcurrentHashMap<>();
+	private final Map<UUID, SearchableMenu> menus = new ConcurrentHashMap<>();
+	private final Map<UUID, Set<UUID>> menuIdsByStoreId = new ConcurrentHashMap<>();
+	private final ReentrantLock rebuildLock = new ReentrantLock();
+
+	private volatile Node root = Node.EMPTY;
+	private volatile boolean dirty;
+	private volatile boolean loaded;
+
+	public void load(List<SearchableStore> searchableStores, List<SearchableMenu> searchableMenus) {
+		searchableStores.forEach(store -> stores.put(store.getStoreId(),
+			new StoreEntry(store.getName(), store.getRate() != null ? store.getRate() : 0.0)));
+		searchableMenus.forEach(this::indexMenu);
+		dirty = true;
+		rebuildIfDirty();
+	}
+
+	public void putStore(UUID storeId, String name, double rate) {
+		stores.put(storeId, new StoreEntry(name, rate));
+		dirty = true;
+	}
+
+	// 평점 변경은 이 매장의 이름/메뉴가 지나는 노드 중 하나라도 상위 목록이 바뀔 수 있을 때만 다시 만든다
+	public void putRate(UUID storeId, double rate) {
+		StoreEntry entry = stores.computeIfPresent(storeId, (id, current) -> new StoreEntry(current.name, rate));
+		if (entry != null && !dirty && mayChangeSuggestions(storeId, entry)) {
+			dirty = true;
+		}
+	}
+
+	public void removeStore(UUID storeId) {
+		stores.remove(storeId);
+		Set<UUID> menuIds = menuIdsByStoreId.remove(storeId);
+		if (menuIds != null) {
+			menuIds.forEach(menus::remove);
+		}
+		dirty = true;
+	}
+
+	public void putMenu(UUID menuId, UUID storeId, String name) {
+		indexMenu(new SearchableMenu(menuId, storeId, name));
+		dirty = true;
+	}
+
+	public void removeMenu(UUID menuId) {
+		SearchableMenu removed = menus.remove(menuId);
+		if (removed != null) {
+			menuIdsByStoreId.computeIfPresent(removed.getStoreId(), (storeId, menuIds) -> {
+				menuIds.remove(menuId);
+				return menuIds.isEmpty() ? null : menuIds;
+			});
+			dirty = true;
+		}
+	}
+
+	// 변경이 있으면 트라이를 다시 만든다, 스케줄러가 주기적으로 호출해 짧은 시간의 변경을 한 번에 반영
+	public boolean rebuildIfDirty() {
+		if (!dirty || !rebuildLock.tryLock()) {
+			return false;
+		}
+		try {
+			if (!dirty) {
+				return false;
+			}
+			dirty = false;
+			root = build();
+			return true;
+		} finally {
+			rebuildLock.unlock();
+		}
+	}
+
+	public List<AutocompleteSuggestion> suggest(String prefix, int limit) {
+		String normalized = SearchMode.TEXT.normalize(prefix);
+		if (normalized.isEmpty() || limit <= 0) {
+			return List.of();
+		}
+
+		Node node = root;
+		for (int i = 0; i < normalized.length() && node != null; i++) {
+			node = node.child(normalized.charAt(i));
+		}
+		if (node == null) {
+			return List.of();
+		}
+
+		List<AutocompleteSuggestion> suggestions = node.suggestions;
+		return suggestions.subList(0, Math.min(limit, suggestions.size()));
+	}
+
+	public boolean isLoaded() {
+		return loaded;
+	}
+
+	public void markLoaded() {
+		loaded = true;
+	}
+
+	private void indexMenu(SearchableMenu menu) {
+		menus.put(menu.getMenuId(), menu);
+		menuIdsByStoreId.computeIfAbsent(menu.getStoreId(), id -> ConcurrentHashMap.newKeySet()).add(menu.getMenuId());
+	}
+
+	private boolean mayChangeSuggestions(UUID storeId, StoreEntry store) {
+		if (mayChangeSuggestions(store.name, AutocompleteSuggestion.Type.STORE, storeId, store.rate)) {
+			return true;
+		}
+		for (UUID menuId : menuIdsByStoreId.getOrDefault(storeId, Set.of())) {
+			SearchableMenu menu = menus.get(menuId);
+			if (menu != null
+				&& mayChangeSuggestions(menu.getName(), AutocompleteSuggestion.Type.MENU, null, store.rate)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	// 이름이 등록되는 경로의 노드마다, 이미 상위 목록에 있거나 새 평점으로 들어갈 수 있는지 본다
+	private boolean mayChangeSuggestions(String text, AutocompleteSuggestion.Type type, UUID storeId, double rate) {
+		String key = SearchMode.TEXT.normalize(text);
+		Node snapshot = root;
+		for (int start = 0; start < key.length(); start++) {
+			if (!isWordStart(key, start)) {
+				continue;
+			}
+			Node node = snapshot;
+			for (int i = start; i < key.length(); i++) {
+				node = node.child(key.charAt(i));
+				// 현재 트라이에 없는 이름은 아직 반영 전이므로 다시 만들어야 한다
+				if (node == null || node.mayChangeWith(type, key, storeId, rate)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	// 전체 이름과 각 단어 시작 위치를 키로 등록 (소문난 국밥집 -> "소문난 국밥집", "국밥집")
+	private static boolean isWordStart(String key, int start) {
+		return start == 0 || (key.charAt(start - 1) == ' ' && key.charAt(start) != ' ');
+	}
+
+	private Node build() {
+		Builder builder = new Builder();
+
+		Map<String, AutocompleteSuggestion> menuSuggestions = new HashMap<>();
+		menus.values().forEach(menu -> {
+			StoreEntry store = stores.get(menu.getStoreId());
+			if (store == null) {
+				return;
+			}
+			// 같은 이름의 메뉴는 가장 평점이 높은 매장 기준으로 한 번만 추천
+			menuSuggestions.merge(SearchMode.TEXT.normalize(menu.getName()),
+				new AutocompleteSuggestion(AutocompleteSuggestion.Type.MENU, menu.getName(), null, store.rate),
+				(current, candidate) -> candidate.getRate() > current.getRate() ? candidate : current);
+		});
+
+		stores.forEach((storeId, store) -> builder.insert(
+			new AutocompleteSuggestion(AutocompleteSuggestion.Type.STORE, store.name, storeId, store.rate)));
+		menuSuggestions.values().forEach(builder::insert);
+
+		return builder.freeze();
+	}
+
+	private static final class StoreEntry {
+
+		private final String name;
+		private final double rate;
+
+		private StoreEntry(String name, double rate) {
+			this.name = name;
+			this.rate = rate;
+		}
+	}
+
+	// 트라이 구성용 가변 노드
+	private static final class Builder {
+
+		private final TreeMap<Character, Builder> children = new TreeMap<>();
+		private final List<AutocompleteSuggestion> terms = new ArrayList<>();
+
+		private void insert(AutocompleteSuggestion suggestion) {
+			String key = SearchMode.TEXT.normalize(suggestion.getText());
+			for (int start = 0; start < key.length(); start++) {
+				if (isWordStart(key, start)) {
+					insert(key, start, suggestion);
+				}
+			}
+		}
+
+		private void insert(String key, int start, AutocompleteSuggestion suggestion) {
+			Builder node = this;
+			for (int i = start; i < key.length(); i++) {
+				node = node.children.computeIfAbsent(key.charAt(i), ch -> new Builder());
+			}
+			node.terms.add(suggestion);
+		}
+
+		private Node freeze() {
+			char[] keys = new char[children.size()];
+			Node[] nodes = new Node[children.size()];
+			List<AutocompleteSuggestion> candidates = new ArrayList<>(terms);
+
+			int i = 0;
+			for (Map.Entry<Character, Builder> entry : children.entrySet()) {
+				keys[i] = entry.getKey();
+				nodes[i] = entry.getValue().freeze();
+				candidates.addAll(nodes[i].suggestions);
+				i++;
+			}
+
+			return new Node(keys, nodes, topSuggestions(candidates));
+		}
+
+		// 한 이름이 여러 단어 위치로 같은 하위 트리에 들어갈 수 있어 객체 기준으로 중복 제거
+		private static List<AutocompleteSuggestion> topSuggestions(List<AutocompleteSuggestion> candidates) {
+			candidates.sort(AutocompleteSuggestion.BY_RATE_DESC);
+			Set<AutocompleteSuggestion> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+			List<AutocompleteSuggestion> top = new ArrayList<>(Math.min(MAX_SUGGESTIONS, candidates.size()));
+			for (AutocompleteSuggestion candidate : candidates) {
+				if (top.size() == MAX_SUGGESTIONS) {
+					break;
+				}
+				if (seen.add(candidate)) {
+					top.add(candidate);
+				}
+			}
+			return List.copyOf(top);
+		}
+	}
+
+	// 읽기 전용 노드, 자식은 문자 오름차순 배열로 보관해 이진 탐색
+	private static final class Node {
+
+		private static final Node EMPTY = new Node(new char[0], new Node[0], List.of());
+
+		private final char[] keys;
+		private final Node[] children;
+		private final List<AutocompleteSuggestion> suggestions;
+
+		private Node(char[] keys, Node[] children, List<AutocompleteSuggestion> suggestions) {
+			this.keys = keys;
+			this.children = children;
+			this.suggestions = suggestions;
+		}
+
+		// 목록이 덜 찼거나, 이미 목록에 있거나, 새 평점이 목록 최솟값 이상이면 바뀔 수 있다
+		private boolean mayChangeWith(AutocompleteSuggestion.Type type, String key, UUID storeId, double rate) {
+			if (suggestions.size() < MAX_SUGGESTIONS) {
+				return true;
+			}
+			for (AutocompleteSuggestion suggestion : suggestions) {
+				if (suggestion.getType() != type) {
+					continue;
+				}
+				boolean same = type == AutocompleteSuggestion.Type.STORE
+					? storeId.equals(suggestion.getStoreId())
+					: key.equals(SearchMode.TEXT.normalize(suggestion.getText()));
+				if (same) {
+					return true;
+				}
+			}
+			return rate >= suggestions.get(suggestions.size() - 1).getRate();
+		}
+
+		private Node child(char key) {
+			int low = 0;
+			int high = keys.length - 1;
+			while (low <= high) {
+				int mid = (low + high) >>> 1;
+				if (keys[mid] < key) {
+					low = mid + 1;
+				} else if (keys[mid] > key) {
+					high = mid - 1;
+				} else {
+					return children[mid];
+				}
+			}
+			return null;
+		}
+	}
+}
@@ -0,0 +1,26 @@
+package com.ijaes.jeogiyo.store.index;
+
+import java.util.UUID;
+
+import com.ijaes.jeogiyo.store.entity.Category;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 매장 ID/카테고리/위도/경도를 같은 인덱스의 병렬 배열로 보관 (매장별 객체를 만들지 않기 위함)
+@Getter
+@AllArgsConstructor
+public class StoreCoordinates {
+
+	private final UUID[] storeIds;
+
+	private final Category[] categories;
+
+	private final double[] latitudes;
+
+	private final double[] longitudes;
+
+	public int size() {
+		return storeIds.length;
+	}
+}
@@ -0,0 +1,405 @@
+package com.ijaes.jeogiyo.store.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+import com.ijaes.jeogiyo.common.util.GeoUtils;
+import com.ijaes.jeogiyo.store.entity.Category;
+
+// 매장 좌표를 위경도 격자(uniform grid)로 나누어 보관하는 인메모리 인덱스
+// 거리순 조회 시 사용자가 속한 셀부터 바깥 링으로 확장하며, 요청한 페이지를 채우는 데 필요한 셀만 탐색한다
+// 전체 격자와 카테고리별 격자를 함께 유지해, 카테고리 필터 조회는 해당 카테고리 격자만 탐색한다
+@Component
+public class StoreGeoIndex {
+
+	static final double CELL_DEGREES = 0.02;
+
+	private final GeoGrid all = new GeoGrid();
+	private final Map<Category, GeoGrid> partitions = new EnumMap<>(Category.class);
+	private final Map<UUID, Category> categoryByStoreId = new ConcurrentHashMap<>();
+	// 적재가 끝나기 전에 이벤트로 갱신/제거된 매장, 시작 시 스냅샷이 이벤트보다 오래된 값으로 되돌리지 않도록 건너뛴다
+	// put/remove/load 모두 이 객체로 동기화되므로 일반 Set 으로 충분하고, 적재가 끝나면 비운다
+	private final Set<UUID> touchedBeforeLoad = new HashSet<>();
+
+	private volatile boolean loaded;
+
+	public StoreGeoIndex() {
+		for (Category category : Category.values()) {
+			partitions.put(category, new GeoGrid());
+		}
+	}
+
+	public boolean isLoaded() {
+		return loaded;
+	}
+
+	// 시작 시 DB 스냅샷 적재, 스냅샷 조회 이후 이벤트로 이미 반영된 매장은 이벤트 쪽이 최신이므로 건너뛴다
+	public synchronized void load(StoreCoordinates snapshot) {
+		for (int i = 0; i < snapshot.size(); i++) {
+			UUID storeId = snapshot.getStoreIds()[i];
+			if (!touchedBeforeLoad.contains(storeId)) {
+				apply(storeId, snapshot.getCategories()[i], snapshot.getLatitudes()[i], snapshot.getLongitudes()[i]);
+			}
+		}
+		touchedBeforeLoad.clear();
+		this.loaded = true;
+	}
+
+	public int size() {
+		return all.size();
+	}
+
+	public int size(Category category) {
+		return grid(category).size();
+	}
+
+	public synchronized void put(UUID storeId, Category category, Double latitude, Double longitude) {
+		touch(storeId);
+		apply(storeId, category, latitude, longitude);
+	}
+
+	public synchronized void remove(UUID storeId) {
+		touch(storeId);
+		evict(storeId);
+	}
+
+	private void touch(UUID storeId) {
+		if (!loaded) {
+			touchedBeforeLoad.add(storeId);
+		}
+	}
+
+	// 아래 두 메서드는 동기화된 put/remove/load 안에서만 호출한다
+	private void apply(UUID storeId, Category category, Double latitude, Double longitude) {
+		if (latitude == null || longitude == null) {
+			evict(storeId);
+			return;
+		}
+
+		Category previous = categoryByStoreId.get(storeId);
+		if (previous != null && previous != category) {
+			partitions.get(previous).remove(storeId);
+			categoryByStoreId.remove(storeId);
+		}
+
+		all.put(storeId, latitude, longitude);
+		if (category != null) {
+			partitions.get(category).put(storeId, latitude, longitude);
+			categoryByStoreId.put(storeId, category);
+		}
+	}
+
+	private void evict(UUID storeId) {
+		all.remove(storeId);
+		Category previous = categoryByStoreId.remove(storeId);
+		if (previous != null) {
+			partitions.get(previous).remove(storeId);
+		}
+	}
+
+	// category 가 null 이면 전체 매장 대상
+	public List<NearbyStore> findNearest(double latitude, double longitude, Category category, int offset,
+		int limit) {
+		return grid(category).findNearest(latitude, longitude, offset, limit);
+	}
+
+	// 커서 이후의 매장만 limit 개 조회, 커서 거리보다 확실히 가까운 안쪽 링은 탐색하지 않는다
+	public List<NearbyStore> findNearestAfter(double latitude, double longitude, Category category,
+		DistanceCursor cursor, int limit) {
+		return grid(category).findNearestAfter(latitude, longitude, cursor, limit);
+	}
+
+	private GeoGrid grid(Category category) {
+		return category == null ? all : partitions.get(category);
+	}
+
+	// ring 번째 링의 셀은 위도 차 + 경도 차 경로보다 멀 수 없으므로, 그 상한이 커서 거리보다 작은 링은 건너뛴다
+	static int firstRingBeyond(double distanceKm) {
+		double ringUpperBoundKm = 2 * CELL_DEGREES * GeoUtils.KM_PER_DEGREE;
+		return Math.max(0, (int)Math.floor(distanceKm / ringUpperBoundKm) - 1);
+	}
+
+	// ring 번째 링까지 탐색했을 때, 아직 보지 않은 셀의 매장은 최소한 이 거리 밖에 있다
+	static double coveredRadiusKm(int ring, double latitude) {
+		double farthestLatitude = Math.min(89.0, Math.abs(latitude) + (ring + 1) * CELL_DEGREES);
+		return ring * CELL_DEGREES * GeoUtils.KM_PER_DEGREE * Math.cos(Math.toRadians(farthestLatitude));
+	}
+
+	static int toRow(double latitude) {
+		return (int)Math.floor(latitude / CELL_DEGREES);
+	}
+
+	static int toCol(double longitude) {
+		return (int)Math.floor(longitude / CELL_DEGREES);
+	}
+
+	private static long cellKey(int row, int col) {
+		return ((long)row << 32) | (col & 0xffffffffL);
+	}
+
+	// 하나의 파티션(전체 또는 카테고리별)에 해당하는 격자
+	private static final class GeoGrid {
+
+		private final Map<Long, GridCell> cells = new ConcurrentHashMap<>();
+		private final Map<UUID, Long> cellKeyByStoreId = new ConcurrentHashMap<>();
+
+		// 매장이 있는 셀을 모두 덮는 범위, 가장자리 셀이 비면 다시 계산해 한 번 들어왔던 먼 좌표가 탐색 범위를 계속 넓히지 않게 한다
+		private volatile int minRow = Integer.MAX_VALUE;
+		private volatile int maxRow = Integer.MIN_VALUE;
+		private volatile int minCol = Integer.MAX_VALUE;
+		private volatile int maxCol = Integer.MIN_VALUE;
+
+		private int size() {
+			return cellKeyByStoreId.size();
+		}
+
+		private void put(UUID storeId, double latitude, double longitude) {
+			int row = toRow(latitude);
+			int col = toCol(longitude);
+			long newKey = cellKey(row, col);
+
+			Long oldKey = cellKeyByStoreId.get(storeId);
+			if (oldKey != null && oldKey != newKey) {
+				removeFromCell(oldKey, storeId);
+			}
+
+			cells.compute(newKey,
+				(key, cell) -> (cell == null ? GridCell.EMPTY : cell).with(storeId, latitude, longitude));
+			cellKeyByStoreId.put(storeId, newKey);
+			expandBounds(row, col);
+		}
+
+		private void remove(UUID storeId) {
+			Long oldKey = cellKeyByStoreId.remove(storeId);
+			if (oldKey != null) {
+				removeFromCell(oldKey, storeId);
+			}
+		}
+
+		private List<NearbyStore> findNearest(double latitude, double longitude, int offset, int limit) {
+			int storeCount = size();
+			if (limit <= 0 || offset >= storeCount) {
+				return List.of();
+			}
+
+			int capacity = (int)Math.min((long)offset + limit, storeCount);
+			return search(latitude, longitude, capacity, null, offset);
+		}
+
+		private List<NearbyStore> findNearestAfter(double latitude, double longitude, DistanceCursor cursor,
+			int limit) {
+			int storeCount = size();
+			if (limit <= 0 || storeCount == 0) {
+				return List.of();
+			}
+
+			return search(latitude, longitude, Math.min(limit, storeCount), cursor, 0);
+		}
+
+		private List<NearbyStore> search(double latitude, double longitude, int capacity, DistanceCursor cursor,
+			int offset) {
+			int originRow = toRow(latitude);
+			int originCol = toCol(longitude);
+			int lastRing = lastRing(originRow, originCol);
+			int firstRing = cursor == null ? 0 : firstRingBeyond(cursor.getDistance());
+
+			TopKHeap heap = new TopKHeap(capacity);
+			List<UUID> accepted = new ArrayList<>();
+			for (int ring = firstRing; ring <= lastRing; ring++) {
+				collectRing(ring, originRow, originCol, latitude, longitude, cursor, heap, accepted);
+
+				if (heap.isFull() && heap.maxKey() < coveredRadiusKm(ring, latitude)) {
+					break;
+				}
+			}
+
+			heap.sortAscending();
+			List<NearbyStore> nearbyStores = new ArrayList<>(Math.max(0, heap.size() - offset));
+			for (int i = offset; i < heap.size(); i++) {
+				nearbyStores.add(new NearbyStore(accepted.get(heap.slotAt(i)), heap.keyAt(i)));
+			}
+			return nearbyStores;
+		}
+
+		private void collectRing(int ring, int originRow, int originCol, double latitude, double longitude,
+			DistanceCursor cursor, TopKHeap heap, List<UUID> accepted) {
+			if (ring == 0) {
+				collectCell(originRow, originCol, latitude, longitude, cursor, heap, accepted);
+				return;
+			}
+
+			int fromCol = Math.max(originCol - ring, minCol);
+			int toCol = Math.min(originCol + ring, maxCol);
+			for (int col = fromCol; col <= toCol; col++) {
+				collectCell(originRow - ring, col, latitude, longitude, cursor, heap, accepted);
+				collectCell(originRow + ring, col, latitude, longitude, cursor, heap, accepted);
+			}
+
+			int fromRow = Math.max(originRow - ring + 1, minRow);
+			int toRow = Math.min(originRow + ring - 1, maxRow);
+			for (int row = fromRow; row <= toRow; row++) {
+				collectCell(row, originCol - ring, latitude, longitude, cursor, heap, accepted);
+				collectCell(row, originCol + ring, latitude, longitude, cursor, heap, accepted);
+			}
+		}
+
+		private void collectCell(int row, int col, double latitude, double longitude, DistanceCursor cursor,
+			TopKHeap heap, List<UUID> accepted) {
+			if (row < minRow || row > maxRow || col < minCol || col > maxCol) {
+				return;
+			}
+
+			GridCell cell = cells.get(cellKey(row, col));
+			if (cell == null) {
+				return;
+			}
+
+			for (int i = 0; i < cell.storeIds.length; i++) {
+				UUID storeId = cell.storeIds[i];
+				double distance = GeoUtils.distanceKm(latitude, longitude, cell.latitudes[i], cell.longitudes[i]);
+				if (cursor != null && !cursor.isBefore(distance, storeId)) {
+					continue;
+				}
+				if (heap.offer(distance, storeId.getMostSignificantBits(), accepted.size())) {
+					accepted.add(storeId);
+				}
+			}
+		}
+
+		private int lastRing(int originRow, int originCol) {
+			if (minRow > maxRow || minCol > maxCol) {
+				return -1;
+			}
+			return Math.max(
+				Math.max(originRow - minRow, maxRow - originRow),
+				Math.max(originCol - minCol, maxCol - originCol)
+			);
+		}
+
+		private void removeFromCell(long key, UUID storeId) {
+			GridCell remaining = cells.computeIfPresent(key, (k, cell) -> {
+				GridCell updated = cell.without(storeId);
+				return updated.storeIds.length == 0 ? null : updated;
+			});
+			if (remaining == null && isOnBounds(key)) {
+				recomputeBounds();
+			}
+		}
+
+		private boolean isOnBounds(long key) {
+			int row = (int)(key >> 32);
+			int col = (int)key;
+			return row == minRow || row == maxRow || col == minCol || col == maxCol;
+		}
+
+		// 셀 수에 비례하지만 가장자리 셀이 빌 때만 호출된다
+		private void recomputeBounds() {
+			int newMinRow = Integer.MAX_VALUE;
+			int newMaxRow = Integer.MIN_VALUE;
+			int newMinCol = Integer.MAX_VALUE;
+			int newMaxCol = Integer.MIN_VALUE;
+			for (long key : cells.keySet()) {
+				int row = (int)(key >> 32);
+				int col = (int)key;
+				newMinRow = Math.min(newMinRow, row);
+				newMaxRow = Math.max(newMaxRow, row);
+				newMinCol = Math.min(newMinCol, col);
+				newMaxCol = Math.max(newMaxCol, col);
+			}
+			minRow = newMinRow;
+			maxRow = newMaxRow;
+			minCol = newMinCol;
+			maxCol = newMaxCol;
+		}
+
+		private void expandBounds(int row, int col) {
+			if (row < minRow) {
+				minRow = row;
+			}
+			if (row > maxRow) {
+				maxRow = row;
+			}
+			if (col < minCol) {
+				minCol = col;
+			}
+			if (col > maxCol) {
+				maxCol = col;
+			}
+		}
+	}
+
+	// 셀 단위 copy-on-write: 조회 스레드는 락 없이 배열을 읽고, 쓰기 시 새 셀로 교체한다
+	private static final class GridCell {
+
+		private static final GridCell EMPTY = new GridCell(new UUID[0], new double[0], new double[0]);
+
+		private final UUID[] storeIds;
+		private final double[] latitudes;
+		private final double[] longitudes;
+
+		private GridCell(UUID[] storeIds, double[] latitudes, double[] longitudes) {
+			this.storeIds = storeIds;
+			this.latitudes = latitudes;
+			this.longitudes = longitudes;
+		}
+
+		private GridCell with(UUID storeId, double latitude, double longitude) {
+			int index = indexOf(storeId);
+			if (index < 0) {
+				index = storeIds.length;
+				GridCell grown = new GridCell(
+					Arrays.copyOf(storeIds, index + 1),
+					Arrays.copyOf(latitudes, index + 1),
+					Arrays.copyOf(longitudes, index + 1)
+				);
+				return grown.set(index, storeId, latitude, longitude);
+			}
+
+			GridCell copy = new GridCell(storeIds.clone(), latitudes.clone(), longitudes.clone());
+			return copy.set(index, storeId, latitude, longitude);
+		}
+
+		private GridCell without(UUID storeId) {
+			int index = indexOf(storeId);
+			if (index < 0) {
+				return this;
+			}
+
+			int last = storeIds.length - 1;
+			UUID[] ids = Arrays.copyOf(storeIds, last);
+			double[] lats = Arrays.copyOf(latitudes, last);
+			double[] lons = Arrays.copyOf(longitudes, last);
+			if (index != last) {
+				ids[index] = storeIds[last];
+				lats[index] = latitudes[last];
+				lons[index] = longitudes[last];
+			}
+			return new GridCell(ids, lats, lons);
+		}
+
+		private GridCell set(int index, UUID storeId, double latitude, double longitude) {
+			storeIds[index] = storeId;
+			latitudes[index] = latitude;
+			longitudes[index] = longitude;
+			return this;
+		}
+
+		private int indexOf(UUID storeId) {
+			for (int i = 0; i < storeIds.length; i++) {
+				if (storeIds[i].equals(storeId)) {
+					return i;
+				}
+			}
+			return -1;
+		}
+	}
+}
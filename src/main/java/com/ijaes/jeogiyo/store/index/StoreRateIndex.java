@@ -0,0 +1,203 @@
+package com.ijaes.jeogiyo.store.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+
+import com.ijaes.jeogiyo.store.entity.Category;
+
+// (평점 내림차순, 매장 ID) 순서로 정렬된 매장 목록을 메모리에 유지하는 인덱스
+// 리뷰/매장 이벤트로 증분 갱신되고, 주기적으로 DB와 대조해 어긋난 항목을 복구한다
+// 전체 목록과 카테고리별 목록을 함께 유지해, 카테고리 필터 조회는 해당 카테고리 목록만 순회한다
+@Component
+public class StoreRateIndex {
+
+	private final RatePartition all = new RatePartition();
+	private final Map<Category, RatePartition> partitions = new EnumMap<>(Category.class);
+	private final Map<UUID, RatedStore> byStoreId = new ConcurrentHashMap<>();
+	// 대조 작업이 스냅샷 이후의 이벤트 갱신을 되돌리지 않도록 매장별 마지막 갱신 시점을 기록
+	// 두 맵은 byStoreId 의 같은 키 compute 안에서만 고치므로 대조의 확인과 갱신 사이에 이벤트가 끼어들지 못한다
+	private final Map<UUID, Long> updatedAtByStoreId = new ConcurrentHashMap<>();
+	// 제거된 매장의 제거 시점, 제거 이전 스냅샷으로 되살리지 않기 위함 (제거 이후 스냅샷으로 대조하면 정리)
+	private final Map<UUID, Long> removedAtByStoreId = new ConcurrentHashMap<>();
+	private final AtomicLong clock = new AtomicLong();
+
+	private volatile boolean loaded;
+
+	public StoreRateIndex() {
+		for (Category category : Category.values()) {
+			partitions.put(category, new RatePartition());
+		}
+	}
+
+	public boolean isLoaded() {
+		return loaded;
+	}
+
+	public void markLoaded() {
+		this.loaded = true;
+	}
+
+	public int size() {
+		return all.size();
+	}
+
+	public int size(Category category) {
+		return partition(category).size();
+	}
+
+	public long currentVersion() {
+		return clock.get();
+	}
+
+	public void put(UUID storeId, Category category, Double rate) {
+		byStoreId.compute(storeId, (id, previous) -> replace(id, previous, category, rate));
+	}
+
+	public void remove(UUID storeId) {
+		byStoreId.compute(storeId, this::evict);
+	}
+
+	// category 가 null 이면 전체 매장 대상
+	public List<RatedStore> findPage(Category category, int offset, int limit) {
+		return partition(category).findPage(offset, limit);
+	}
+
+	// snapshotVersion 은 DB 스냅샷 조회 직전의 currentVersion() 값
+	// 그 이후 이벤트로 갱신된 매장은 스냅샷보다 최신이므로 건드리지 않는다
+	public int reconcile(Collection<RatedStore> snapshot, long snapshotVersion) {
+		int repaired = 0;
+		Set<UUID> snapshotIds = new HashSet<>();
+		for (RatedStore expected : snapshot) {
+			snapshotIds.add(expected.getStoreId());
+			if (repair(expected, snapshotVersion)) {
+				repaired++;
+			}
+		}
+
+		for (UUID storeId : byStoreId.keySet()) {
+			if (!snapshotIds.contains(storeId) && evictStale(storeId, snapshotVersion)) {
+				repaired++;
+			}
+		}
+
+		// 스냅샷 이전의 제거는 스냅샷에 이미 반영되어 있으므로 더 기억할 필요가 없다
+		removedAtByStoreId.values().removeIf(removedAt -> removedAt <= snapshotVersion);
+		return repaired;
+	}
+
+	// 어긋났고 스냅샷 이후 갱신되지 않았으면 스냅샷 값으로 교체, 확인과 교체를 같은 키 compute 안에서 한다
+	private boolean repair(RatedStore expected, long snapshotVersion) {
+		boolean[] repaired = {false};
+		byStoreId.compute(expected.getStoreId(), (id, current) -> {
+			boolean drifted = current == null
+				|| Double.compare(current.getRate(), expected.getRate()) != 0
+				|| current.getCategory() != expected.getCategory();
+			if (!drifted || updatedSince(id, snapshotVersion)) {
+				return current;
+			}
+			repaired[0] = true;
+			return replace(id, current, expected.getCategory(), expected.getRate());
+		});
+		return repaired[0];
+	}
+
+	private boolean evictStale(UUID storeId, long snapshotVersion) {
+		boolean[] evicted = {false};
+		byStoreId.computeIfPresent(storeId, (id, current) -> {
+			if (updatedSince(id, snapshotVersion)) {
+				return current;
+			}
+			evicted[0] = true;
+			return evict(id, current);
+		});
+		return evicted[0];
+	}
+
+	// 아래 두 메서드는 byStoreId.compute 안에서만 호출한다
+	private RatedStore replace(UUID id, RatedStore previous, Category category, Double rate) {
+		if (previous != null) {
+			removeFromPartitions(previous);
+		}
+		RatedStore updated = new RatedStore(id, category, rate == null ? 0.0 : rate);
+		all.add(updated);
+		if (category != null) {
+			partitions.get(category).add(updated);
+		}
+		removedAtByStoreId.remove(id);
+		updatedAtByStoreId.put(id, clock.incrementAndGet());
+		return updated;
+	}
+
+	private RatedStore evict(UUID id, RatedStore previous) {
+		if (previous != null) {
+			removeFromPartitions(previous);
+		}
+		updatedAtByStoreId.remove(id);
+		removedAtByStoreId.put(id, clock.incrementAndGet());
+		return null;
+	}
+
+	private void removeFromPartitions(RatedStore ratedStore) {
+		all.remove(ratedStore);
+		if (ratedStore.getCategory() != null) {
+			partitions.get(ratedStore.getCategory()).remove(ratedStore);
+		}
+	}
+
+	private RatePartition partition(Category category) {
+		return category == null ? all : partitions.get(category);
+	}
+
+	private boolean updatedSince(UUID storeId, long version) {
+		Long updatedAt = updatedAtByStoreId.get(storeId);
+		if (updatedAt == null) {
+			updatedAt = removedAtByStoreId.get(storeId);
+		}
+		return updatedAt != null && updatedAt > version;
+	}
+
+	private static final class RatePartition {
+
+		private final ConcurrentSkipListSet<RatedStore> ordered =
+			new ConcurrentSkipListSet<>(RatedStore.BY_RATE_DESC);
+		private final Set<UUID> storeIds = ConcurrentHashMap.newKeySet();
+
+		private int size() {
+			return storeIds.size();
+		}
+
+		private void add(RatedStore ratedStore) {
+			ordered.add(ratedStore);
+			storeIds.add(ratedStore.getStoreId());
+		}
+
+		private void remove(RatedStore ratedStore) {
+			ordered.remove(ratedStore);
+			storeIds.remove(ratedStore.getStoreId());
+		}
+
+		private List<RatedStore> findPage(int offset, int limit) {
+			List<RatedStore> page = new ArrayList<>(Math.max(0, limit));
+			Iterator<RatedStore> iterator = ordered.iterator();
+			for (int skipped = 0; skipped < offset && iterator.hasNext(); skipped++) {
+				iterator.next();
+			}
+			while (page.size() < limit && iterator.hasNext()) {
+				page.add(iterator.next());
+			}
+			return page;
+		}
+	}
+}
@@ -0,0 +1,423 @@
+package com.ijaes.jeogiyo.store.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import org.springframework.stereotype.Component;
+
+import com.ijaes.jeogiyo.common.util.GeoUtils;
+import com.ijaes.jeogiyo.store.entity.Category;
+
+// 매장명/메뉴명의 1~3글자 n-gram 을 매장 번호 posting(정렬된 int 배열)으로 매핑하는 역색인
+// 검색어의 n-gram posting 을 교집합해 후보를 좁히고, 후보만 실제 문자열 포함 여부로 확인한다 (LIKE '%q%' 와 같은 결과)
+// 원문/초성/자모 표현을 미리 만들어 두고, n-gram 앞에 검색 모드를 붙여 같은 posting 에 함께 보관한다
+// 일치한 매장은 SearchRanking 점수(일치 정도/평점/거리) 상위 offset + limit 개만 힙에 남겨 정렬한다
+// 매장 번호는 등록 순서대로 증가하므로, 점수가 같으면 번호 내림차순(등록일 내림차순)으로 정렬한다
+@Component
+public class StoreSearchIndex {
+
+	static final int MAX_GRAM = 3;
+
+	private static final int[] NO_DOCS = new int[0];
+
+	private final Map<UUID, Integer> docIdByStoreId = new ConcurrentHashMap<>();
+	private final Map<UUID, Integer> docIdByMenuId = new ConcurrentHashMap<>();
+	private final Postings namePostings = new Postings();
+	private final Postings menuPostings = new Postings();
+
+	private volatile Doc[] docs = new Doc[16];
+	private volatile int docCount;
+
+	private volatile boolean loaded;
+
+	public boolean isLoaded() {
+		return loaded;
+	}
+
+	public void markLoaded() {
+		this.loaded = true;
+	}
+
+	public int size() {
+		return docIdByStoreId.size();
+	}
+
+	// 시작 시 전체 적재, posting 을 한 번에 만들어 건별 배열 복사를 피한다 (stores 는 등록일 오름차순)
+	public synchronized void load(List<SearchableStore> stores, List<SearchableMenu> menus) {
+		Map<String, GrowableIntArray> nameBuilder = new HashMap<>();
+		for (SearchableStore store : stores) {
+			if (docIdByStoreId.containsKey(store.getStoreId())) {
+				continue;
+			}
+			int docId = allocate(store.getStoreId());
+			Doc doc = docs[docId];
+			doc.names = representations(store.getName());
+			doc.category = store.getCategory();
+			doc.updateRanking(store.getRate(), store.getLatitude(), store.getLongitude());
+			doc.nameGrams = grams(doc.names);
+			doc.nameGrams.forEach(gram -> nameBuilder.computeIfAbsent(gram, g -> new GrowableIntArray()).add(docId));
+		}
+
+		for (SearchableMenu menu : menus) {
+			Integer docId = docIdByStoreId.get(menu.getStoreId());
+			if (docId != null) {
+				docs[docId].menuNames.put(menu.getMenuId(), representations(menu.getName()));
+				docIdByMenuId.put(menu.getMenuId(), docId);
+			}
+		}
+
+		Map<String, GrowableIntArray> menuBuilder = new HashMap<>();
+		for (int docId = 0; docId < docCount; docId++) {
+			Doc doc = docs[docId];
+			if (doc == null || doc.menuNames.isEmpty()) {
+				continue;
+			}
+			doc.menuGrams = menuGrams(doc);
+			int id = docId;
+			doc.menuGrams.forEach(gram -> menuBuilder.computeIfAbsent(gram, g -> new GrowableIntArray()).add(id));
+		}
+
+		namePostings.merge(nameBuilder);
+		menuPostings.merge(menuBuilder);
+	}
+
+	public synchronized void putStore(UUID storeId, String name, Category category, Double rate, Double latitude,
+		Double longitude) {
+		Integer existing = docIdByStoreId.get(storeId);
+		int docId = existing != null ? existing : allocate(storeId);
+		Doc doc = docs[docId];
+
+		doc.category = category;
+		doc.updateRanking(rate, latitude, longitude);
+		doc.names = representations(name);
+		Set<String> grams = grams(doc.names);
+		namePostings.update(docId, doc.nameGrams, grams);
+		doc.nameGrams = grams;
+	}
+
+	public void putRate(UUID storeId, Double rate) {
+		Integer docId = docIdByStoreId.get(storeId);
+		Doc doc = docId == null ? null : docAt(docs, docId);
+		if (doc != null) {
+			doc.rate = rate != null ? rate : 0.0;
+		}
+	}
+
+	public synchronized void removeStore(UUID storeId) {
+		Integer docId = docIdByStoreId.remove(storeId);
+		if (docId == null) {
+			return;
+		}
+
+		Doc doc = docs[docId];
+		namePostings.update(docId, doc.nameGrams, Set.of());
+		menuPostings.update(docId, doc.menuGrams, Set.of());
+		doc.menuNames.keySet().forEach(docIdByMenuId::remove);
+		docs[docId] = null;
+	}
+
+	// 색인에 없는 매장(삭제 등)의 메뉴는 무시
+	public synchronized void putMenu(UUID menuId, UUID storeId, String name) {
+		Integer docId = docIdByStoreId.get(storeId);
+		if (docId == null) {
+			return;
+		}
+
+		Integer previous = docIdByMenuId.get(menuId);
+		if (previous != null && !previous.equals(docId)) {
+			removeMenu(menuId);
+		}
+
+		Doc doc = docs[docId];
+		doc.menuNames.put(menuId, representations(name));
+		docIdByMenuId.put(menuId, docId);
+		refreshMenuGrams(docId, doc);
+	}
+
+	public synchronized void removeMenu(UUID menuId) {
+		Integer docId = docIdByMenuId.remove(menuId);
+		if (docId == null || docs[docId] == null) {
+			return;
+		}
+
+		Doc doc = docs[docId];
+		doc.menuNames.remove(menuId);
+		refreshMenuGrams(docId, doc);
+	}
+
+	// 사용자 좌표가 없으면 거리를 빼고 일치 정도와 평점으로만 정렬
+	public StoreSearchResult search(String query, SearchMode mode, Category category, Double latitude,
+		Double longitude, int offset, int limit) {
+		String normalized = mode.normalize(query);
+		int count = docCount;
+		Doc[] snapshot = docs;
+
+		int[] candidates = normalized.isEmpty()
+			? allDocIds(count)
+			: Postings.union(menuPostings.candidates(mode, normalized), namePostings.candidates(mode, normalized));
+
+		TopKHeap heap = new TopKHeap((int)Math.min((long)offset + limit, candidates.length));
+		int total = 0;
+		for (int docId : candidates) {
+			Doc doc = docAt(snapshot, docId);
+			if (doc == null || !categoryMatches(doc, category)) {
+				continue;
+			}
+
+			double matchScore = SearchRanking.matchScore(
+				SearchRanking.matchQuality(doc.names[mode.ordinal()], normalized),
+				doc.menuMatchQuality(mode, normalized));
+			if (matchScore == 0.0) {
+				continue;
+			}
+
+			total++;
+			double score = SearchRanking.score(matchScore, doc.rate, doc.distanceKm(latitude, longitude));
+			heap.offer(-score, -docId, docId);
+		}
+		heap.sortAscending();
+
+		List<UUID> storeIds = new ArrayList<>(Math.max(0, heap.size() - offset));
+		for (int i = offset; i < heap.size(); i++) {
+			// 조회 도중 삭제된 매장은 제외
+			Doc doc = snapshot[heap.slotAt(i)];
+			if (doc != null) {
+				storeIds.add(doc.storeId);
+			}
+		}
+		return new StoreSearchResult(storeIds, total);
+	}
+
+	// 검색 모드 순서대로 정규화한 표현
+	static String[] representations(String text) {
+		SearchMode[] modes = SearchMode.values();
+		String[] representations = new String[modes.length];
+		for (SearchMode mode : modes) {
+			representations[mode.ordinal()] = mode.normalize(text);
+		}
+		return representations;
+	}
+
+	// 표현별 길이 1 ~ MAX_GRAM 의 모든 부분 문자열, 앞에 검색 모드를 붙인다
+	static Set<String> grams(String[] representations) {
+		Set<String> grams = new HashSet<>();
+		for (SearchMode mode : SearchMode.values()) {
+			String text = representations[mode.ordinal()];
+			for (int n = 1; n <= MAX_GRAM; n++) {
+				for (int i = 0; i + n <= text.length(); i++) {
+					grams.add(gramKey(mode, text.substring(i, i + n)));
+				}
+			}
+		}
+		return grams;
+	}
+
+	private static String gramKey(SearchMode mode, String gram) {
+		return (char)mode.ordinal() + gram;
+	}
+
+	private int allocate(UUID storeId) {
+		int docId = docCount;
+		Doc[] current = docs;
+		if (docId == current.length) {
+			current = Arrays.copyOf(current, current.length * 2);
+		}
+		current[docId] = new Doc(storeId);
+		docs = current;
+		docCount = docId + 1;
+		docIdByStoreId.put(storeId, docId);
+		return docId;
+	}
+
+	private void refreshMenuGrams(int docId, Doc doc) {
+		Set<String> grams = menuGrams(doc);
+		menuPostings.update(docId, doc.menuGrams, grams);
+		doc.menuGrams = grams;
+	}
+
+	private static Set<String> menuGrams(Doc doc) {
+		Set<String> grams = new HashSet<>();
+		doc.menuNames.values().forEach(names -> grams.addAll(grams(names)));
+		return grams;
+	}
+
+	// 조회 도중 추가된 매장은 이전 배열에 없을 수 있다
+	private static Doc docAt(Doc[] snapshot, int docId) {
+		return docId < snapshot.length ? snapshot[docId] : null;
+	}
+
+	private static boolean categoryMatches(Doc doc, Category category) {
+		return category == null || doc.category == category;
+	}
+
+	private static int[] allDocIds(int count) {
+		return IntStream.range(0, count).toArray();
+	}
+
+	// n-gram -> 매장 번호 오름차순 배열, 배열은 교체만 하고 수정하지 않으므로 조회는 락 없이 읽는다
+	private static final class Postings {
+
+		private final Map<String, int[]> docIdsByGram = new ConcurrentHashMap<>();
+
+		private void merge(Map<String, GrowableIntArray> built) {
+			built.forEach((gram, docIds) -> docIdsByGram.merge(gram, docIds.toArray(), Postings::union));
+		}
+
+		private void update(int docId, Set<String> oldGrams, Set<String> newGrams) {
+			for (String gram : newGrams) {
+				if (!oldGrams.contains(gram)) {
+					docIdsByGram.compute(gram, (g, docIds) -> insert(docIds, docId));
+				}
+			}
+			for (String gram : oldGrams) {
+				if (!newGrams.contains(gram)) {
+					docIdsByGram.computeIfPresent(gram, (g, docIds) -> delete(docIds, docId));
+				}
+			}
+		}
+
+		// 검색어 길이만큼(최대 MAX_GRAM)의 n-gram posting 을 짧은 것부터 교집합
+		private int[] candidates(SearchMode mode, String query) {
+			int n = Math.min(MAX_GRAM, query.length());
+			List<int[]> lists = new ArrayList<>();
+			for (int i = 0; i + n <= query.length(); i++) {
+				int[] docIds = docIdsByGram.get(gramKey(mode, query.substring(i, i + n)));
+				if (docIds == null) {
+					return NO_DOCS;
+				}
+				lists.add(docIds);
+			}
+			lists.sort(Comparator.comparingInt(docIds -> docIds.length));
+
+			int[] result = lists.get(0);
+			for (int i = 1; i < lists.size() && result.length > 0; i++) {
+				result = intersect(result, lists.get(i));
+			}
+			return result;
+		}
+
+		private static int[] insert(int[] docIds, int docId) {
+			if (docIds == null) {
+				return new int[] {docId};
+			}
+			int index = Arrays.binarySearch(docIds, docId);
+			if (index >= 0) {
+				return docIds;
+			}
+			int at = -index - 1;
+			int[] result = new int[docIds.length + 1];
+			System.arraycopy(docIds, 0, result, 0, at);
+			result[at] = docId;
+			System.arraycopy(docIds, at, result, at + 1, docIds.length - at);
+			return result;
+		}
+
+		private static int[] delete(int[] docIds, int docId) {
+			int index = Arrays.binarySearch(docIds, docId);
+			if (index < 0) {
+				return docIds;
+			}
+			if (docIds.length == 1) {
+				return null;
+			}
+			int[] result = new int[docIds.length - 1];
+			System.arraycopy(docIds, 0, result, 0, index);
+			System.arraycopy(docIds, index + 1, result, index, docIds.length - index - 1);
+			return result;
+		}
+
+		private static int[] intersect(int[] a, int[] b) {
+			int[] result = new int[Math.min(a.length, b.length)];
+			int i = 0;
+			int j = 0;
+			int size = 0;
+			while (i < a.length && j < b.length) {
+				if (a[i] < b[j]) {
+					i++;
+				} else if (a[i] > b[j]) {
+					j++;
+				} else {
+					result[size++] = a[i];
+					i++;
+					j++;
+				}
+			}
+			return Arrays.copyOf(result, size);
+		}
+
+		private static int[] union(int[] a, int[] b) {
+			return IntStream.concat(Arrays.stream(a), Arrays.stream(b)).sorted().distinct().toArray();
+		}
+	}
+
+	// 매장 한 건의 검색 모드별 매장명/메뉴명 표현과, 현재 posting 에 반영된 n-gram 집합
+	private static final class Doc {
+
+		private final UUID storeId;
+		private final Map<UUID, String[]> menuNames = new ConcurrentHashMap<>();
+
+		private volatile String[] names = representations("");
+		private volatile Category category;
+		private volatile double rate;
+		private volatile double latitude = Double.NaN;
+		private volatile double longitude = Double.NaN;
+
+		private Set<String> nameGrams = Set.of();
+		private Set<String> menuGrams = Set.of();
+
+		private Doc(UUID storeId) {
+			this.storeId = storeId;
+		}
+
+		private void updateRanking(Double rate, Double latitude, Double longitude) {
+			this.rate = rate != null ? rate : 0.0;
+			this.latitude = latitude != null ? latitude : Double.NaN;
+			this.longitude = longitude != null ? longitude : Double.NaN;
+		}
+
+		// 가장 잘 일치하는 메뉴 기준
+		private double menuMatchQuality(SearchMode mode, String query) {
+			double best = 0.0;
+			for (String[] menuName : menuNames.values()) {
+				best = Math.max(best, SearchRanking.matchQuality(menuName[mode.ordinal()], query));
+			}
+			return best;
+		}
+
+		private double distanceKm(Double userLatitude, Double userLongitude) {
+			double storeLatitude = latitude;
+			double storeLongitude = longitude;
+			if (userLatitude == null || userLongitude == null || Double.isNaN(storeLatitude)
+				|| Double.isNaN(storeLongitude)) {
+				return Double.NaN;
+			}
+			return GeoUtils.distanceKm(userLatitude, userLongitude, storeLatitude, storeLongitude);
+		}
+	}
+
+	private static final class GrowableIntArray {
+
+		private int[] values = new int[4];
+		private int size;
+
+		private void add(int value) {
+			if (size == values.length) {
+				values = Arrays.copyOf(values, size * 2);
+			}
+			values[size++] = value;
+		}
+
+		private int[] toArray() {
+			return Arrays.copyOf(values, size);
+		}
+	}
+}
@@ -0,0 +1,17 @@
+package com.ijaes.jeogiyo.store.index;
+
+import java.util.List;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 검색 결과 중 요청한 페이지의 매장 ID 와 전체 일치 개수
+@Getter
+@AllArgsConstructor
+public class StoreSearchResult {
+
+	private final List<UUID> storeIds;
+
+	private final int total;
+}
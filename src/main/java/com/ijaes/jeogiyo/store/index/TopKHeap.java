@@ -0,0 +1,119 @@
+package com.ijaes.jeogiyo.store.index;
+
+// 키가 가장 작은 k개만 남기는 고정 크기 최대 힙
+// 전체 후보를 정렬하지 않고 (page + 1) * size 개만 유지하며, 키와 슬롯을 원시 배열로 보관해 박싱/객체 생성이 없다
+// 키가 같으면 tieBreaker 오름차순으로 정렬된다
+public final class TopKHeap {
+
+	private final double[] keys;
+	private final long[] tieBreakers;
+	private final int[] slots;
+	private int size;
+
+	public TopKHeap(int capacity) {
+		this.keys = new double[capacity];
+		this.tieBreakers = new long[capacity];
+		this.slots = new int[capacity];
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isFull() {
+		return size == keys.length;
+	}
+
+	public double maxKey() {
+		return keys[0];
+	}
+
+	public boolean offer(double key, int slot) {
+		return offer(key, 0L, slot);
+	}
+
+	public boolean offer(double key, long tieBreaker, int slot) {
+		if (size < keys.length) {
+			keys[size] = key;
+			tieBreakers[size] = tieBreaker;
+			slots[size] = slot;
+			siftUp(size++);
+			return true;
+		}
+
+		if (keys.length == 0 || compare(key, tieBreaker, 0) >= 0) {
+			return false;
+		}
+
+		keys[0] = key;
+		tieBreakers[0] = tieBreaker;
+		slots[0] = slot;
+		siftDown(0, size);
+		return true;
+	}
+
+	// 힙 정렬로 키 오름차순 정렬, 이후에는 keyAt/slotAt 으로만 읽는다
+	public void sortAscending() {
+		for (int end = size - 1; end > 0; end--) {
+			swap(0, end);
+			siftDown(0, end);
+		}
+	}
+
+	public double keyAt(int index) {
+		return keys[index];
+	}
+
+	public int slotAt(int index) {
+		return slots[index];
+	}
+
+	private void siftUp(int index) {
+		while (index > 0) {
+			int parent = (index - 1) >>> 1;
+			if (compare(keys[parent], tieBreakers[parent], index) >= 0) {
+				return;
+			}
+			swap(parent, index);
+			index = parent;
+		}
+	}
+
+	private void siftDown(int index, int end) {
+		while (true) {
+			int largest = index;
+			int left = 2 * index + 1;
+			int right = left + 1;
+			if (left < end && compare(keys[left], tieBreakers[left], largest) > 0) {
+				largest = left;
+			}
+			if (right < end && compare(keys[right], tieBreakers[right], largest) > 0) {
+				largest = right;
+			}
+			if (largest == index) {
+				return;
+			}
+			swap(index, largest);
+			index = largest;
+		}
+	}
+
+	private int compare(double key, long tieBreaker, int index) {
+		int result = Double.compare(key, keys[index]);
+		return result != 0 ? result : Long.compare(tieBreaker, tieBreakers[index]);
+	}
+
+	private void swap(int i, int j) {
+		double key = keys[i];
+		keys[i] = keys[j];
+		keys[j] = key;
+
+		long tieBreaker = tieBreakers[i];
+		tieBreakers[i] = tieBreakers[j];
+		tieBreakers[j] = tieBreaker;
+
+		int slot = slots[i];
+		slots[i] = slots[j];
+		slots[j] = slot;
+	}
+}
@@ -0,0 +1,55 @@
+package com.ijaes.jeogiyo.store.repository;
+
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 매장별 평점 집계 (별점별 리뷰 수와 평점 합계/개수), 두 집계의 차이(변화량)도 같은 모양으로 나타낸다
+@Getter
+@AllArgsConstructor
+public class RatingAggregate {
+
+	public static final int STAR_LEVELS = 5;
+
+	private final UUID storeId;
+
+	// 인덱스 0 이 1점
+	private final long[] starCounts;
+
+	private final long ratingSum;
+
+	private final long ratingCount;
+
+	public static RatingAggregate fromStarCounts(UUID storeId, long[] starCounts) {
+		long ratingSum = 0;
+		long ratingCount = 0;
+		for (int i = 0; i < STAR_LEVELS; i++) {
+			ratingSum += (i + 1) * starCounts[i];
+			ratingCount += starCounts[i];
+		}
+		return new RatingAggregate(storeId, starCounts, ratingSum, ratingCount);
+	}
+
+	public RatingAggregate minus(RatingAggregate other) {
+		long[] starCountDeltas = new long[STAR_LEVELS];
+		for (int i = 0; i < STAR_LEVELS; i++) {
+			starCountDeltas[i] = starCounts[i] - other.starCounts[i];
+		}
+		return new RatingAggregate(storeId, starCountDeltas, ratingSum - other.ratingSum,
+			ratingCount - other.ratingCount);
+	}
+
+	public RatingAggregate negate() {
+		return new RatingAggregate(storeId, new long[STAR_LEVELS], 0, 0).minus(this);
+	}
+
+	public boolean isZero() {
+		for (long starCount : starCounts) {
+			if (starCount != 0) {
+				return false;
+			}
+		}
+		return ratingSum == 0 && ratingCount == 0;
+	}
+}
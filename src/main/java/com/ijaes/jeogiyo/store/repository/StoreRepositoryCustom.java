@@ -1,13 +1,22 @@
 package com.ijaes.jeogiyo.store.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import com.ijaes.jeogiyo.store.cache.StoreSummary;
+import com.ijaes.jeogiyo.store.dto.response.RatingHistogramResponse;
 import com.ijaes.jeogiyo.store.dto.response.StoreDetailResponse;
+import com.ijaes.jeogiyo.store.dto.response.StoreResponse;
+import com.ijaes.jeogiyo.store.entity.Category;
 import com.ijaes.jeogiyo.store.entity.Store;
+import com.ijaes.jeogiyo.store.index.RatedStore;
+import com.ijaes.jeogiyo.store.index.SearchableStore;
+import com.ijaes.jeogiyo.store.index.StoreCoordinates;
 
 public interface StoreRepositoryCustom {
 
@@ -19,10 +28,30 @@ public interface StoreRepositoryCustom {
 
 	Optional<Store> findByIdNotDeleted(UUID id);
 
-	Page<Store> findAllNotDeleted(Pageable pageable);
+	Page<StoreResponse> findStoreResponsesNotDeleted(Category category, Double latitude, Double longitude,
+		Pageable pageable);
 
-	Page<Store> findAllIncludingDeleted(Pageable pageable);
+	List<StoreResponse> findStoreResponsesByIds(Collection<UUID> ids, Double latitude, Double longitude);
 
-	Page<Store> searchStores(String query, Pageable pageable);
+	List<StoreSummary> findStoreSummariesByIds(Collection<UUID> ids);
+
+	StoreCoordinates findAllCoordinatesNotDeleted(Category category);
+
+	List<RatedStore> findAllRatesNotDeleted();
+
+	List<SearchableStore> findAllSearchableNotDeleted();
+
+	Page<StoreResponse> findNearby(double latitude, double longitude, double radiusKm, Category category,
+		Pageable pageable);
+
+	Page<StoreResponse> findStoreResponsesIncludingDeleted(Pageable pageable);
+
+	Page<Store> searchStores(String query, Category category, Pageable pageable);
+
+	void applyRatingDeltas(List<RatingAggregate> deltas);
+
+	List<RatingAggregate> findAllRatingAggregates();
+
+	Optional<RatingHistogramResponse> findRatingHistogram(UUID storeId);
 
 }
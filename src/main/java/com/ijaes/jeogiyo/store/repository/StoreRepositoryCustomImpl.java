@@ -1,29 +1,65 @@
 package com.ijaes.jeogiyo.store.repository;
 
 import java.util.ArrayList;
-import java.util.LinkedHashSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
+import com.ijaes.jeogiyo.common.util.GeoUtils;
 import com.ijaes.jeogiyo.menu.entity.QMenu;
 import com.ijaes.jeogiyo.review.entity.QReview;
+import com.ijaes.jeogiyo.store.cache.StoreSummary;
+import com.ijaes.jeogiyo.store.dto.response.RatingHistogramResponse;
 import com.ijaes.jeogiyo.store.dto.response.StoreDetailResponse;
+import com.ijaes.jeogiyo.store.dto.response.StoreResponse;
+import com.ijaes.jeogiyo.store.entity.Category;
 import com.ijaes.jeogiyo.store.entity.QStore;
 import com.ijaes.jeogiyo.store.entity.Store;
+import com.ijaes.jeogiyo.store.index.RatedStore;
+import com.ijaes.jeogiyo.store.index.SearchableStore;
+import com.ijaes.jeogiyo.store.index.StoreCoordinates;
+import com.ijaes.jeogiyo.store.index.TopKHeap;
 import com.ijaes.jeogiyo.user.entity.QUser;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.querydsl.jpa.impl.JPAUpdateClause;
 
-import lombok.RequiredArgsConstructor;
-
-@RequiredArgsConstructor
 public class StoreRepositoryCustomImpl implements StoreRepositoryCustom {
 
+	// MySQL ngram_token_size 기본값, 이보다 짧은 검색어는 FULLTEXT 인덱스로 찾을 수 없다
+	private static final int NGRAM_TOKEN_SIZE = 2;
+
 	private final JPAQueryFactory queryFactory;
+	private final StoreSearchBackend searchBackend;
+
+	public StoreRepositoryCustomImpl(JPAQueryFactory queryFactory,
+		@Value("${store.search.backend:like}") StoreSearchBackend searchBackend) {
+		this.queryFactory = queryFactory;
+		this.searchBackend = searchBackend;
+	}
 
 	@Override
 	public Optional<StoreDetailResponse> findStoreDetailById(UUID storeId) {
@@ -106,18 +142,20 @@ public class StoreRepositoryCustomImpl implements StoreRepositoryCustom {
 	}
 
 	@Override
-	public Page<Store> findAllNotDeleted(Pageable pageable) {
+	public Page<StoreResponse> findStoreResponsesNotDeleted(Category category, Double latitude, Double longitude,
+		Pageable pageable) {
 		QStore store = QStore.store;
 
 		Long total = queryFactory
 			.select(store.count())
 			.from(store)
-			.where(store.deletedAt.isNull())
+			.where(categoryEq(category, store), store.deletedAt.isNull())
 			.fetchOne();
 
 		var query = queryFactory
-			.selectFrom(store)
-			.where(store.deletedAt.isNull())
+			.select(storeResponseColumns(store))
+			.from(store)
+			.where(categoryEq(category, store), store.deletedAt.isNull())
 			.offset(pageable.getOffset())
 			.limit(pageable.getPageSize());
 
@@ -131,13 +169,205 @@ public class StoreRepositoryCustomImpl implements StoreRepositoryCustom {
 			query.orderBy(store.createdAt.desc());
 		}
 
-		var content = query.fetch();
+		var content = query.fetch().stream()
+			.map(row -> toStoreResponse(row, store, latitude, longitude))
+			.toList();
 
 		return new PageImpl<>(content, pageable, total == null ? 0 : total);
 	}
 
 	@Override
-	public Page<Store> findAllIncludingDeleted(Pageable pageable) {
+	public List<StoreResponse> findStoreResponsesByIds(Collection<UUID> ids, Double latitude, Double longitude) {
+		QStore store = QStore.store;
+
+		if (ids.isEmpty()) {
+			return List.of();
+		}
+
+		return queryFactory
+			.select(storeResponseColumns(store))
+			.from(store)
+			.where(
+				store.id.in(ids),
+				store.deletedAt.isNull()
+			)
+			.fetch().stream()
+			.map(row -> toStoreResponse(row, store, latitude, longitude))
+			.toList();
+	}
+
+	@Override
+	public List<StoreSummary> findStoreSummariesByIds(Collection<UUID> ids) {
+		QStore store = QStore.store;
+
+		if (ids.isEmpty()) {
+			return List.of();
+		}
+
+		return queryFactory
+			.select(storeResponseColumns(store))
+			.from(store)
+			.where(
+				store.id.in(ids),
+				store.deletedAt.isNull()
+			)
+			.fetch().stream()
+			.map(row -> toStoreSummary(row, store))
+			.toList();
+	}
+
+	@Override
+	public StoreCoordinates findAllCoordinatesNotDeleted(Category category) {
+		QStore store = QStore.store;
+
+		List<Tuple> rows = queryFactory
+			.select(store.id, store.category, store.latitude, store.longitude)
+			.from(store)
+			.where(
+				categoryEq(category, store),
+				store.latitude.isNotNull(),
+				store.longitude.isNotNull(),
+				store.deletedAt.isNull()
+			)
+			.fetch();
+
+		UUID[] storeIds = new UUID[rows.size()];
+		Category[] categories = new Category[rows.size()];
+		double[] latitudes = new double[rows.size()];
+		double[] longitudes = new double[rows.size()];
+		for (int i = 0; i < rows.size(); i++) {
+			Tuple row = rows.get(i);
+			storeIds[i] = row.get(store.id);
+			categories[i] = row.get(store.category);
+			latitudes[i] = row.get(store.latitude);
+			longitudes[i] = row.get(store.longitude);
+		}
+
+		return new StoreCoordinates(storeIds, categories, latitudes, longitudes);
+	}
+
+	@Override
+	public List<RatedStore> findAllRatesNotDeleted() {
+		QStore store = QStore.store;
+
+		return queryFactory
+			.select(Projections.constructor(RatedStore.class, store.id, store.category, store.rate))
+			.from(store)
+			.where(store.deletedAt.isNull())
+			.fetch();
+	}
+
+	@Override
+	public List<SearchableStore> findAllSearchableNotDeleted() {
+		QStore store = QStore.store;
+
+		return queryFactory
+			.select(Projections.constructor(SearchableStore.class, store.id, store.name, store.category, store.rate,
+				store.latitude, store.longitude))
+			.from(store)
+			.where(store.deletedAt.isNull())
+			.orderBy(store.createdAt.asc(), store.id.asc())
+			.fetch();
+	}
+
+	@Override
+	public Page<StoreResponse> findNearby(double latitude, double longitude, double radiusKm, Category category,
+		Pageable pageable) {
+		QStore store = QStore.store;
+
+		double latitudeDelta = GeoUtils.latitudeDelta(radiusKm);
+		double longitudeDelta = GeoUtils.longitudeDelta(latitude, radiusKm);
+
+		BooleanBuilder boundingBox = new BooleanBuilder()
+			.and(store.latitude.between(latitude - latitudeDelta, latitude + latitudeDelta));
+		// 날짜변경선을 넘는 경우에는 경도 조건 없이 위도 범위만으로 거른다
+		if (longitude - longitudeDelta >= -180.0 && longitude + longitudeDelta <= 180.0) {
+			boundingBox.and(store.longitude.between(longitude - longitudeDelta, longitude + longitudeDelta));
+		}
+
+		// 박스 안의 후보는 ID/좌표/평점만 조회하고, 페이지에 포함된 매장만 엔티티로 가져온다
+		List<Tuple> candidates = queryFactory
+			.select(store.id, store.latitude, store.longitude, store.rate)
+			.from(store)
+			.where(
+				boundingBox,
+				categoryEq(category, store),
+				store.deletedAt.isNull()
+			)
+			.fetch();
+
+		int count = 0;
+		UUID[] storeIds = new UUID[candidates.size()];
+		double[] distances = new double[candidates.size()];
+		double[] rates = new double[candidates.size()];
+		for (Tuple candidate : candidates) {
+			double distance = GeoUtils.distanceKm(latitude, longitude, candidate.get(store.latitude),
+				candidate.get(store.longitude));
+			if (distance <= radiusKm) {
+				storeIds[count] = candidate.get(store.id);
+				distances[count] = distance;
+				rates[count] = candidate.get(store.rate);
+				count++;
+			}
+		}
+
+		int offset = (int)Math.min(pageable.getOffset(), count);
+		int end = (int)Math.min(pageable.getOffset() + pageable.getPageSize(), count);
+		Sort.Order rateOrder = pageable.getSort().getOrderFor("rate");
+		int[] pageSlots = rateOrder != null
+			? selectByRate(rates, distances, count, offset, end, rateOrder)
+			: selectByDistance(distances, count, offset, end);
+
+		List<UUID> pageIds = new ArrayList<>(pageSlots.length);
+		for (int slot : pageSlots) {
+			pageIds.add(storeIds[slot]);
+		}
+		Map<UUID, StoreResponse> responsesById = findStoreResponsesByIds(pageIds, latitude, longitude).stream()
+			.collect(Collectors.toMap(StoreResponse::getId, Function.identity()));
+
+		List<StoreResponse> content = new ArrayList<>(pageSlots.length);
+		for (int slot : pageSlots) {
+			StoreResponse response = responsesById.get(storeIds[slot]);
+			if (response != null) {
+				content.add(response);
+			}
+		}
+
+		return new PageImpl<>(content, pageable, count);
+	}
+
+	private int[] selectByDistance(double[] distances, int count, int offset, int end) {
+		TopKHeap heap = new TopKHeap(end);
+		for (int i = 0; i < count; i++) {
+			heap.offer(distances[i], i);
+		}
+		return pageSlots(heap, offset, end);
+	}
+
+	// 평점순도 거리순과 같이 (page + 1) * size 개만 힙에 남긴다, 내림차순은 평점 부호를 뒤집어 키로 쓰고 같은 평점은 가까운 순
+	// 거리는 0 이상이라 double 비트 값을 long 으로 비교해도 순서가 같다
+	private int[] selectByRate(double[] rates, double[] distances, int count, int offset, int end,
+		Sort.Order rateOrder) {
+		TopKHeap heap = new TopKHeap(end);
+		for (int i = 0; i < count; i++) {
+			double key = rateOrder.isAscending() ? rates[i] : -rates[i];
+			heap.offer(key, Double.doubleToLongBits(distances[i]), i);
+		}
+		return pageSlots(heap, offset, end);
+	}
+
+	private int[] pageSlots(TopKHeap heap, int offset, int end) {
+		heap.sortAscending();
+
+		int[] pageSlots = new int[end - offset];
+		for (int i = offset; i < end; i++) {
+			pageSlots[i - offset] = heap.slotAt(i);
+		}
+		return pageSlots;
+	}
+
+	@Override
+	public Page<StoreResponse> findStoreResponsesIncludingDeleted(Pageable pageable) {
 		QStore store = QStore.store;
 
 		Long total = queryFactory
@@ -146,7 +376,18 @@ public class StoreRepositoryCustomImpl implements StoreRepositoryCustom {
 			.fetchOne();
 
 		var content = queryFactory
-			.selectFrom(store)
+			.select(Projections.constructor(
+				StoreResponse.class,
+				store.id,
+				store.businessNumber,
+				store.name,
+				store.address,
+				store.description,
+				store.category.stringValue(),
+				store.rate,
+				store.owner.id
+			))
+			.from(store)
 			.orderBy(store.createdAt.desc())
 			.offset(pageable.getOffset())
 			.limit(pageable.getPageSize())
@@ -155,39 +396,231 @@ public class StoreRepositoryCustomImpl implements StoreRepositoryCustom {
 		return new PageImpl<>(content, pageable, total == null ? 0 : total);
 	}
 
+	// 다른 리뷰 이벤트와 동시에 실행돼도 잃어버리는 갱신이 없도록 UPDATE 한 문장으로 더한다
+	// 매장마다 다른 변화량은 CASE 로 골라 여러 매장을 한 번에 갱신한다
+	// MySQL 은 SET 을 왼쪽부터 평가하므로 평균을 먼저 계산해 갱신 전 합계/개수를 읽게 한다
+	@Override
+	public void applyRatingDeltas(List<RatingAggregate> deltas) {
+		if (deltas.isEmpty()) {
+			return;
+		}
+
+		QStore store = QStore.store;
+		NumberExpression<Long> ratingSum = addDelta(store.ratingSum,
+			deltaByStore(store, deltas, RatingAggregate::getRatingSum));
+		NumberExpression<Long> ratingCount = addDelta(store.ratingCount,
+			deltaByStore(store, deltas, RatingAggregate::getRatingCount));
+
+		JPAUpdateClause update = queryFactory
+			.update(store)
+			.set(store.rate, new CaseBuilder()
+				.when(ratingCount.gt(0L)).then(ratingSum.doubleValue().divide(ratingCount))
+				.otherwise(0.0))
+			.set(store.ratingSum, ratingSum)
+			.set(store.ratingCount, ratingCount);
+
+		List<NumberPath<Long>> starCountPaths = starCountPaths(store);
+		for (int i = 0; i < RatingAggregate.STAR_LEVELS; i++) {
+			int star = i;
+			NumberExpression<Long> starCountDelta = deltaByStore(store, deltas, delta -> delta.getStarCounts()[star]);
+			if (starCountDelta != null) {
+				update.set(starCountPaths.get(i), starCountPaths.get(i).add(starCountDelta));
+			}
+		}
+
+		update.where(store.id.in(deltas.stream().map(RatingAggregate::getStoreId).toList())).execute();
+	}
+
+	@Override
+	public List<RatingAggregate> findAllRatingAggregates() {
+		QStore store = QStore.store;
+		List<NumberPath<Long>> starCountPaths = starCountPaths(store);
+
+		return queryFactory
+			.select(store.id, store.ratingSum, store.ratingCount, starCountPaths.get(0), starCountPaths.get(1),
+				starCountPaths.get(2), starCountPaths.get(3), starCountPaths.get(4))
+			.from(store)
+			.fetch()
+			.stream()
+			.map(row -> new RatingAggregate(row.get(store.id), starCounts(row, starCountPaths),
+				row.get(store.ratingSum), row.get(store.ratingCount)))
+			.toList();
+	}
+
 	@Override
-	public Page<Store> searchStores(String query, Pageable pageable) {
+	public Optional<RatingHistogramResponse> findRatingHistogram(UUID storeId) {
+		QStore store = QStore.store;
+		List<NumberPath<Long>> starCountPaths = starCountPaths(store);
+
+		Tuple row = queryFactory
+			.select(store.rate, store.ratingCount, starCountPaths.get(0), starCountPaths.get(1),
+				starCountPaths.get(2), starCountPaths.get(3), starCountPaths.get(4))
+			.from(store)
+			.where(store.id.eq(storeId), store.deletedAt.isNull())
+			.fetchOne();
+
+		if (row == null) {
+			return Optional.empty();
+		}
+		return Optional.of(RatingHistogramResponse.builder()
+			.storeId(storeId)
+			.rate(row.get(store.rate))
+			.ratingCount(row.get(store.ratingCount))
+			.starCounts(Arrays.stream(starCounts(row, starCountPaths)).boxed().toList())
+			.build());
+	}
+
+	// 1점부터 5점 순서
+	// 변화량이 있는 매장만 CASE 에 넣고, 어느 매장도 바뀌지 않은 컬럼은 null
+	private NumberExpression<Long> deltaByStore(QStore store, List<RatingAggregate> deltas,
+		ToLongFunction<RatingAggregate> deltaOf) {
+		CaseBuilder.Cases<Long, NumberExpression<Long>> cases = null;
+		for (RatingAggregate delta : deltas) {
+			long value = deltaOf.applyAsLong(delta);
+			if (value == 0) {
+				continue;
+			}
+			cases = cases == null
+				? new CaseBuilder().when(store.id.eq(delta.getStoreId())).then(value)
+				: cases.when(store.id.eq(delta.getStoreId())).then(value);
+		}
+		return cases == null ? null : cases.otherwise(0L);
+	}
+
+	private NumberExpression<Long> addDelta(NumberPath<Long> path, NumberExpression<Long> delta) {
+		return delta == null ? path : path.add(delta);
+	}
+
+	private List<NumberPath<Long>> starCountPaths(QStore store) {
+		return List.of(store.rating1Count, store.rating2Count, store.rating3Count, store.rating4Count,
+			store.rating5Count);
+	}
+
+	private long[] starCounts(Tuple row, List<NumberPath<Long>> starCountPaths) {
+		return starCountPaths.stream().mapToLong(path -> row.get(path)).toArray();
+	}
+
+	@Override
+	public Page<Store> searchStores(String query, Category category, Pageable pageable) {
+		if (searchBackend == StoreSearchBackend.FULLTEXT && query.strip().length() >= NGRAM_TOKEN_SIZE) {
+			return searchStoresByFulltext(query, category, pageable);
+		}
+		return searchStoresByLike(query, category, pageable);
+	}
+
+	private Page<Store> searchStoresByLike(String query, Category category, Pageable pageable) {
 		QStore store = QStore.store;
 		QMenu menu = QMenu.menu;
 
-		var storesByMenu = queryFactory
-			.select(store)
+		// 메뉴명이 일치하는 매장을 먼저, 그 다음 매장명만 일치하는 매장을 보여준다
+		BooleanExpression menuMatches = JPAExpressions
+			.selectOne()
 			.from(menu)
-			.innerJoin(store).on(menu.store.id.eq(store.id))
 			.where(
+				menu.store.id.eq(store.id),
 				menu.name.containsIgnoreCase(query),
-				menu.deletedAt.isNull(),
-				store.deletedAt.isNull()
+				menu.deletedAt.isNull()
 			)
-			.distinct()
-			.fetch();
+			.exists();
+		BooleanExpression searchCondition = menuMatches.or(store.name.containsIgnoreCase(query));
 
-		var storesByName = queryFactory
-			.selectFrom(store)
+		return fetchSearchPage(searchCondition, menuMatches, null, category, pageable);
+	}
+
+	// 메뉴 일치 매장을 먼저, 같은 그룹 안에서는 매장명 관련도 순으로 보여준다
+	private Page<Store> searchStoresByFulltext(String query, Category category, Pageable pageable) {
+		QStore store = QStore.store;
+		QMenu menu = QMenu.menu;
+		String phrase = toFulltextPhrase(query);
+
+		// 상관 서브쿼리 대신 IN 으로 두어 메뉴 FULLTEXT 검색을 한 번만 수행
+		BooleanExpression menuMatches = store.id.in(JPAExpressions
+			.select(menu.store.id)
+			.from(menu)
 			.where(
-				store.name.containsIgnoreCase(query),
-				store.deletedAt.isNull()
-			)
+				matchAgainst(menu.name, phrase).gt(0),
+				menu.deletedAt.isNull()
+			));
+		NumberExpression<Double> nameScore = matchAgainst(store.name, phrase);
+		BooleanExpression searchCondition = menuMatches.or(nameScore.gt(0));
+
+		return fetchSearchPage(searchCondition, menuMatches, nameScore, category, pageable);
+	}
+
+	private Page<Store> fetchSearchPage(BooleanExpression searchCondition, BooleanExpression menuMatches,
+		NumberExpression<Double> nameScore, Category category, Pageable pageable) {
+		QStore store = QStore.store;
+
+		Long total = queryFactory
+			.select(store.count())
+			.from(store)
+			.where(searchCondition, categoryEq(category, store), store.deletedAt.isNull())
+			.fetchOne();
+
+		List<OrderSpecifier<?>> orders = new ArrayList<>();
+		orders.add(new CaseBuilder().when(menuMatches).then(0).otherwise(1).asc());
+		if (nameScore != null) {
+			orders.add(nameScore.desc());
+		}
+		orders.add(store.createdAt.desc());
+		orders.add(store.id.asc());
+
+		var content = queryFactory
+			.selectFrom(store)
+			.where(searchCondition, categoryEq(category, store), store.deletedAt.isNull())
+			.orderBy(orders.toArray(OrderSpecifier[]::new))
+			.offset(pageable.getOffset())
+			.limit(pageable.getPageSize())
 			.fetch();
 
-		var allStores = new LinkedHashSet<>(storesByMenu);
-		allStores.addAll(storesByName);
-		var uniqueStores = new ArrayList<>(allStores);
+		return new PageImpl<>(content, pageable, total == null ? 0 : total);
+	}
+
+	// MySqlFunctionContributor 에 등록한 match_against 함수 (boolean mode)
+	private NumberExpression<Double> matchAgainst(StringPath column, String phrase) {
+		return Expressions.numberTemplate(Double.class, "function('match_against', {0}, {1})", column, phrase);
+	}
+
+	// ngram 토큰이 연속으로 나와야 일치하도록 구문 검색으로 감싼다 (LIKE '%q%' 와 비슷한 결과)
+	private String toFulltextPhrase(String query) {
+		return "\"" + query.strip().replace("\"", " ") + "\"";
+	}
 
-		int start = (int)pageable.getOffset();
-		int end = Math.min(start + pageable.getPageSize(), uniqueStores.size());
-		var paginatedStores = uniqueStores.subList(start, end);
+	// 목록 응답에 필요한 컬럼만 조회, owner 는 조인 없이 owner_id 컬럼으로 읽는다
+	private Expression<?>[] storeResponseColumns(QStore store) {
+		return new Expression<?>[] {
+			store.id,
+			store.businessNumber,
+			store.name,
+			store.address,
+			store.description,
+			store.category,
+			store.rate,
+			store.owner.id,
+			store.latitude,
+			store.longitude
+		};
+	}
+
+	private StoreResponse toStoreResponse(Tuple row, QStore store, Double latitude, Double longitude) {
+		return toStoreSummary(row, store).toResponse(latitude, longitude);
+	}
+
+	private StoreSummary toStoreSummary(Tuple row, QStore store) {
+		StoreResponse response = StoreResponse.builder()
+			.id(row.get(store.id))
+			.businessNumber(row.get(store.businessNumber))
+			.name(row.get(store.name))
+			.address(row.get(store.address))
+			.description(row.get(store.description))
+			.category(row.get(store.category).name())
+			.rate(row.get(store.rate))
+			.ownerId(row.get(store.owner.id))
+			.build();
+		return new StoreSummary(response, row.get(store.latitude), row.get(store.longitude));
+	}
 
-		return new PageImpl<>(paginatedStores, pageable, uniqueStores.size());
+	private BooleanExpression categoryEq(Category category, QStore store) {
+		return category == null ? null : store.category.eq(category);
 	}
 }
@@ -0,0 +1,11 @@
+package com.ijaes.jeogiyo.store.repository;
+
+// 매장 검색 DB 쿼리 방식 (store.search.backend)
+public enum StoreSearchBackend {
+
+	// LIKE '%q%' 부분 문자열 검색 (H2/테스트 포함 모든 DB)
+	LIKE,
+
+	// MySQL FULLTEXT(ngram parser) 인덱스의 MATCH ... AGAINST 검색
+	FULLTEXT
+}
@@ -0,0 +1,47 @@
+package com.ijaes.jeogiyo.store.scheduler;
+
+import java.util.List;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.ijaes.jeogiyo.store.index.RatedStore;
+import com.ijaes.jeogiyo.store.index.StoreAutocompleteIndex;
+import com.ijaes.jeogiyo.store.index.StoreRateIndex;
+import com.ijaes.jeogiyo.store.repository.StoreRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreIndexScheduler {
+
+	private final StoreRepository storeRepository;
+	private final StoreRateIndex storeRateIndex;
+	private final StoreAutocompleteIndex storeAutocompleteIndex;
+
+	// 이벤트 유실 등으로 어긋난 평점 인덱스를 DB 기준으로 복구
+	@Scheduled(fixedDelayString = "${store.index.reconcile-interval-ms:300000}",
+		initialDelayString = "${store.index.reconcile-interval-ms:300000}")
+	public void reconcileRateIndex() {
+		if (!storeRateIndex.isLoaded()) {
+			return;
+		}
+
+		long snapshotVersion = storeRateIndex.currentVersion();
+		List<RatedStore> snapshot = storeRepository.findAllRatesNotDeleted();
+		int repaired = storeRateIndex.reconcile(snapshot, snapshotVersion);
+
+		if (repaired > 0) {
+			log.warn("Store rate index reconciled: {} entries repaired", repaired);
+		}
+	}
+
+	// 자동완성 트라이는 조회 스레드가 아닌 여기서만 다시 만든다, 그 사이의 변경은 한 번에 반영된다
+	@Scheduled(fixedDelayString = "${store.autocomplete.rebuild-interval-ms:1000}")
+	public void rebuildAutocompleteIndex() {
+		storeAutocompleteIndex.rebuildIfDirty();
+	}
+}
@@ -0,0 +1,80 @@
+package com.ijaes.jeogiyo.store.scheduler;
+
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.ijaes.jeogiyo.store.event.StoreRatingDeltaBuffer;
+import com.ijaes.jeogiyo.store.repository.RatingAggregate;
+import com.ijaes.jeogiyo.store.service.StoreRatingService;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreRatingScheduler {
+
+	private final StoreRatingService storeRatingService;
+	private final StoreRatingDeltaBuffer storeRatingDeltaBuffer;
+
+	// 변화량 반영과 집계 보정이 동시에 돌지 않도록 막는다 (보정은 시작 시 다른 스레드에서도 실행됨)
+	private final ReentrantLock lock = new ReentrantLock();
+
+	// 리뷰 이벤트로 쌓인 매장별 변화량을 짧은 주기로 한 번에 반영
+	@Scheduled(fixedDelayString = "${store.rating.flush-interval-ms:500}")
+	public void flushRatingDeltas() {
+		lock.lock();
+		try {
+			flush();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	// 종료 직전에 남은 변화량을 반영, 여기서도 실패하면 다음 보정 때 맞춰진다
+	@PreDestroy
+	public void flushOnShutdown() {
+		flushRatingDeltas();
+	}
+
+	// 이벤트 유실 등으로 어긋난 평점 합계/개수를 매일 새벽 리뷰 기준으로 다시 계산
+	// 배포 직후 합계/개수 컬럼이 비어 있는 매장을 채우기 위해 시작 시에도 한 번 수행
+	// 쌓여 있는 변화량을 먼저 반영해야 이미 커밋된 리뷰를 보정과 반영에서 두 번 더하지 않는다
+	@EventListener(ApplicationReadyEvent.class)
+	@Scheduled(cron = "${store.rating.reconcile-cron:0 0 4 * * *}")
+	public void reconcileRatingAggregates() {
+		int repaired;
+		lock.lock();
+		try {
+			flush();
+			repaired = storeRatingService.reconcileAggregates();
+		} finally {
+			lock.unlock();
+		}
+
+		if (repaired > 0) {
+			log.warn("Store rating aggregates reconciled: {} stores repaired", repaired);
+		}
+	}
+
+	private void flush() {
+		List<RatingAggregate> deltas = storeRatingDeltaBuffer.drain();
+		if (deltas.isEmpty()) {
+			return;
+		}
+
+		try {
+			storeRatingService.applyDeltas(deltas);
+		} catch (RuntimeException e) {
+			storeRatingDeltaBuffer.restore(deltas);
+			log.warn("Store rating deltas flush failed, {} stores will be retried", deltas.size(), e);
+		}
+	}
+}
@@ -0,0 +1,30 @@
+package com.ijaes.jeogiyo.store.scheduler;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.ijaes.jeogiyo.store.service.StoreUserService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreSearchWarmUpScheduler {
+
+	private static final int WARM_UP_SIZE = 50;
+
+	private final StoreUserService storeUserService;
+
+	// 검색 결과 캐시 TTL(기본 60초)보다 짧은 주기로 인기 검색 결과를 다시 계산해 둔다
+	@Scheduled(fixedDelayString = "${store.search-trend.warm-up-interval-ms:30000}",
+		initialDelayString = "${store.search-trend.warm-up-interval-ms:30000}")
+	public void warmUpSearchCache() {
+		int warmed = storeUserService.warmUpSearchCache(WARM_UP_SIZE);
+
+		if (warmed > 0) {
+			log.debug("Store search cache warmed up: {} entries", warmed);
+		}
+	}
+}
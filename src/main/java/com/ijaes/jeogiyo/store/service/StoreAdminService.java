@@ -1,7 +1,9 @@
 package com.ijaes.jeogiyo.store.service;
 
+import java.util.List;
 import java.util.UUID;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -12,10 +14,13 @@ import org.springframework.transaction.annotation.Transactional;
 import com.ijaes.jeogiyo.common.exception.CustomException;
 import com.ijaes.jeogiyo.common.exception.ErrorCode;
 import com.ijaes.jeogiyo.store.dto.request.UpdateStoreRequest;
+import com.ijaes.jeogiyo.store.dto.response.SearchTrendResponse;
 import com.ijaes.jeogiyo.store.dto.response.StoreResponse;
 import com.ijaes.jeogiyo.store.entity.Category;
 import com.ijaes.jeogiyo.store.entity.Store;
+import com.ijaes.jeogiyo.store.event.StoreEvent;
 import com.ijaes.jeogiyo.store.repository.StoreRepository;
+import com.ijaes.jeogiyo.store.trend.StoreSearchTrendTracker;
 
 import lombok.RequiredArgsConstructor;
 
@@ -24,6 +29,8 @@ import lombok.RequiredArgsConstructor;
 public class StoreAdminService {
 
 	private final StoreRepository storeRepository;
+	private final ApplicationEventPublisher eventPublisher;
+	private final StoreSearchTrendTracker storeSearchTrendTracker;
 
 	@Transactional
 	public StoreResponse updateStore(UUID storeId, UpdateStoreRequest request) {
@@ -52,6 +59,7 @@ public class StoreAdminService {
 		}
 
 		storeRepository.save(store);
+		eventPublisher.publishEvent(StoreEvent.from(store));
 		return StoreResponse.fromEntity(store);
 	}
 
@@ -62,6 +70,7 @@ public class StoreAdminService {
 
 		store.softDelete();
 		storeRepository.save(store);
+		eventPublisher.publishEvent(StoreEvent.from(store));
 	}
 
 	@Transactional(readOnly = true)
@@ -69,9 +78,16 @@ public class StoreAdminService {
 		Sort.Direction sortDirection = Sort.Direction.fromString(direction.toUpperCase());
 		Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
 
-		Page<Store> stores = storeRepository.findAllIncludingDeleted(pageable);
+		return storeRepository.findStoreResponsesIncludingDeleted(pageable);
+	}
+
+	public List<SearchTrendResponse> getSearchTrends(int minutes, int size) {
+		if (minutes <= 0 || size <= 0) {
+			throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+		}
 
-		return stores.map(StoreResponse::fromEntity);
+		return storeSearchTrendTracker.trendingQueries(minutes, size).stream()
+			.map(SearchTrendResponse::from)
+			.toList();
 	}
 }
-
@@ -1,5 +1,6 @@
 package com.ijaes.jeogiyo.store.service;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -12,6 +13,7 @@ import com.ijaes.jeogiyo.store.dto.request.UpdateStoreRequest;
 import com.ijaes.jeogiyo.store.dto.response.StoreResponse;
 import com.ijaes.jeogiyo.store.entity.Category;
 import com.ijaes.jeogiyo.store.entity.Store;
+import com.ijaes.jeogiyo.store.event.StoreEvent;
 import com.ijaes.jeogiyo.store.repository.StoreRepository;
 import com.ijaes.jeogiyo.user.entity.Role;
 import com.ijaes.jeogiyo.user.entity.User;
@@ -24,6 +26,7 @@ public class StoreOwnerService {
 
 	private final StoreRepository storeRepository;
 	private final NaverGeocodeClient naverGeocodeClient;
+	private final ApplicationEventPublisher eventPublisher;
 
 	@Transactional
 	public StoreResponse createStore(Authentication authentication, CreateStoreRequest request) {
@@ -52,6 +55,7 @@ public class StoreOwnerService {
 				.build();
 
 			Store savedStore = storeRepository.save(store);
+			eventPublisher.publishEvent(StoreEvent.from(savedStore));
 
 			return toStoreResponse(savedStore);
 		} catch (IllegalArgumentException e) {
@@ -102,6 +106,7 @@ public class StoreOwnerService {
 		}
 
 		storeRepository.save(store);
+		eventPublisher.publishEvent(StoreEvent.from(store));
 		return toStoreResponse(store);
 	}
 
@@ -0,0 +1,114 @@
+package com.ijaes.jeogiyo.store.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ijaes.jeogiyo.review.repository.ReviewRepositoryCustom;
+import com.ijaes.jeogiyo.store.cache.StoreDetailCache;
+import com.ijaes.jeogiyo.store.cache.StoreSummaryCache;
+import com.ijaes.jeogiyo.store.entity.Store;
+import com.ijaes.jeogiyo.store.event.StoreRatingDeltaBuffer;
+import com.ijaes.jeogiyo.store.index.StoreAutocompleteIndex;
+import com.ijaes.jeogiyo.store.index.StoreRateIndex;
+import com.ijaes.jeogiyo.store.index.StoreSearchIndex;
+import com.ijaes.jeogiyo.store.repository.RatingAggregate;
+import com.ijaes.jeogiyo.store.repository.StoreRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StoreRatingService {
+
+	// 한 UPDATE 의 IN 목록과 CASE 가 너무 길어지지 않도록 나눠서 반영
+	private static final int BATCH_SIZE = 200;
+	// 집계 보정이 스냅샷을 읽기 위해 진행 중인 리뷰 커밋을 기다리는 최대 시간
+	private static final Duration COMMIT_PAUSE_TIMEOUT = Duration.ofSeconds(10);
+
+	private final StoreRepository storeRepository;
+	private final ReviewRepositoryCustom reviewRepositoryCustom;
+	private final StoreRateIndex storeRateIndex;
+	private final StoreSearchIndex storeSearchIndex;
+	private final StoreAutocompleteIndex storeAutocompleteIndex;
+	private final StoreDetailCache storeDetailCache;
+	private final StoreSummaryCache storeSummaryCache;
+	private final StoreRatingDeltaBuffer storeRatingDeltaBuffer;
+
+	// 매장별 별점 분포 변화량을 분포/합계/개수에 더하고, 새로 계산된 평점을 색인과 캐시에 반영
+	@Transactional
+	public void applyDeltas(List<RatingAggregate> deltas) {
+		for (int from = 0; from < deltas.size(); from += BATCH_SIZE) {
+			apply(deltas.subList(from, Math.min(from + BATCH_SIZE, deltas.size())));
+		}
+	}
+
+	// 리뷰 테이블에서 다시 계산한 집계와 어긋난 매장만 차이만큼 보정, 보정한 매장 수 반환
+	// 덮어쓰지 않고 변화량으로 더하므로 보정 중에 처리되는 리뷰 이벤트의 갱신을 잃지 않는다
+	// 분포와 합계/개수를 따로 비교하므로 분포 컬럼만 비어 있는 매장도 합계를 중복으로 더하지 않는다
+	// 호출 전에 버퍼를 비워 두어야 한다(StoreRatingScheduler, 반영 작업과 같은 락 안에서 호출)
+	// 스냅샷은 리뷰 커밋을 잠시 막고 읽으므로, 커밋된 리뷰의 변화량은 그 시점에 모두 버퍼에 들어와 있다
+	// 그때 버퍼에 남은 매장은 스냅샷에 이미 보이는 변화량이 아직 반영 전이라, 보정하면 이후 반영과 겹쳐 두 번 더해지므로 건너뛴다
+	@Transactional
+	public int reconcileAggregates() {
+		List<RatingAggregate> corrections = storeRatingDeltaBuffer
+			.whileCommitsPaused(COMMIT_PAUSE_TIMEOUT, this::findCorrections)
+			.orElse(null);
+		if (corrections == null) {
+			log.warn("Store rating reconcile skipped, review commits did not pause within {}", COMMIT_PAUSE_TIMEOUT);
+			return 0;
+		}
+
+		applyDeltas(corrections);
+		return corrections.size();
+	}
+
+	// 리뷰 커밋이 막힌 동안 호출되므로 조회만 한다 (DB 갱신은 커밋을 기다리는 트랜잭션의 락과 엇갈릴 수 있음)
+	private List<RatingAggregate> findCorrections() {
+		Map<UUID, RatingAggregate> actual = reviewRepositoryCustom.countRatesGroupByStore().stream()
+			.collect(Collectors.toMap(RatingAggregate::getStoreId, Function.identity()));
+
+		List<RatingAggregate> corrections = new ArrayList<>();
+		for (RatingAggregate stored : storeRepository.findAllRatingAggregates()) {
+			if (storeRatingDeltaBuffer.hasPending(stored.getStoreId())) {
+				continue;
+			}
+			RatingAggregate expected = actual.getOrDefault(stored.getStoreId(),
+				RatingAggregate.fromStarCounts(stored.getStoreId(), new long[RatingAggregate.STAR_LEVELS]));
+			RatingAggregate delta = expected.minus(stored);
+
+			if (!delta.isZero()) {
+				corrections.add(delta);
+			}
+		}
+		return corrections;
+	}
+
+	private void apply(List<RatingAggregate> deltas) {
+		storeRepository.applyRatingDeltas(deltas);
+
+		// 벌크 UPDATE 이후에 읽어야 갱신된 평점이 보인다
+		List<UUID> storeIds = deltas.stream().map(RatingAggregate::getStoreId).toList();
+		storeIds.forEach(storeId -> {
+			storeDetailCache.invalidate(storeId);
+			storeSummaryCache.invalidate(storeId);
+		});
+
+		for (Store store : storeRepository.findAllById(storeIds)) {
+			if (!store.isDeleted()) {
+				storeRateIndex.put(store.getId(), store.getCategory(), store.getRate());
+				storeSearchIndex.putRate(store.getId(), store.getRate());
+				storeAutocompleteIndex.putRate(store.getId(), store.getRate());
+			}
+		}
+	}
+}
@@ -1,8 +1,11 @@
 package com.ijaes.jeogiyo.store.service;
 
-import java.util.Comparator;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
@@ -14,12 +17,36 @@ import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.ijaes.jeogiyo.common.dto.SliceResponse;
 import com.ijaes.jeogiyo.common.exception.CustomException;
 import com.ijaes.jeogiyo.common.exception.ErrorCode;
+import com.ijaes.jeogiyo.common.util.GeoUtils;
+import com.ijaes.jeogiyo.store.cache.SearchResultPage;
+import com.ijaes.jeogiyo.store.cache.StoreDetailCache;
+import com.ijaes.jeogiyo.store.cache.StoreSearchCache;
+import com.ijaes.jeogiyo.store.cache.StoreSearchKey;
+import com.ijaes.jeogiyo.store.cache.StoreSummary;
+import com.ijaes.jeogiyo.store.cache.StoreSummaryCache;
+import com.ijaes.jeogiyo.store.dto.response.AutocompleteResponse;
+import com.ijaes.jeogiyo.store.dto.response.RatingHistogramResponse;
 import com.ijaes.jeogiyo.store.dto.response.StoreDetailResponse;
 import com.ijaes.jeogiyo.store.dto.response.StoreResponse;
+import com.ijaes.jeogiyo.store.entity.Category;
 import com.ijaes.jeogiyo.store.entity.Store;
+import com.ijaes.jeogiyo.store.index.DistanceCursor;
+import com.ijaes.jeogiyo.store.index.NearbyStore;
+import com.ijaes.jeogiyo.store.index.RatedStore;
+import com.ijaes.jeogiyo.store.index.SearchMode;
+import com.ijaes.jeogiyo.store.index.StoreAutocompleteIndex;
+import com.ijaes.jeogiyo.store.index.StoreCoordinates;
+import com.ijaes.jeogiyo.store.index.StoreGeoIndex;
+import com.ijaes.jeogiyo.store.index.StoreRateIndex;
+import com.ijaes.jeogiyo.store.index.StoreSearchIndex;
+import com.ijaes.jeogiyo.store.index.StoreSearchResult;
+import com.ijaes.jeogiyo.store.index.TopKHeap;
 import com.ijaes.jeogiyo.store.repository.StoreRepository;
+import com.ijaes.jeogiyo.store.trend.HeavyHitter;
+import com.ijaes.jeogiyo.store.trend.StoreSearchTrendTracker;
 import com.ijaes.jeogiyo.user.entity.User;
 
 import lombok.RequiredArgsConstructor;
@@ -29,9 +56,18 @@ import lombok.RequiredArgsConstructor;
 public class StoreUserService {
 
 	private final StoreRepository storeRepository;
+	private final StoreGeoIndex storeGeoIndex;
+	private final StoreRateIndex storeRateIndex;
+	private final StoreSearchIndex storeSearchIndex;
+	private final StoreAutocompleteIndex storeAutocompleteIndex;
+	private final StoreDetailCache storeDetailCache;
+	private final StoreSearchCache storeSearchCache;
+	private final StoreSummaryCache storeSummaryCache;
+	private final StoreSearchTrendTracker storeSearchTrendTracker;
 
 	@Transactional(readOnly = true)
-	public Page<StoreResponse> getAllStores(int page, int size, String sortBy, Authentication authentication) {
+	public Page<StoreResponse> getAllStores(int page, int size, String sortBy, String category, Double radiusKm,
+		Authentication authentication) {
 		User user = (User)authentication.getPrincipal();
 		Double userLatitude = user.getLatitude();
 		Double userLongitude = user.getLongitude();
@@ -40,80 +76,282 @@ public class StoreUserService {
 			throw new CustomException(ErrorCode.USER_COORDINATES_NOT_FOUND);
 		}
 
+		Category storeCategory = parseCategory(category);
+
+		if (radiusKm != null) {
+			return getStoresWithinRadius(page, size, sortBy, storeCategory, radiusKm, userLatitude, userLongitude);
+		}
+
 		if ("distance".equalsIgnoreCase(sortBy)) {
-			return getStoresSortedByDistance(page, size, userLatitude, userLongitude);
+			return getStoresSortedByDistance(page, size, storeCategory, userLatitude, userLongitude);
 		} else if ("rate".equalsIgnoreCase(sortBy)) {
-			return getStoresSortedByRate(page, size, userLatitude, userLongitude);
+			return getStoresSortedByRate(page, size, storeCategory, userLatitude, userLongitude);
 		} else {
-			return getStoresSortedByDistance(page, size, userLatitude, userLongitude);
+			return getStoresSortedByDistance(page, size, storeCategory, userLatitude, userLongitude);
+		}
+	}
+
+	@Transactional(readOnly = true)
+	public SliceResponse<StoreResponse> getStoresByDistanceCursor(String cursor, int size, String category,
+		Authentication authentication) {
+		User user = (User)authentication.getPrincipal();
+		Double userLatitude = user.getLatitude();
+		Double userLongitude = user.getLongitude();
+
+		if (userLatitude == null || userLongitude == null) {
+			throw new CustomException(ErrorCode.USER_COORDINATES_NOT_FOUND);
+		}
+		if (size <= 0) {
+			throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+		}
+
+		Category storeCategory = parseCategory(category);
+		DistanceCursor after = (cursor == null || cursor.isBlank()) ? null : DistanceCursor.decode(cursor);
+
+		// 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+		List<NearbyStore> nearbyStores = storeGeoIndex.isLoaded()
+			? findNearestFromIndex(userLatitude, userLongitude, storeCategory, after, size + 1)
+			: findNearestFromDatabase(userLatitude, userLongitude, storeCategory, after, size + 1);
+
+		boolean hasNext = nearbyStores.size() > size;
+		List<NearbyStore> pageStores = hasNext ? nearbyStores.subList(0, size) : nearbyStores;
+		String nextCursor = null;
+		if (hasNext) {
+			NearbyStore last = pageStores.get(pageStores.size() - 1);
+			nextCursor = new DistanceCursor(last.getDistance(), last.getStoreId()).encode();
 		}
+
+		return new SliceResponse<>(toStoreResponses(pageStores, userLatitude, userLongitude), nextCursor, hasNext);
 	}
 
 	@Transactional(readOnly = true)
 	public StoreDetailResponse getStoreDetail(UUID storeId) {
-		return storeRepository.findStoreDetailById(storeId)
+		return storeDetailCache.get(storeId, id -> storeRepository.findStoreDetailById(id)
+			.orElseThrow(() -> new CustomException(ErrorCode.STORE_NOT_FOUND)));
+	}
+
+	// 리뷰 이벤트로 갱신되는 매장 행의 별점별 리뷰 수를 그대로 읽는다
+	@Transactional(readOnly = true)
+	public RatingHistogramResponse getRatingHistogram(UUID storeId) {
+		return storeRepository.findRatingHistogram(storeId)
 			.orElseThrow(() -> new CustomException(ErrorCode.STORE_NOT_FOUND));
 	}
 
-	private Page<StoreResponse> getStoresSortedByDistance(int page, int size, Double userLat, Double userLon) {
-		Pageable largePageable = PageRequest.of(0, Integer.MAX_VALUE);
-		Page<Store> allStores = storeRepository.findAllNotDeleted(largePageable);
+	private Page<StoreResponse> getStoresWithinRadius(int page, int size, String sortBy, Category category,
+		double radiusKm, Double userLat, Double userLon) {
+		if (radiusKm <= 0) {
+			throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+		}
+
+		Pageable pageable = "rate".equalsIgnoreCase(sortBy)
+			? PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "rate"))
+			: PageRequest.of(page, size);
+
+		return storeRepository.findNearby(userLat, userLon, radiusKm, category, pageable);
+	}
+
+	private Page<StoreResponse> getStoresSortedByDistance(int page, int size, Category category, Double userLat,
+		Double userLon) {
+		if (!storeGeoIndex.isLoaded()) {
+			return getStoresSortedByDistanceFromDatabase(page, size, category, userLat, userLon);
+		}
 
-		List<StoreResponse> sortedStores = allStores.getContent().stream()
-			.filter(store -> store.getLatitude() != null && store.getLongitude() != null)
-			.map(store -> {
-				double distance = calculateDistance(userLat, userLon, store.getLatitude(), store.getLongitude());
-				return StoreResponse.fromEntity(store, distance);
-			})
-			.sorted(Comparator.comparingDouble(StoreResponse::getDistance))
-			.collect(Collectors.toList());
+		Pageable pageable = PageRequest.of(page, size);
+		List<NearbyStore> nearbyStores = storeGeoIndex.findNearest(userLat, userLon, category,
+			(int)pageable.getOffset(), size);
 
-		int start = page * size;
-		int end = Math.min(start + size, sortedStores.size());
-		List<StoreResponse> pageResults = start <= sortedStores.size() ? sortedStores.subList(start, end) : List.of();
+		return new PageImpl<>(toStoreResponses(nearbyStores, userLat, userLon), pageable,
+			storeGeoIndex.size(category));
+	}
 
-		return new PageImpl<>(pageResults, PageRequest.of(page, size), sortedStores.size());
+	private List<NearbyStore> findNearestFromIndex(double userLat, double userLon, Category category,
+		DistanceCursor after, int limit) {
+		return after == null
+			? storeGeoIndex.findNearest(userLat, userLon, category, 0, limit)
+			: storeGeoIndex.findNearestAfter(userLat, userLon, category, after, limit);
 	}
 
-	private Page<StoreResponse> getStoresSortedByRate(int page, int size, Double userLat, Double userLon) {
+	private List<NearbyStore> findNearestFromDatabase(double userLat, double userLon, Category category,
+		DistanceCursor after, int limit) {
+		StoreCoordinates coordinates = storeRepository.findAllCoordinatesNotDeleted(category);
+
+		TopKHeap heap = new TopKHeap(Math.min(limit, coordinates.size()));
+		for (int i = 0; i < coordinates.size(); i++) {
+			UUID storeId = coordinates.getStoreIds()[i];
+			double distance = GeoUtils.distanceKm(userLat, userLon, coordinates.getLatitudes()[i],
+				coordinates.getLongitudes()[i]);
+			if (after == null || after.isBefore(distance, storeId)) {
+				heap.offer(distance, storeId.getMostSignificantBits(), i);
+			}
+		}
+		heap.sortAscending();
+
+		List<NearbyStore> nearbyStores = new ArrayList<>(heap.size());
+		for (int i = 0; i < heap.size(); i++) {
+			nearbyStores.add(new NearbyStore(coordinates.getStoreIds()[heap.slotAt(i)], heap.keyAt(i)));
+		}
+		return nearbyStores;
+	}
+
+	private List<StoreResponse> toStoreResponses(List<NearbyStore> nearbyStores, Double userLat, Double userLon) {
+		List<UUID> storeIds = nearbyStores.stream().map(NearbyStore::getStoreId).toList();
+		return findStoreResponsesInOrder(storeIds, userLat, userLon);
+	}
+
+	// 인덱스가 정한 순서대로 응답을 만든다 (조회 사이 삭제된 매장은 제외)
+	private List<StoreResponse> findStoreResponsesInOrder(List<UUID> storeIds, Double userLat, Double userLon) {
+		Map<UUID, StoreResponse> responsesById = storeRepository.findStoreResponsesByIds(storeIds, userLat, userLon)
+			.stream()
+			.collect(Collectors.toMap(StoreResponse::getId, Function.identity()));
+
+		return storeIds.stream()
+			.map(responsesById::get)
+			.filter(Objects::nonNull)
+			.toList();
+	}
+
+	private Page<StoreResponse> getStoresSortedByDistanceFromDatabase(int page, int size, Category category,
+		Double userLat, Double userLon) {
+		Pageable pageable = PageRequest.of(page, size);
+		StoreCoordinates coordinates = storeRepository.findAllCoordinatesNotDeleted(category);
+
+		long required = pageable.getOffset() + size;
+		if (pageable.getOffset() >= coordinates.size()) {
+			return new PageImpl<>(List.of(), pageable, coordinates.size());
+		}
+
+		TopKHeap heap = new TopKHeap((int)Math.min(required, coordinates.size()));
+		for (int i = 0; i < coordinates.size(); i++) {
+			double distance = GeoUtils.distanceKm(userLat, userLon, coordinates.getLatitudes()[i],
+				coordinates.getLongitudes()[i]);
+			heap.offer(distance, coordinates.getStoreIds()[i].getMostSignificantBits(), i);
+		}
+		heap.sortAscending();
+
+		List<NearbyStore> nearbyStores = new ArrayList<>();
+		for (int i = (int)pageable.getOffset(); i < heap.size(); i++) {
+			nearbyStores.add(new NearbyStore(coordinates.getStoreIds()[heap.slotAt(i)], heap.keyAt(i)));
+		}
+
+		return new PageImpl<>(toStoreResponses(nearbyStores, userLat, userLon), pageable, coordinates.size());
+	}
+
+	private Page<StoreResponse> getStoresSortedByRate(int page, int size, Category category, Double userLat,
+		Double userLon) {
+		if (!storeRateIndex.isLoaded()) {
+			return getStoresSortedByRateFromDatabase(page, size, category, userLat, userLon);
+		}
+
 		Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "rate"));
-		Page<Store> stores = storeRepository.findAllNotDeleted(pageable);
+		List<RatedStore> ratedStores = storeRateIndex.findPage(category, (int)pageable.getOffset(), size);
 
-		List<StoreResponse> storesWithDistance = stores.getContent().stream()
-			.map(store -> {
-				double distance = (store.getLatitude() != null && store.getLongitude() != null)
-					? calculateDistance(userLat, userLon, store.getLatitude(), store.getLongitude())
-					: Double.MAX_VALUE;
-				return StoreResponse.fromEntity(store, distance);
-			})
-			.collect(Collectors.toList());
+		List<UUID> storeIds = ratedStores.stream().map(RatedStore::getStoreId).toList();
+		List<StoreResponse> storesWithDistance = findStoreResponsesInOrder(storeIds, userLat, userLon);
 
-		return new PageImpl<>(storesWithDistance, pageable, stores.getTotalElements());
+		return new PageImpl<>(storesWithDistance, pageable, storeRateIndex.size(category));
+	}
+
+	private Page<StoreResponse> getStoresSortedByRateFromDatabase(int page, int size, Category category,
+		Double userLat, Double userLon) {
+		Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "rate"));
+		return storeRepository.findStoreResponsesNotDeleted(category, userLat, userLon, pageable);
 	}
 
 	@Transactional(readOnly = true)
-	public Page<StoreResponse> searchStores(String query, int page, int size) {
+	public Page<StoreResponse> searchStores(String query, String category, String mode, int page, int size,
+		Authentication authentication) {
+		User user = (User)authentication.getPrincipal();
 		Pageable pageable = PageRequest.of(page, size);
-		Page<Store> stores = storeRepository.searchStores(query, pageable);
-		return stores.map(StoreResponse::fromEntity);
+		Category storeCategory = parseCategory(category);
+		SearchMode searchMode = parseSearchMode(mode);
+		StoreSearchKey key = StoreSearchKey.of(query, searchMode, storeCategory, user.getLatitude(),
+			user.getLongitude(), page, size);
+		storeSearchTrendTracker.record(key);
+
+		if (!storeSearchIndex.isLoaded()) {
+			// 초성/자모 검색은 색인에만 있는 표현이라 DB 로 대신할 수 없다
+			if (searchMode != SearchMode.TEXT) {
+				throw new CustomException(ErrorCode.SEARCH_INDEX_NOT_READY);
+			}
+			Page<Store> stores = storeRepository.searchStores(query, storeCategory, pageable);
+			return stores.map(StoreResponse::fromEntity);
+		}
+
+		SearchResultPage result = storeSearchCache.getPage(key, this::searchIndex);
+		return new PageImpl<>(findStoreSummariesInOrder(result.getStoreIds(), user.getLatitude(),
+			user.getLongitude()), pageable, result.getTotal());
 	}
 
-	private double calculateDistance(Double lat1, Double lon1, Double lat2, Double lon2) {
-		if (lat1 == null || lon1 == null || lat2 == null || lon2 == null) {
-			return Double.MAX_VALUE;
+	// 최근 자주 요청된 검색 결과를 다시 계산해 캐시에 넣어 둔다 (인기 검색이 TTL 만료 직후 색인을 다시 훑지 않도록)
+	public int warmUpSearchCache(int limit) {
+		if (!storeSearchIndex.isLoaded()) {
+			return 0;
 		}
 
-		double earthRadiusKm = 6371.0;
+		List<HeavyHitter<StoreSearchKey>> hottest = storeSearchTrendTracker.hottestSearchKeys(limit);
+		for (HeavyHitter<StoreSearchKey> hitter : hottest) {
+			storeSearchCache.refresh(hitter.getKey(), this::searchIndex);
+		}
+		return hottest.size();
+	}
+
+	// 일치 정도/평점/거리 점수 상위 페이지만 색인에서 고른다 (거리는 키의 격자 중심 기준, 주소 미등록 사용자는 거리 제외)
+	private SearchResultPage searchIndex(StoreSearchKey key) {
+		long generation = storeSearchCache.currentGeneration();
+		Pageable pageable = PageRequest.of(key.page(), key.size());
+		StoreSearchResult result = storeSearchIndex.search(key.query(), key.mode(), key.category(), key.latitude(),
+			key.longitude(), (int)pageable.getOffset(), key.size());
+		return new SearchResultPage(generation, List.copyOf(result.getStoreIds()), result.getTotal());
+	}
 
-		double dLat = Math.toRadians(lat2 - lat1);
-		double dLon = Math.toRadians(lon2 - lon1);
+	// 매장 응답 캐시에서 순서대로 응답을 만들고, 거리는 실제 사용자 좌표로 계산한다
+	private List<StoreResponse> findStoreSummariesInOrder(List<UUID> storeIds, Double userLat, Double userLon) {
+		Map<UUID, StoreSummary> summaries = storeSummaryCache.getSummaries(storeIds,
+			storeRepository::findStoreSummariesByIds);
 
-		double a = Math.sin(dLat / 2) * Math.sin(dLat / 2) +
-			Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) *
-				Math.sin(dLon / 2) * Math.sin(dLon / 2);
+		return storeIds.stream()
+			.map(summaries::get)
+			.filter(Objects::nonNull)
+			.map(summary -> summary.toResponse(userLat, userLon))
+			.toList();
+	}
 
-		double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+	// 입력 중인 검색어에 대한 추천, 색인이 적재되기 전에는 빈 목록
+	public List<AutocompleteResponse> autocomplete(String prefix, int size) {
+		if (size <= 0) {
+			throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+		}
+		if (!storeAutocompleteIndex.isLoaded()) {
+			return List.of();
+		}
 
-		return earthRadiusKm * c;
+		return storeAutocompleteIndex.suggest(prefix, Math.min(size, StoreAutocompleteIndex.MAX_SUGGESTIONS))
+			.stream()
+			.map(AutocompleteResponse::from)
+			.toList();
+	}
+
+	private Category parseCategory(String category) {
+		if (category == null || category.isBlank()) {
+			return null;
+		}
+
+		try {
+			return Category.valueOf(category.toUpperCase());
+		} catch (IllegalArgumentException e) {
+			throw new CustomException(ErrorCode.INVALID_CATEGORY);
+		}
+	}
+
+	private SearchMode parseSearchMode(String mode) {
+		if (mode == null || mode.isBlank()) {
+			return SearchMode.TEXT;
+		}
+
+		try {
+			return SearchMode.valueOf(mode.toUpperCase());
+		} catch (IllegalArgumentException e) {
+			throw new CustomException(ErrorCode.INVALID_SEARCH_MODE);
+		}
 	}
 }
@@ -0,0 +1,14 @@
+package com.ijaes.jeogiyo.store.trend;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 자주 나온 키와 조회 구간 동안의 추정 횟수 (Count-Min 추정치라 실제보다 크거나 같다)
+@Getter
+@AllArgsConstructor
+public class HeavyHitter<K> {
+
+	private final K key;
+
+	private final long count;
+}
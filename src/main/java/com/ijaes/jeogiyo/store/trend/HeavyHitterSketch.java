@@ -0,0 +1,169 @@
+package com.ijaes.jeogiyo.store.trend;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongSupplier;
+
+// 시간 구간별 Count-Min 스케치 + Space-Saving 후보 집합으로 자주 나온 키를 근사 집계한다
+// add 는 원자 증가와 ConcurrentHashMap 조회만 하고 락을 잡지 않는다, 후보 교체가 필요할 때만 한 스레드가 최솟값 후보를 찾는다
+public class HeavyHitterSketch<K> {
+
+	private static final int DEPTH = 4;
+	private static final int[] SEEDS = {0x9E3779B9, 0x85EBCA6B, 0xC2B2AE35, 0x27D4EB2F};
+
+	private final int width;
+	private final int capacity;
+	private final long windowMillis;
+	private final LongSupplier clock;
+
+	// 최근 구간들을 링 버퍼로 보관, 구간 번호 % 길이 칸에 들어간다
+	private final AtomicReferenceArray<Window> windows;
+
+	public HeavyHitterSketch(int width, int capacity, Duration window, int windowCount, LongSupplier clock) {
+		if (Integer.bitCount(width) != 1 || capacity <= 0 || windowCount <= 0 || window.toMillis() <= 0) {
+			throw new IllegalArgumentException("width must be a power of two and other sizes positive");
+		}
+		this.width = width;
+		this.capacity = capacity;
+		this.windowMillis = window.toMillis();
+		this.clock = clock;
+		this.windows = new AtomicReferenceArray<>(windowCount);
+	}
+
+	public void add(K key) {
+		currentWindow().add(key);
+	}
+
+	// 현재 구간을 포함한 최근 windowCount 개 구간을 합친 추정 횟수 상위 limit 개
+	public List<HeavyHitter<K>> top(int windowCount, int limit) {
+		long currentEpoch = clock.getAsLong() / windowMillis;
+		long oldestEpoch = currentEpoch - Math.min(windowCount, windows.length());
+
+		List<Window> recent = new ArrayList<>();
+		for (int i = 0; i < windows.length(); i++) {
+			Window window = windows.get(i);
+			if (window != null && window.epoch > oldestEpoch && window.epoch <= currentEpoch) {
+				recent.add(window);
+			}
+		}
+
+		// 어느 구간에서든 후보였던 키를 모으고, 횟수는 모든 구간의 스케치에서 더한다
+		Map<K, Long> counts = new HashMap<>();
+		for (Window window : recent) {
+			for (K key : window.candidates.keySet()) {
+				counts.computeIfAbsent(key, k -> recent.stream().mapToLong(w -> w.estimate(k)).sum());
+			}
+		}
+
+		return counts.entrySet().stream()
+			.sorted(Map.Entry.<K, Long>comparingByValue().reversed())
+			.limit(limit)
+			.map(entry -> new HeavyHitter<>(entry.getKey(), entry.getValue()))
+			.toList();
+	}
+
+	private Window currentWindow() {
+		long epoch = clock.getAsLong() / windowMillis;
+		int slot = (int)(epoch % windows.length());
+
+		while (true) {
+			Window window = windows.get(slot);
+			if (window != null && window.epoch >= epoch) {
+				return window;
+			}
+			// 구간이 바뀌면 가장 오래된 칸을 새 구간으로 교체, 경쟁에서 지면 이긴 쪽이 만든 구간을 다시 읽는다
+			Window fresh = new Window(epoch);
+			if (windows.compareAndSet(slot, window, fresh)) {
+				return fresh;
+			}
+		}
+	}
+
+	private int slot(int row, int hash) {
+		int h = hash * SEEDS[row];
+		h ^= h >>> 16;
+		h *= 0x85EBCA6B;
+		h ^= h >>> 13;
+		return row * width + (h & (width - 1));
+	}
+
+	private final class Window {
+
+		private final long epoch;
+		private final AtomicLongArray counters = new AtomicLongArray(DEPTH * width);
+		private final Map<K, Boolean> candidates = new ConcurrentHashMap<>();
+		private final AtomicBoolean evicting = new AtomicBoolean();
+
+		// 후보가 가득 찼을 때 새 키가 넘어야 하는 추정치, 마지막으로 확인한 후보 최솟값 (횟수는 늘기만 하므로 실제 최솟값 이하)
+		private volatile long admissionThreshold;
+
+		private Window(long epoch) {
+			this.epoch = epoch;
+		}
+
+		private void add(K key) {
+			int hash = key.hashCode();
+			long estimate = Long.MAX_VALUE;
+			for (int row = 0; row < DEPTH; row++) {
+				estimate = Math.min(estimate, counters.incrementAndGet(slot(row, hash)));
+			}
+
+			if (candidates.containsKey(key)) {
+				return;
+			}
+			// 동시에 추가되면 잠시 capacity 를 조금 넘을 수 있지만 다음 교체 때 최솟값부터 빠진다
+			if (candidates.size() < capacity) {
+				candidates.put(key, Boolean.TRUE);
+				return;
+			}
+			if (estimate > admissionThreshold && evicting.compareAndSet(false, true)) {
+				try {
+					replaceMinimum(key, estimate);
+				} finally {
+					evicting.set(false);
+				}
+			}
+		}
+
+		// Space-Saving 교체: 새 키의 추정치가 후보 최솟값보다 크면 최솟값 후보를 내보낸다
+		private void replaceMinimum(K key, long estimate) {
+			K minimumKey = null;
+			long minimum = Long.MAX_VALUE;
+			long secondMinimum = Long.MAX_VALUE;
+			for (K candidate : candidates.keySet()) {
+				long count = estimate(candidate);
+				if (count < minimum) {
+					secondMinimum = minimum;
+					minimum = count;
+					minimumKey = candidate;
+				} else if (count < secondMinimum) {
+					secondMinimum = count;
+				}
+			}
+
+			if (minimumKey == null || estimate <= minimum) {
+				admissionThreshold = minimum;
+				return;
+			}
+			candidates.remove(minimumKey);
+			candidates.put(key, Boolean.TRUE);
+			admissionThreshold = Math.min(secondMinimum, estimate);
+		}
+
+		private long estimate(K key) {
+			int hash = key.hashCode();
+			long estimate = Long.MAX_VALUE;
+			for (int row = 0; row < DEPTH; row++) {
+				estimate = Math.min(estimate, counters.get(slot(row, hash)));
+			}
+			return estimate;
+		}
+	}
+}
@@ -0,0 +1,61 @@
+package com.ijaes.jeogiyo.store.trend;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.ijaes.jeogiyo.store.cache.StoreSearchKey;
+import com.ijaes.jeogiyo.store.index.SearchMode;
+
+// 매장 검색 요청을 시간 구간별로 집계해 인기 검색어와 자주 요청되는 검색 결과 키를 찾는다
+@Component
+public class StoreSearchTrendTracker {
+
+	private static final int SKETCH_WIDTH = 2048;
+
+	private final Duration window;
+	private final int windowCount;
+	private final HeavyHitterSketch<String> queries;
+	private final HeavyHitterSketch<StoreSearchKey> searchKeys;
+
+	public StoreSearchTrendTracker(
+		@Value("${store.search-trend.window-seconds:300}") long windowSeconds,
+		@Value("${store.search-trend.windows:12}") int windowCount,
+		@Value("${store.search-trend.capacity:100}") int capacity
+	) {
+		this.window = Duration.ofSeconds(windowSeconds);
+		this.windowCount = windowCount;
+		this.queries = new HeavyHitterSketch<>(SKETCH_WIDTH, capacity, window, windowCount,
+			System::currentTimeMillis);
+		this.searchKeys = new HeavyHitterSketch<>(SKETCH_WIDTH, capacity, window, windowCount,
+			System::currentTimeMillis);
+	}
+
+	// 인기 검색어는 일반 검색만 센다 (초성/자모로 바뀐 검색어는 관리자가 읽기 어려움)
+	public void record(StoreSearchKey key) {
+		if (key.query().isBlank()) {
+			return;
+		}
+		if (key.mode() == SearchMode.TEXT) {
+			queries.add(key.query());
+		}
+		searchKeys.add(key);
+	}
+
+	// 최근 minutes 분 동안의 인기 검색어, 구간 단위로 올림하고 보관 중인 구간까지만 본다
+	public List<HeavyHitter<String>> trendingQueries(int minutes, int limit) {
+		return queries.top(windowsCovering(minutes), limit);
+	}
+
+	// 직전 구간까지 함께 봐서 구간이 막 바뀐 직후에도 비지 않게 한다
+	public List<HeavyHitter<StoreSearchKey>> hottestSearchKeys(int limit) {
+		return searchKeys.top(2, limit);
+	}
+
+	private int windowsCovering(int minutes) {
+		long windowMinutes = Math.max(1, window.toMinutes());
+		return (int)Math.min(windowCount, (minutes + windowMinutes - 1) / windowMinutes);
+	}
+}
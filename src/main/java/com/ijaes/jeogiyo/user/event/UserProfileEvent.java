@@ -0,0 +1,14 @@
+package com.ijaes.jeogiyo.user.event;
+
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class UserProfileEvent {
+
+	//주소/전화번호 등 프로필이 변경된 사용자 식별자
+	UUID userId;
+}
@@ -3,11 +3,15 @@ package com.ijaes.jeogiyo.user.service;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.ijaes.jeogiyo.common.exception.CustomException;
 import com.ijaes.jeogiyo.common.exception.ErrorCode;
+import com.ijaes.jeogiyo.review.event.ReviewEvent;
+import com.ijaes.jeogiyo.review.repository.ReviewRepositoryCustom;
+import com.ijaes.jeogiyo.store.repository.RatingAggregate;
 import com.ijaes.jeogiyo.user.dto.request.UpdateRoleRequest;
 import com.ijaes.jeogiyo.user.dto.response.UserInfoResponse;
 import com.ijaes.jeogiyo.user.entity.Role;
@@ -21,6 +25,8 @@ import lombok.RequiredArgsConstructor;
 public class UserAdminService {
 
 	private final UserRepository userRepository;
+	private final ReviewRepositoryCustom reviewRepositoryCustom;
+	private final ApplicationEventPublisher eventPublisher;
 
 	@Transactional(readOnly = true)
 	public List<UserInfoResponse> getAllUsers() {
@@ -57,14 +63,26 @@ public class UserAdminService {
 		User user = userRepository.findById(userId)
 			.orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
+		Role newRole;
 		try {
-			Role newRole = Role.valueOf(request.getRole());
-			user.updateRole(newRole);
-			userRepository.save(user);
+			newRole = Role.valueOf(request.getRole());
 		} catch (IllegalArgumentException e) {
 			throw new CustomException(ErrorCode.INVALID_ROLE);
 		}
 
+		boolean wasBlocked = user.getRole() == Role.BLOCK;
+		user.updateRole(newRole);
+		userRepository.save(user);
+
+		// 차단/해제 시 이 사용자의 리뷰가 가게 평점 집계에서 빠지거나 다시 들어간다
+		boolean blocked = newRole == Role.BLOCK;
+		if (wasBlocked != blocked) {
+			reviewRepositoryCustom.countRatesGroupByStoreForUser(userId).forEach(aggregate -> {
+				RatingAggregate delta = blocked ? aggregate.negate() : aggregate;
+				eventPublisher.publishEvent(new ReviewEvent(delta.getStoreId(), delta.getStarCounts()));
+			});
+		}
+
 		return UserInfoResponse.builder()
 			.id(user.getId())
 			.username(user.getUsername())
@@ -10,8 +10,10 @@ import com.ijaes.jeogiyo.user.dto.request.UpdatePhoneNumberRequest;
 import com.ijaes.jeogiyo.user.dto.response.UserUpdateResponse;
 import com.ijaes.jeogiyo.user.dto.response.UserInfoResponse;
 import com.ijaes.jeogiyo.user.entity.User;
+import com.ijaes.jeogiyo.user.event.UserProfileEvent;
 import com.ijaes.jeogiyo.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -25,6 +27,7 @@ public class UserService {
     private final PasswordEncoder passwordEncoder;
     private final SignUpValidator signUpValidator;
     private final NaverGeocodeClient naverGeocodeClient;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public UserUpdateResponse updateAddress(Authentication authentication, UpdateAddressRequest request) {
@@ -36,6 +39,7 @@ public class UserService {
         user.updateCoordinates(coordinates.getLatitude(), coordinates.getLongitude());
 
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserProfileEvent(user.getId()));
         return UserUpdateResponse.builder()
             .message("주소가 수정되었습니다.")
             .success(true)
@@ -47,6 +51,7 @@ public class UserService {
         User user = getAuthenticatedUser(authentication);
         user.updatePhoneNumber(request.getPhoneNumber());
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserProfileEvent(user.getId()));
         return UserUpdateResponse.builder()
             .message("전화번호가 수정되었습니다.")
             .success(true)
@@ -0,0 +1,27 @@
+package com.ijaes.jeogiyo.common.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("HangulUtils 테스트")
+class HangulUtilsTest {
+
+	@Test
+	@DisplayName("초성 변환 - 한글 외 문자는 유지")
+	void toChosung() {
+		assertEquals("ㅊㅋ", HangulUtils.toChosung("치킨"));
+		assertEquals("bbq ㅊㅋ", HangulUtils.toChosung("bbq 치킨"));
+		assertEquals("ㄲㅂ", HangulUtils.toChosung("꿔바"));
+	}
+
+	@Test
+	@DisplayName("자모 분해 - 겹모음/겹받침은 낱자로")
+	void toJamo() {
+		assertEquals("ㅊㅣㅋㅣㄴ", HangulUtils.toJamo("치킨"));
+		assertEquals("ㄷㅏㄹㄱ", HangulUtils.toJamo("닭"));
+		assertEquals("ㄷㅏㄹㄱ", HangulUtils.toJamo("다ㄺ"));
+		assertEquals("ㅁㅜㅓ", HangulUtils.toJamo("뭐"));
+	}
+}
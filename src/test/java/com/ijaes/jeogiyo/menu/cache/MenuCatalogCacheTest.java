@@ -0,0 +1,67 @@
+package com.ijaes.jeogiyo.menu.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.ijaes.jeogiyo.menu.dto.response.MenuUserResponse;
+
+@DisplayName("MenuCatalogCache 테스트")
+class MenuCatalogCacheTest {
+
+	private MenuCatalogCache menuCatalogCache;
+
+	@BeforeEach
+	void setUp() {
+		menuCatalogCache = new MenuCatalogCache(100, 60);
+	}
+
+	@Test
+	@DisplayName("캐시된 목록은 수정할 수 없는 복사본")
+	void getMenus_returnsImmutableCopy() {
+		// given
+		UUID storeId = UUID.randomUUID();
+		List<MenuUserResponse> loaded = new ArrayList<>(List.of(menu(storeId, "순대국밥")));
+
+		// when
+		List<MenuUserResponse> menus = menuCatalogCache.getMenus(storeId, id -> loaded);
+		loaded.clear();
+
+		// then
+		assertEquals(1, menus.size());
+		assertThrows(UnsupportedOperationException.class, () -> menus.add(menu(storeId, "라면")));
+	}
+
+	@Test
+	@DisplayName("버전이 오르기 전까지는 캐시에서 반환, 오른 후에는 다시 적재")
+	void getMenus_reloadsAfterBump() {
+		// given
+		UUID storeId = UUID.randomUUID();
+		menuCatalogCache.getMenus(storeId, id -> List.of(menu(id, "이전 메뉴")));
+
+		// when
+		List<MenuUserResponse> cached = menuCatalogCache.getMenus(storeId, id -> List.of(menu(id, "새 메뉴")));
+		menuCatalogCache.bumpVersion(storeId);
+		List<MenuUserResponse> reloaded = menuCatalogCache.getMenus(storeId, id -> List.of(menu(id, "새 메뉴")));
+
+		// then
+		assertEquals("이전 메뉴", cached.get(0).getName());
+		assertEquals("새 메뉴", reloaded.get(0).getName());
+		assertEquals(1, menuCatalogCache.currentVersion(storeId));
+	}
+
+	private MenuUserResponse menu(UUID storeId, String name) {
+		return MenuUserResponse.builder()
+			.id(UUID.randomUUID())
+			.storeId(storeId)
+			.name(name)
+			.price(10000)
+			.build();
+	}
+}
@@ -19,6 +19,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 
 import com.ijaes.jeogiyo.common.exception.CustomException;
@@ -48,6 +49,9 @@ class MenuOwnerServiceTest {
 	@Mock
 	private GeminiService geminiService;
 
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
 	@Mock
 	private Authentication authentication;
 
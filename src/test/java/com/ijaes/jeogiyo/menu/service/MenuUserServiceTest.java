@@ -17,10 +17,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.ijaes.jeogiyo.common.exception.CustomException;
 import com.ijaes.jeogiyo.common.exception.ErrorCode;
+import com.ijaes.jeogiyo.menu.cache.MenuCatalogCache;
 import com.ijaes.jeogiyo.menu.dto.response.MenuUserResponse;
 import com.ijaes.jeogiyo.menu.entity.Menu;
 import com.ijaes.jeogiyo.menu.repository.MenuRepository;
@@ -40,6 +42,9 @@ class MenuUserServiceTest {
 	@Mock
 	private StoreRepository storeRepository;
 
+	@Spy
+	private MenuCatalogCache menuCatalogCache = new MenuCatalogCache(100, 60);
+
 	@InjectMocks
 	private MenuUserService menuUserService;
 
@@ -155,6 +160,24 @@ class MenuUserServiceTest {
 		verify(menuRepository, times(1)).findAllNotDeleted(storeId);
 	}
 
+	@Test
+	@DisplayName("매장 메뉴 조회 - 두 번째 조회는 캐시에서 반환, 메뉴 변경 후에는 다시 조회")
+	void getMenusByStoreId_cachedUntilVersionBump() {
+		// given
+		when(storeRepository.findByIdNotDeleted(storeId)).thenReturn(Optional.of(testStore));
+		when(menuRepository.findAllNotDeleted(storeId)).thenReturn(Collections.emptyList());
+
+		// when
+		menuUserService.getMenusByStoreId(storeId);
+		menuUserService.getMenusByStoreId(storeId);
+		menuCatalogCache.bumpVersion(storeId);
+		menuUserService.getMenusByStoreId(storeId);
+
+		// then
+		verify(storeRepository, times(2)).findByIdNotDeleted(storeId);
+		verify(menuRepository, times(2)).findAllNotDeleted(storeId);
+	}
+
 	@Test
 	@DisplayName("매장 메뉴 조회 - 실패 (매장 없음)")
 	void getMenusByStoreId_fail_storeNotFound() {
@@ -19,6 +19,7 @@ import org.springframework.http.ResponseEntity;
 
 import com.ijaes.jeogiyo.common.exception.CustomException;
 import com.ijaes.jeogiyo.common.exception.ErrorCode;
+import com.ijaes.jeogiyo.review.dto.response.ModerationStatsResponse;
 import com.ijaes.jeogiyo.review.dto.response.ReviewResponse;
 import com.ijaes.jeogiyo.review.service.ReviewAdminService;
 
@@ -51,6 +52,18 @@ class ReviewAdminControllerTest {
 		verify(reviewAdminService, times(1)).getAllReviewsForAdmin(0, 10, "");
 	}
 
+	@Test
+	@DisplayName("비속어 검사 현황 조회 성공")
+	void getModerationStats_success() {
+		ModerationStatsResponse stats = ModerationStatsResponse.builder().pendingReviews(5).queueDepth(3).build();
+		when(reviewAdminService.getModerationStats()).thenReturn(stats);
+
+		ResponseEntity<ModerationStatsResponse> response = reviewAdminController.getModerationStats();
+
+		assertThat(response.getBody()).isEqualTo(stats);
+		verify(reviewAdminService, times(1)).getModerationStats();
+	}
+
 	@Test
 	@DisplayName("리뷰 단건 조회 성공")
 	void getReview_success() {
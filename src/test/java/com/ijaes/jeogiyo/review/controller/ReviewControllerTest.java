@@ -19,6 +19,7 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 
+import com.ijaes.jeogiyo.common.dto.SliceResponse;
 import com.ijaes.jeogiyo.common.exception.CustomException;
 import com.ijaes.jeogiyo.common.exception.ErrorCode;
 import com.ijaes.jeogiyo.review.dto.request.CreateReviewRequest;
@@ -173,6 +174,20 @@ class ReviewControllerTest {
 		verify(reviewService, times(1)).getStoreReviews(storeId, 0, 10, "");
 	}
 
+	@Test
+	@DisplayName("가게별 리뷰 목록 커서 조회 성공")
+	void getStoreReviewsByCursor_success() {
+		SliceResponse<ReviewResponse> slice = new SliceResponse<>(List.of(new ReviewResponse()), "next", true);
+		when(reviewService.getStoreReviewsByCursor(storeId, "", 10, "LATEST")).thenReturn(slice);
+
+		ResponseEntity<SliceResponse<ReviewResponse>> response = reviewController.getStoreReviewsByCursor(storeId,
+			"", 10, "LATEST");
+
+		assertEquals(200, response.getStatusCodeValue());
+		assertEquals("next", response.getBody().getNextCursor());
+		verify(reviewService, times(1)).getStoreReviewsByCursor(storeId, "", 10, "LATEST");
+	}
+
 	@Test
 	@DisplayName("리뷰 수정")
 	void updateReview_success() {
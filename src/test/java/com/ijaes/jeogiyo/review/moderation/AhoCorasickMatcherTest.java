@@ -0,0 +1,47 @@
+package com.ijaes.jeogiyo.review.moderation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("AhoCorasickMatcher 테스트")
+class AhoCorasickMatcherTest {
+
+	@Test
+	@DisplayName("겹치는 패턴과 접미사 패턴을 모두 찾음")
+	void forEachMatch_findsOverlappingMatches() {
+		// given
+		AhoCorasickMatcher matcher = new AhoCorasickMatcher(List.of("he", "she", "his", "hers"));
+		List<String> matches = new ArrayList<>();
+
+		// when
+		matcher.forEachMatch("ushers", (pattern, start, end) -> matches.add(pattern + ":" + start + "-" + end));
+
+		// then
+		assertEquals(List.of("1:1-4", "0:2-4", "3:2-6"), matches);
+	}
+
+	@Test
+	@DisplayName("패턴에 없는 문자가 끼면 처음부터 다시 찾음")
+	void forEachMatch_resetsOnUnknownChar() {
+		// given
+		AhoCorasickMatcher matcher = new AhoCorasickMatcher(List.of("abc"));
+		List<Integer> starts = new ArrayList<>();
+
+		// when
+		matcher.forEachMatch("abxabcab", (pattern, start, end) -> starts.add(start));
+
+		// then
+		assertEquals(List.of(3), starts);
+	}
+
+	@Test
+	@DisplayName("빈 패턴은 거부")
+	void constructor_rejectsEmptyPattern() {
+		assertThrows(IllegalArgumentException.class, () -> new AhoCorasickMatcher(List.of("a", "")));
+	}
+}
@@ -0,0 +1,151 @@
+package com.ijaes.jeogiyo.review.moderation;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.ijaes.jeogiyo.gemini.service.GeminiService;
+import com.ijaes.jeogiyo.review.cache.ModerationVerdictCache;
+import com.ijaes.jeogiyo.review.entity.ModerationVerdict;
+import com.ijaes.jeogiyo.review.repository.ModerationVerdictRepository;
+
+public class ModerationVerdictServiceTest {
+
+	@Mock
+	private ModerationVerdictRepository moderationVerdictRepository;
+
+	private ModerationVerdictService moderationVerdictService;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		moderationVerdictService = new ModerationVerdictService(new ModerationVerdictCache(100, 3600),
+			moderationVerdictRepository, 30);
+	}
+
+	@Test
+	@DisplayName("정규화 - 공백, 기호, 대소문자, 반복 글자 차이는 같은 내용으로")
+	void normalize_nearIdenticalContent() {
+		assertThat(ModerationVerdictService.normalize(" 맛있어요!!! ")).isEqualTo("맛있어요");
+		assertThat(ModerationVerdictService.normalize("최고 최고")).isEqualTo("최고최고");
+		assertThat(ModerationVerdictService.normalize("GOOD ㅋㅋㅋㅋㅋ")).isEqualTo("goodㅋㅋ");
+	}
+
+	@Test
+	@DisplayName("판정 저장 - 해시 키와 현재 버전으로 저장하고 거의 같은 내용은 메모리에서 재사용")
+	void saveVerdict_reusedForNearIdenticalContent() {
+		moderationVerdictService.saveVerdict("맛있어요", false);
+
+		Optional<Boolean> verdict = moderationVerdictService.findVerdict("맛있어요!!");
+
+		assertThat(verdict).contains(false);
+		ArgumentCaptor<ModerationVerdict> captor = ArgumentCaptor.forClass(ModerationVerdict.class);
+		verify(moderationVerdictRepository).saveAndFlush(captor.capture());
+		assertThat(captor.getValue().getContentHash()).hasSize(64).doesNotContain("맛있어요");
+		assertThat(captor.getValue().getVersion()).isEqualTo(GeminiService.ABUSE_CHECK_VERSION);
+		assertThat(captor.getValue().isNew()).isTrue();
+		verify(moderationVerdictRepository, never()).findById(any());
+	}
+
+	@Test
+	@DisplayName("판정 조회 - 메모리에 없으면 테이블에서 한 번 적재")
+	void findVerdict_loadsFromTableOnce() {
+		when(moderationVerdictRepository.findById(anyString())).thenReturn(Optional.of(ModerationVerdict.builder()
+			.version(GeminiService.ABUSE_CHECK_VERSION)
+			.abusive(true)
+			.checkedAt(LocalDateTime.now().minusDays(1))
+			.build()));
+
+		assertThat(moderationVerdictService.findVerdict("욕설 리뷰")).contains(true);
+		assertThat(moderationVerdictService.findVerdict("욕설 리뷰")).contains(true);
+
+		verify(moderationVerdictRepository, times(1)).findById(anyString());
+	}
+
+	@Test
+	@DisplayName("판정 조회 - 보관 기간이 지난 결과는 사용하지 않음")
+	void findVerdict_ignoresExpired() {
+		when(moderationVerdictRepository.findById(anyString())).thenReturn(Optional.of(ModerationVerdict.builder()
+			.version(GeminiService.ABUSE_CHECK_VERSION)
+			.abusive(true)
+			.checkedAt(LocalDateTime.now().minusDays(31))
+			.build()));
+
+		assertThat(moderationVerdictService.findVerdict("욕설 리뷰")).isEmpty();
+	}
+
+	@Test
+	@DisplayName("판정 저장 - 먼저 저장된 유효한 결과가 있으면 덮어쓰지 않고 그 결과를 사용")
+	void saveVerdict_keepsFirstVerdict() {
+		when(moderationVerdictRepository.saveAndFlush(any()))
+			.thenThrow(new DataIntegrityViolationException("duplicate"));
+		when(moderationVerdictRepository.replaceExpired(anyString(), anyString(), anyBoolean(), any(), any()))
+			.thenReturn(0);
+		when(moderationVerdictRepository.findById(anyString())).thenReturn(Optional.of(ModerationVerdict.builder()
+			.version(GeminiService.ABUSE_CHECK_VERSION)
+			.abusive(true)
+			.checkedAt(LocalDateTime.now())
+			.build()));
+
+		moderationVerdictService.saveVerdict("최고", false);
+
+		assertThat(moderationVerdictService.findVerdict("최고")).contains(true);
+	}
+
+	@Test
+	@DisplayName("판정 저장 - 이미 있는 결과가 보관 기간이 지났으면 새 판정으로 교체")
+	void saveVerdict_replacesExpiredVerdict() {
+		when(moderationVerdictRepository.saveAndFlush(any()))
+			.thenThrow(new DataIntegrityViolationException("duplicate"));
+		when(moderationVerdictRepository.replaceExpired(anyString(), anyString(), anyBoolean(), any(), any()))
+			.thenReturn(1);
+
+		moderationVerdictService.saveVerdict("최고", false);
+
+		assertThat(moderationVerdictService.findVerdict("최고")).contains(false);
+		verify(moderationVerdictRepository).replaceExpired(anyString(), eq(GeminiService.ABUSE_CHECK_VERSION),
+			eq(false), any(), any());
+		verify(moderationVerdictRepository, never()).findById(any());
+	}
+
+	@Test
+	@DisplayName("판정 조회 - 이전 버전으로 저장된 결과는 사용하지 않음")
+	void findVerdict_ignoresPreviousVersion() {
+		when(moderationVerdictRepository.findById(anyString())).thenReturn(Optional.of(ModerationVerdict.builder()
+			.version("previous")
+			.abusive(true)
+			.checkedAt(LocalDateTime.now())
+			.build()));
+
+		assertThat(moderationVerdictService.findVerdict("욕설 리뷰")).isEmpty();
+	}
+
+	@Test
+	@DisplayName("정리 작업 - 보관 기간이 지난 결과는 메모리에서도 비우고 유효한 결과는 둔다")
+	void purgeExpired_evictsMemoryCache() {
+		ModerationVerdictCache cache = new ModerationVerdictCache(100, 3600);
+		ModerationVerdictService service = new ModerationVerdictService(cache, moderationVerdictRepository, 0);
+		service.saveVerdict("맛있어요", false);
+
+		service.purgeExpired();
+
+		assertThat(cache.stats().getSize()).isZero();
+		verify(moderationVerdictRepository).deleteExpired(any(), eq(GeminiService.ABUSE_CHECK_VERSION));
+
+		moderationVerdictService.saveVerdict("맛있어요", false);
+		moderationVerdictService.purgeExpired();
+
+		assertThat(moderationVerdictService.findVerdict("맛있어요")).contains(false);
+	}
+}
@@ -0,0 +1,104 @@
+package com.ijaes.jeogiyo.review.moderation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ProfanityFilter 테스트")
+class ProfanityFilterTest {
+
+	private ProfanityFilter profanityFilter;
+
+	@BeforeEach
+	void setUp() {
+		profanityFilter = new ProfanityFilter(true, false,
+			List.of("시발", "ㅅㅂ", "개새끼", "fuck"),
+			List.of("존나", "shit"),
+			List.of("시발점"));
+	}
+
+	@Test
+	@DisplayName("사전 단어가 없으면 외부 검사로 넘기고, 빈 내용만 정상")
+	void check_missIsUncertain() {
+		assertEquals(ProfanityVerdict.UNCERTAIN, profanityFilter.check("맛보고 왔는데 양도 많고 친절해요"));
+		assertEquals(ProfanityVerdict.UNCERTAIN, profanityFilter.check("사장 얼굴 보니 밥맛 떨어짐"));
+		assertEquals(ProfanityVerdict.CLEAN, profanityFilter.check("   "));
+	}
+
+	@Test
+	@DisplayName("clean-on-miss 설정 시 사전 단어가 없으면 정상")
+	void check_cleanOnMiss() {
+		ProfanityFilter cleanOnMiss = new ProfanityFilter(true, true, List.of("시발"), List.of("존나"), List.of());
+
+		assertEquals(ProfanityVerdict.CLEAN, cleanOnMiss.check("맛보고 왔는데 양도 많고 친절해요"));
+		assertEquals(ProfanityVerdict.UNCERTAIN, cleanOnMiss.check("존나 맛있어요"));
+		assertEquals(ProfanityVerdict.ABUSIVE, cleanOnMiss.check("시발 늦게 왔네"));
+	}
+
+	@Test
+	@DisplayName("심한 욕설은 음절, 자모 분해, 기호 끼워 넣기 모두 부적절")
+	void check_abusive() {
+		assertEquals(ProfanityVerdict.ABUSIVE, profanityFilter.check("시발 늦게 왔네"));
+		assertEquals(ProfanityVerdict.ABUSIVE, profanityFilter.check("ㅅㅣㅂㅏㄹ 늦게 왔네"));
+		assertEquals(ProfanityVerdict.ABUSIVE, profanityFilter.check("시1발 늦게 왔네"));
+		assertEquals(ProfanityVerdict.ABUSIVE, profanityFilter.check("ㅅㅂ 늦게 왔네"));
+		assertEquals(ProfanityVerdict.ABUSIVE, profanityFilter.check("사장 개새끼 같네"));
+		assertEquals(ProfanityVerdict.ABUSIVE, profanityFilter.check("F.U.C.K this"));
+	}
+
+	@Test
+	@DisplayName("가벼운 표현, 띄어쓰기 회피, 영어 단어 일부는 외부 검사로 넘김")
+	void check_uncertain() {
+		assertEquals(ProfanityVerdict.UNCERTAIN, profanityFilter.check("존나 맛있어요"));
+		assertEquals(ProfanityVerdict.UNCERTAIN, profanityFilter.check("시 발 늦게 왔네"));
+		assertEquals(ProfanityVerdict.UNCERTAIN, profanityFilter.check("fucked up delivery"));
+	}
+
+	@Test
+	@DisplayName("한글 단어 안에 들어 있는 심한 욕설은 바로 판정하지 않고 외부 검사로 넘김")
+	void check_severeInsideHangulWordIsUncertain() {
+		ProfanityFilter filter = new ProfanityFilter(true, true, List.of("니미", "병신", "개새끼"), List.of(), List.of());
+
+		assertEquals(ProfanityVerdict.UNCERTAIN, filter.check("할머니미역국 정말 맛있어요"));
+		assertEquals(ProfanityVerdict.UNCERTAIN, filter.check("미니미 세트 추천"));
+		assertEquals(ProfanityVerdict.UNCERTAIN, filter.check("병신년 새해"));
+		assertEquals(ProfanityVerdict.UNCERTAIN, filter.check("사장 개새끼야"));
+		assertEquals(ProfanityVerdict.ABUSIVE, filter.check("사장 병신 같네"));
+	}
+
+	@Test
+	@DisplayName("기본 사전은 일상 단어와 겹치는 짧은 단어로 바로 판정하지 않음")
+	void check_defaultLexiconKeepsOrdinaryReviews() {
+		ProfanityFilter defaults = new ProfanityFilter(true, true,
+			List.of(ProfanityFilter.DEFAULT_SEVERE.split(",")),
+			List.of(ProfanityFilter.DEFAULT_MILD.split(",")),
+			List.of(ProfanityFilter.DEFAULT_ALLOWED.split(",")));
+
+		assertEquals(ProfanityVerdict.UNCERTAIN, defaults.check("할머니미역국 정말 맛있어요"));
+		assertEquals(ProfanityVerdict.UNCERTAIN, defaults.check("미니미 세트 추천"));
+		assertEquals(ProfanityVerdict.UNCERTAIN, defaults.check("병신년 새해"));
+		assertEquals(ProfanityVerdict.UNCERTAIN, defaults.check("니미 좆 같은 맛"));
+		assertEquals(ProfanityVerdict.ABUSIVE, defaults.check("씨발 늦게 왔네"));
+	}
+
+	@Test
+	@DisplayName("허용 단어 안의 일치와 글자 중간의 일치는 무시")
+	void check_ignoresAllowedAndMisalignedMatches() {
+		ProfanityFilter cleanOnMiss = new ProfanityFilter(true, true, List.of("시발", "ㅅㅂ"), List.of(), List.of("시발점"));
+
+		assertEquals(ProfanityVerdict.CLEAN, cleanOnMiss.check("여기가 맛집 투어의 시발점"));
+		assertEquals(ProfanityVerdict.CLEAN, cleanOnMiss.check("맛보기 메뉴 추천"));
+	}
+
+	@Test
+	@DisplayName("비활성화하면 항상 외부 검사로 넘김")
+	void check_disabled() {
+		ProfanityFilter disabled = new ProfanityFilter(false, true, List.of("시발"), List.of(), List.of());
+
+		assertEquals(ProfanityVerdict.UNCERTAIN, disabled.check("맛있어요"));
+	}
+}
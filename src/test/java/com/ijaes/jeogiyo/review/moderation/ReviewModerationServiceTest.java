@@ -0,0 +1,124 @@
+package com.ijaes.jeogiyo.review.moderation;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.ijaes.jeogiyo.review.entity.ModerationStatus;
+import com.ijaes.jeogiyo.review.entity.Review;
+import com.ijaes.jeogiyo.review.event.ReviewEvent;
+import com.ijaes.jeogiyo.review.repository.ReviewRepository;
+import com.ijaes.jeogiyo.user.entity.Role;
+import com.ijaes.jeogiyo.user.entity.User;
+import com.ijaes.jeogiyo.user.repository.UserRepository;
+
+public class ReviewModerationServiceTest {
+
+	@Mock
+	private ReviewRepository reviewRepository;
+	@Mock
+	private UserRepository userRepository;
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	@InjectMocks
+	private ReviewModerationService reviewModerationService;
+
+	private UUID reviewId;
+	private UUID userId;
+	private UUID storeId;
+	private Review review;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+
+		reviewId = UUID.randomUUID();
+		userId = UUID.randomUUID();
+		storeId = UUID.randomUUID();
+
+		review = Review.builder()
+			.reviewId(reviewId)
+			.userId(userId)
+			.storeId(storeId)
+			.title("제목")
+			.content("내용")
+			.rate(4)
+			.moderationStatus(ModerationStatus.PENDING)
+			.build();
+
+		when(reviewRepository.findById(reviewId)).thenReturn(Optional.of(review));
+		when(userRepository.findById(userId)).thenReturn(Optional.of(User.builder().id(userId).role(Role.USER).build()));
+		when(reviewRepository.completeModeration(eq(reviewId), eq(ModerationStatus.PENDING), anyString(), anyInt(),
+			any(), anyBoolean(), any())).thenReturn(1);
+	}
+
+	@Test
+	@DisplayName("검사 통과 - 공개로 전환하고 평점 집계에 더하는 이벤트 발행")
+	void applyVerdict_approved() {
+		boolean applied = reviewModerationService.applyVerdict(reviewId, "내용", false);
+
+		assertThat(applied).isTrue();
+		verify(reviewRepository).completeModeration(eq(reviewId), eq(ModerationStatus.PENDING), eq("내용"), eq(4),
+			eq(ModerationStatus.APPROVED), eq(false), any());
+		verify(eventPublisher).publishEvent(argThat((ReviewEvent event) ->
+			event.getStoreId().equals(storeId) && Arrays.equals(event.getStarCountDeltas(), new long[] {0, 0, 0, 1, 0})));
+	}
+
+	@Test
+	@DisplayName("검사 거부 - 숨김 처리하고 평점 집계는 그대로")
+	void applyVerdict_rejected() {
+		boolean applied = reviewModerationService.applyVerdict(reviewId, "내용", true);
+
+		assertThat(applied).isTrue();
+		verify(reviewRepository).completeModeration(eq(reviewId), eq(ModerationStatus.PENDING), eq("내용"), eq(4),
+			eq(ModerationStatus.REJECTED), eq(true), any());
+		verify(eventPublisher, never()).publishEvent(any(ReviewEvent.class));
+	}
+
+	@Test
+	@DisplayName("검사하는 동안 내용이 수정되었으면 결과를 버림")
+	void applyVerdict_contentChanged() {
+		review.updateContent("수정된 내용");
+
+		boolean applied = reviewModerationService.applyVerdict(reviewId, "내용", false);
+
+		assertThat(applied).isFalse();
+		assertThat(review.isModerationPending()).isTrue();
+		verify(reviewRepository, never()).completeModeration(any(), any(), anyString(), anyInt(), any(), anyBoolean(),
+			any());
+		verify(eventPublisher, never()).publishEvent(any(ReviewEvent.class));
+	}
+
+	@Test
+	@DisplayName("조회 후 반영 전에 수정되어 조건부 UPDATE 가 0건이면 결과를 버리고 이벤트도 발행하지 않음")
+	void applyVerdict_editedBeforeUpdate() {
+		when(reviewRepository.completeModeration(eq(reviewId), eq(ModerationStatus.PENDING), anyString(), anyInt(),
+			any(), anyBoolean(), any())).thenReturn(0);
+
+		boolean applied = reviewModerationService.applyVerdict(reviewId, "내용", false);
+
+		assertThat(applied).isFalse();
+		verify(eventPublisher, never()).publishEvent(any(ReviewEvent.class));
+	}
+
+	@Test
+	@DisplayName("이미 검사를 마친 리뷰는 검사할 내용이 없음")
+	void findPendingContent_alreadyModerated() {
+		review.completeModeration(false);
+
+		assertThat(reviewModerationService.findPendingContent(reviewId)).isEmpty();
+	}
+}
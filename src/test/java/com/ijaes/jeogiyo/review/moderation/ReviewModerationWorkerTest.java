@@ -0,0 +1,91 @@
+package com.ijaes.jeogiyo.review.moderation;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import com.ijaes.jeogiyo.gemini.service.GeminiService;
+
+public class ReviewModerationWorkerTest {
+
+	@Mock
+	private GeminiService geminiService;
+	@Mock
+	private ModerationVerdictService moderationVerdictService;
+	@Mock
+	private ReviewModerationService reviewModerationService;
+
+	private ReviewModerationWorker reviewModerationWorker;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+
+		ProfanityFilter profanityFilter = new ProfanityFilter(true, false, List.of("시발"), List.of("존나"), List.of());
+		reviewModerationWorker = new ReviewModerationWorker(geminiService, profanityFilter, moderationVerdictService,
+			reviewModerationService, 1, 10);
+		when(moderationVerdictService.findVerdict(anyString())).thenReturn(Optional.empty());
+	}
+
+	@AfterEach
+	void tearDown() {
+		reviewModerationWorker.shutdown();
+	}
+
+	@Test
+	@DisplayName("사전에 걸리지 않은 리뷰도 Gemini 로 검사하고 결과를 저장")
+	void checkAbuse_lexiconMissGoesToGemini() {
+		when(geminiService.findAbuseVerdict("사장 얼굴 보니 밥맛 떨어짐")).thenReturn(Optional.of(true));
+
+		Optional<Boolean> abusive = reviewModerationWorker.checkAbuse("사장 얼굴 보니 밥맛 떨어짐");
+
+		assertThat(abusive).contains(true);
+		verify(moderationVerdictService).saveVerdict("사장 얼굴 보니 밥맛 떨어짐", true);
+		assertThat(reviewModerationWorker.stats(0).getGeminiCallCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("심한 욕설이 그대로 있으면 Gemini 를 부르지 않고 부적절 판정")
+	void checkAbuse_severeTermSkipsGemini() {
+		Optional<Boolean> abusive = reviewModerationWorker.checkAbuse("시발 늦게 왔네");
+
+		assertThat(abusive).contains(true);
+		verify(geminiService, never()).findAbuseVerdict(anyString());
+		assertThat(reviewModerationWorker.stats(0).getPrefilterAbusiveCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("Gemini 가 판정하지 못하면 검사 결과를 반영하지 않아 리뷰가 검사 대기로 남음")
+	void submit_noVerdictKeepsReviewPending() throws InterruptedException {
+		UUID reviewId = UUID.randomUUID();
+		when(reviewModerationService.findPendingContent(reviewId))
+			.thenReturn(Optional.of("사장 얼굴 보니 밥맛 떨어짐"));
+		when(geminiService.findAbuseVerdict(anyString())).thenReturn(Optional.empty());
+
+		assertThat(reviewModerationWorker.submit(reviewId)).isTrue();
+		awaitIdle(reviewId);
+
+		verify(reviewModerationService, never()).applyVerdict(any(), anyString(), anyBoolean());
+		verify(moderationVerdictService, never()).saveVerdict(anyString(), anyBoolean());
+		assertThat(reviewModerationWorker.stats(0).getFailedCount()).isEqualTo(1);
+	}
+
+	private void awaitIdle(UUID reviewId) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5_000;
+		while (reviewModerationWorker.isInFlight(reviewId) && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		assertThat(reviewModerationWorker.isInFlight(reviewId)).isFalse();
+	}
+}
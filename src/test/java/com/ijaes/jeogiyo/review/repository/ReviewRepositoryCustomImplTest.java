@@ -2,6 +2,8 @@ package com.ijaes.jeogiyo.review.repository;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -18,6 +20,7 @@ import org.springframework.test.context.TestPropertySource;
 import com.ijaes.jeogiyo.common.config.QueryDslConfig;
 import com.ijaes.jeogiyo.review.dto.response.ReviewResponse;
 import com.ijaes.jeogiyo.review.entity.Review;
+import com.ijaes.jeogiyo.review.entity.ReviewSortType;
 import com.ijaes.jeogiyo.store.entity.Category;
 import com.ijaes.jeogiyo.store.entity.Store;
 import com.ijaes.jeogiyo.user.entity.Role;
@@ -225,6 +228,39 @@ class ReviewRepositoryCustomImplTest {
 
 	}
 
+	@Test
+	@DisplayName("가게별 리뷰 커서 조회 - 커서를 따라가면 OFFSET 조회와 같은 리뷰를 중복 없이 모두 읽는다")
+	void findReviewsByStoreIdAfter() {
+		Page<ReviewResponse> offsetPage = reviewRepositoryCustom.findReviewsByStoreID(store1Id, 0, 10, "LATEST");
+
+		List<UUID> cursorIds = new ArrayList<>();
+		ReviewCursor cursor = null;
+		List<ReviewResponse> page;
+		do {
+			page = reviewRepositoryCustom.findReviewsByStoreIdAfter(store1Id, cursor, 2, ReviewSortType.LATEST);
+			page.forEach(r -> cursorIds.add(r.getReviewId()));
+			if (!page.isEmpty()) {
+				cursor = ReviewCursor.after(page.get(page.size() - 1), ReviewSortType.LATEST);
+			}
+		} while (page.size() == 2);
+
+		assertThat(cursorIds).containsExactlyInAnyOrderElementsOf(
+			offsetPage.getContent().stream().map(ReviewResponse::getReviewId).toList());
+	}
+
+	@Test
+	@DisplayName("사용자별 리뷰 커서 조회 - 평점 낮은순은 평점이 같으면 최신순으로 이어서 조회")
+	void findReviewsByUserIdAfter_lowRate() {
+		List<ReviewResponse> first = reviewRepositoryCustom.findReviewsByUserIdAfter(user1Id, null, 2, "ALL",
+			ReviewSortType.LOW_RATE);
+		List<ReviewResponse> rest = reviewRepositoryCustom.findReviewsByUserIdAfter(user1Id,
+			ReviewCursor.after(first.get(1), ReviewSortType.LOW_RATE), 10, "ALL", ReviewSortType.LOW_RATE);
+
+		assertThat(first).extracting(ReviewResponse::getRate).containsExactly(3, 5);
+		assertThat(rest).extracting(ReviewResponse::getRate).containsExactly(5, 5);
+		assertThat(rest).extracting(ReviewResponse::getReviewId).doesNotContain(first.get(1).getReviewId());
+	}
+
 	private void printReviews(String message, Page<ReviewResponse> result) {
 		System.out.println("\n==== " + message + " ====");
 		result.getContent().forEach(r ->
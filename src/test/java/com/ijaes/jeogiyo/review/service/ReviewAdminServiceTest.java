@@ -1,8 +1,10 @@
 package com.ijaes.jeogiyo.review.service;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -13,17 +15,21 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 
 import com.ijaes.jeogiyo.common.exception.CustomException;
 import com.ijaes.jeogiyo.common.exception.ErrorCode;
+import com.ijaes.jeogiyo.review.dto.response.ModerationStatsResponse;
 import com.ijaes.jeogiyo.review.dto.response.ReviewResponse;
 import com.ijaes.jeogiyo.review.entity.Review;
+import com.ijaes.jeogiyo.review.event.ReviewEvent;
+import com.ijaes.jeogiyo.review.moderation.ReviewModerationService;
+import com.ijaes.jeogiyo.review.moderation.ReviewModerationWorker;
+import com.ijaes.jeogiyo.review.repository.ReviewDetail;
 import com.ijaes.jeogiyo.review.repository.ReviewRepository;
 import com.ijaes.jeogiyo.review.repository.ReviewRepositoryCustomImpl;
-import com.ijaes.jeogiyo.store.entity.Store;
-import com.ijaes.jeogiyo.store.repository.StoreRepository;
 import com.ijaes.jeogiyo.user.entity.Role;
 import com.ijaes.jeogiyo.user.entity.User;
 import com.ijaes.jeogiyo.user.repository.UserRepository;
@@ -37,7 +43,11 @@ public class ReviewAdminServiceTest {
 	@Mock
 	private UserRepository userRepository;
 	@Mock
-	private StoreRepository storeRepository;
+	private ApplicationEventPublisher eventPublisher;
+	@Mock
+	private ReviewModerationService reviewModerationService;
+	@Mock
+	private ReviewModerationWorker reviewModerationWorker;
 
 	@InjectMocks
 	private ReviewAdminService reviewAdminService;
@@ -89,11 +99,8 @@ public class ReviewAdminServiceTest {
 			.rate(5)
 			.build();
 
-		Store store = Store.builder().id(storeId).name("테스트 가게").build();
-
-		when(reviewRepository.findById(reviewId)).thenReturn(Optional.of(review));
-		when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-		when(storeRepository.findById(storeId)).thenReturn(Optional.of(store));
+		when(reviewRepositoryCustomImpl.findReviewDetail(reviewId)).thenReturn(
+			Optional.of(new ReviewDetail(review, "admin_user", Role.MANAGER, "테스트 가게")));
 
 		ReviewResponse response = reviewAdminService.getReviewForAdmin(reviewId);
 
@@ -106,7 +113,7 @@ public class ReviewAdminServiceTest {
 	@Test
 	@DisplayName("관리자 특정 리뷰 조회 실패 - 존재하지 않는 리뷰")
 	void getReviewForAdmin_fail_notFound() {
-		when(reviewRepository.findById(reviewId)).thenReturn(Optional.empty());
+		when(reviewRepositoryCustomImpl.findReviewDetail(reviewId)).thenReturn(Optional.empty());
 
 		assertThatThrownBy(() -> reviewAdminService.getReviewForAdmin(reviewId))
 			.isInstanceOf(CustomException.class)
@@ -154,6 +161,26 @@ public class ReviewAdminServiceTest {
 		assertThat(review.isHidden()).isTrue();
 	}
 
+	// 4-1-1. 숨김 처리된 리뷰는 평점 집계에서 제외
+	@Test
+	@DisplayName("관리자 리뷰 숨김 처리 - 평점 집계 변화량 이벤트 발행")
+	void toggleReviewHidden_hide_publishesRatingChange() {
+		Review review = Review.builder()
+			.reviewId(reviewId)
+			.userId(userId)
+			.storeId(storeId)
+			.rate(4)
+			.build();
+
+		when(reviewRepository.findById(reviewId)).thenReturn(Optional.of(review));
+		when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+
+		reviewAdminService.toggleReviewHidden(reviewId, true);
+
+		verify(eventPublisher).publishEvent(argThat((ReviewEvent event) ->
+			Arrays.equals(event.getStarCountDeltas(), new long[] {0, 0, 0, -1, 0})));
+	}
+
 	// 4-2. 리뷰 숨김 해제
 	@Test
 	@DisplayName("관리자 리뷰 숨김 해제 성공")
@@ -179,4 +206,18 @@ public class ReviewAdminServiceTest {
 			.isInstanceOf(CustomException.class)
 			.hasMessageContaining(ErrorCode.REVIEW_NOT_FOUND.getMessage());
 	}
+
+	// 5-1. 비속어 검사 현황 조회
+	@Test
+	@DisplayName("비속어 검사 현황 조회 - DB 의 검사 대기 리뷰 수를 작업 큐 통계와 함께 반환")
+	void getModerationStats_success() {
+		ModerationStatsResponse stats = ModerationStatsResponse.builder().pendingReviews(3).queueDepth(2).build();
+		when(reviewModerationService.countPending()).thenReturn(3L);
+		when(reviewModerationWorker.stats(3L)).thenReturn(stats);
+
+		ModerationStatsResponse response = reviewAdminService.getModerationStats();
+
+		assertThat(response.getPendingReviews()).isEqualTo(3);
+		assertThat(response.getQueueDepth()).isEqualTo(2);
+	}
 }
@@ -4,6 +4,8 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -19,15 +21,19 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.security.core.Authentication;
 
+import com.ijaes.jeogiyo.common.dto.SliceResponse;
 import com.ijaes.jeogiyo.common.exception.CustomException;
 import com.ijaes.jeogiyo.common.exception.ErrorCode;
-import com.ijaes.jeogiyo.gemini.service.GeminiService;
 import com.ijaes.jeogiyo.review.dto.request.CreateReviewRequest;
 import com.ijaes.jeogiyo.review.dto.request.UpdateReviewRequest;
 import com.ijaes.jeogiyo.review.dto.response.CreateReviewResponse;
 import com.ijaes.jeogiyo.review.dto.response.ReviewResponse;
 import com.ijaes.jeogiyo.review.entity.Review;
+import com.ijaes.jeogiyo.review.entity.ReviewSortType;
 import com.ijaes.jeogiyo.review.event.ReviewEvent;
+import com.ijaes.jeogiyo.review.event.ReviewModerationEvent;
+import com.ijaes.jeogiyo.review.repository.ReviewCursor;
+import com.ijaes.jeogiyo.review.repository.ReviewDetail;
 import com.ijaes.jeogiyo.review.repository.ReviewRepository;
 import com.ijaes.jeogiyo.review.repository.ReviewRepositoryCustomImpl;
 import com.ijaes.jeogiyo.store.entity.Store;
@@ -50,8 +56,6 @@ public class ReviewServiceTest {
 	private Authentication authentication;
 	@Mock
 	private ApplicationEventPublisher eventPublisher;
-	@Mock
-	private GeminiService geminiService;
 
 	@InjectMocks
 	private ReviewService reviewService;
@@ -82,7 +86,7 @@ public class ReviewServiceTest {
 	}
 
 	@Test
-	@DisplayName("1-1. 리뷰 생성 성공 및 이벤트 발생 확인")
+	@DisplayName("1-1. 리뷰 생성 성공 - 검사 대기 상태로 저장하고 비속어 검사 요청")
 	void createReview_success() {
 		// given
 		UUID orderId = UUID.randomUUID();
@@ -92,7 +96,6 @@ public class ReviewServiceTest {
 			Optional.of(Store.builder().id(storeId).name("테스트 가게").build()));
 
 		when(reviewRepository.existsByOrderId(any())).thenReturn(false);
-		when(geminiService.checkAbuseInReview(anyString())).thenReturn(false);
 
 		when(reviewRepository.save(any(Review.class))).thenAnswer(invocation -> {
 			Review reviewToSave = invocation.getArgument(0);
@@ -105,6 +108,7 @@ public class ReviewServiceTest {
 				.title(reviewToSave.getTitle())
 				.content(reviewToSave.getContent())
 				.rate(reviewToSave.getRate())
+				.moderationStatus(reviewToSave.getModerationStatus())
 				.build();
 		});
 
@@ -114,9 +118,9 @@ public class ReviewServiceTest {
 		// then
 		assertThat(response).isNotNull();
 		assertThat(response.getStoreId()).isEqualTo(storeId);
-		verify(reviewRepository).save(any(Review.class));
-		verify(eventPublisher).publishEvent(any(ReviewEvent.class));
-		verify(geminiService).checkAbuseInReview(anyString());
+		verify(reviewRepository).save(argThat(Review::isModerationPending));
+		verify(eventPublisher).publishEvent(any(ReviewModerationEvent.class));
+		verify(eventPublisher, never()).publishEvent(any(ReviewEvent.class));
 	}
 
 	//1-2. 리뷰 생성 실패
@@ -150,24 +154,45 @@ public class ReviewServiceTest {
 			.rate(5)
 			.build();
 
-		Store store = Store.builder().id(storeId).name("테스트 가게").build();
-
-		when(reviewRepository.findById(reviewId)).thenReturn(Optional.of(review));
-		when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-		when(storeRepository.findById(storeId)).thenReturn(Optional.of(store));
+		when(reviewRepositoryCustomImpl.findReviewDetail(reviewId)).thenReturn(
+			Optional.of(new ReviewDetail(review, "test_user", Role.USER, "테스트 가게")));
 
 		ReviewResponse response = reviewService.getReview(reviewId);
 
 		assertThat(response.getReviewerName()).isEqualTo("test_user");
 		assertThat(response.getStoreName()).isEqualTo("테스트 가게");
 		assertThat(response.getTitle()).isEqualTo("테스트 제목");
+		verify(reviewRepository, never()).findById(any());
+	}
+
+	@Test
+	@DisplayName("리뷰 조회 - 차단된 사용자의 리뷰는 내용을 가리고, 없어진 가게는 폐점된 가게로 표시")
+	void getReview_blockedReviewer() {
+		UUID reviewId = UUID.randomUUID();
+		Review review = Review.builder()
+			.reviewId(reviewId)
+			.storeId(storeId)
+			.userId(userId)
+			.title("테스트 제목")
+			.content("테스트 내용")
+			.rate(1)
+			.build();
+
+		when(reviewRepositoryCustomImpl.findReviewDetail(reviewId)).thenReturn(
+			Optional.of(new ReviewDetail(review, "test_user", Role.BLOCK, null)));
+
+		ReviewResponse response = reviewService.getReview(reviewId);
+
+		assertThat(response.getReviewerName()).isEqualTo("차단된 사용자");
+		assertThat(response.getStoreName()).isEqualTo("폐점된 가게");
+		assertThat(response.getRate()).isEqualTo(0);
 	}
 
 	//2-2. 리뷰 조회 실패
 	@Test
 	@DisplayName("리뷰 조회 실패 - 리뷰가 존재하지 않을 때")
 	void getReview_fail_notFound() {
-		when(reviewRepository.findById(any())).thenReturn(Optional.empty());
+		when(reviewRepositoryCustomImpl.findReviewDetail(any())).thenReturn(Optional.empty());
 
 		assertThatThrownBy(() -> reviewService.getReview(UUID.randomUUID()))
 			.isInstanceOf(CustomException.class)
@@ -198,6 +223,53 @@ public class ReviewServiceTest {
 			.hasMessageContaining(ErrorCode.ACCESS_DENIED.getMessage());
 	}
 
+	//3-3. 가게별 리뷰 목록 커서 조회
+	@Test
+	@DisplayName("가게별 리뷰 커서 조회 - 한 건 더 조회해 다음 페이지가 있으면 마지막 리뷰로 커서를 만든다")
+	void getStoreReviewsByCursor_hasNext() {
+		LocalDateTime now = LocalDateTime.now();
+		List<ReviewResponse> reviews = List.of(
+			ReviewResponse.builder().reviewId(UUID.randomUUID()).rate(5).createdAt(now).build(),
+			ReviewResponse.builder().reviewId(UUID.randomUUID()).rate(4).createdAt(now.minusMinutes(1)).build(),
+			ReviewResponse.builder().reviewId(UUID.randomUUID()).rate(4).createdAt(now.minusMinutes(2)).build());
+		when(reviewRepositoryCustomImpl.findReviewsByStoreIdAfter(storeId, null, 3, ReviewSortType.HIGH_RATE))
+			.thenReturn(reviews);
+
+		SliceResponse<ReviewResponse> result = reviewService.getStoreReviewsByCursor(storeId, "", 2, "HIGH_RATE");
+
+		assertThat(result.getContent()).hasSize(2);
+		assertThat(result.isHasNext()).isTrue();
+		ReviewCursor next = ReviewCursor.decode(result.getNextCursor(), ReviewSortType.HIGH_RATE);
+		assertThat(next.getReviewId()).isEqualTo(reviews.get(1).getReviewId());
+		assertThat(next.getRate()).isEqualTo(4);
+		assertThat(next.getCreatedAt()).isEqualTo(reviews.get(1).getCreatedAt());
+	}
+
+	@Test
+	@DisplayName("가게별 리뷰 커서 조회 - 다른 정렬에서 받은 커서는 거부")
+	void getStoreReviewsByCursor_fail_sortMismatch() {
+		String latestCursor = new ReviewCursor(null, LocalDateTime.now(), UUID.randomUUID()).encode();
+
+		assertThatThrownBy(() -> reviewService.getStoreReviewsByCursor(storeId, latestCursor, 10, "LOW_RATE"))
+			.isInstanceOf(CustomException.class)
+			.hasMessageContaining(ErrorCode.INVALID_CURSOR.getMessage());
+	}
+
+	@Test
+	@DisplayName("사용자별 리뷰 커서 조회 - 마지막 페이지면 다음 커서가 없다")
+	void getUserReviewsByCursor_lastPage() {
+		ReviewCursor cursor = new ReviewCursor(null, LocalDateTime.now(), UUID.randomUUID());
+		when(reviewRepositoryCustomImpl.findReviewsByUserIdAfter(eq(userId), any(ReviewCursor.class), eq(11),
+			eq("ALL"), eq(ReviewSortType.LATEST))).thenReturn(List.of(new ReviewResponse()));
+
+		SliceResponse<ReviewResponse> result = reviewService.getUserReviewsByCursor(authentication, userId,
+			cursor.encode(), 10, "ALL", "LATEST");
+
+		assertThat(result.getContent()).hasSize(1);
+		assertThat(result.isHasNext()).isFalse();
+		assertThat(result.getNextCursor()).isNull();
+	}
+
 	//4. 리뷰 수정
 	@Test
 	@DisplayName("리뷰 수정 성공 - 제목과 내용 수정")
@@ -215,7 +287,6 @@ public class ReviewServiceTest {
 		UpdateReviewRequest request = new UpdateReviewRequest("new title", "new content", 5);
 		when(reviewRepository.findById(reviewId)).thenReturn(Optional.of(review));
 		when(storeRepository.findById(storeId)).thenReturn(Optional.of(Store.builder().id(storeId).name("가게").build()));
-		when(geminiService.checkAbuseInReview("new content")).thenReturn(false);
 
 		ReviewResponse response = reviewService.updateReview(authentication, reviewId, request);
 
@@ -224,6 +295,53 @@ public class ReviewServiceTest {
 		verify(eventPublisher).publishEvent(any(ReviewEvent.class));
 	}
 
+	@Test
+	@DisplayName("리뷰 수정 - 내용이 바뀌면 검사 대기로 전환되어 평점 집계에서 제외되고 검사 요청")
+	void updateReview_pendingReviewLeavesRating() {
+		UUID reviewId = UUID.randomUUID();
+		Review review = Review.builder()
+			.reviewId(reviewId)
+			.userId(userId)
+			.storeId(storeId)
+			.title("title")
+			.content("old content")
+			.rate(3)
+			.build();
+
+		UpdateReviewRequest request = new UpdateReviewRequest(null, "bad content", null);
+		when(reviewRepository.findById(reviewId)).thenReturn(Optional.of(review));
+
+		reviewService.updateReview(authentication, reviewId, request);
+
+		assertThat(review.isModerationPending()).isTrue();
+		verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof ReviewEvent ratingEvent
+			&& ratingEvent.getStoreId().equals(storeId)
+			&& Arrays.equals(ratingEvent.getStarCountDeltas(), new long[] {0, 0, -1, 0, 0})));
+		verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof ReviewModerationEvent moderationEvent
+			&& moderationEvent.getReviewId().equals(reviewId)));
+	}
+
+	@Test
+	@DisplayName("리뷰 수정 - 집계에 영향이 없으면 이벤트 미발행")
+	void updateReview_titleOnlyPublishesNothing() {
+		UUID reviewId = UUID.randomUUID();
+		Review review = Review.builder()
+			.reviewId(reviewId)
+			.userId(userId)
+			.storeId(storeId)
+			.title("old title")
+			.content("content")
+			.rate(3)
+			.build();
+
+		UpdateReviewRequest request = new UpdateReviewRequest("new title", null, null);
+		when(reviewRepository.findById(reviewId)).thenReturn(Optional.of(review));
+
+		reviewService.updateReview(authentication, reviewId, request);
+
+		verify(eventPublisher, never()).publishEvent(any(ReviewEvent.class));
+	}
+
 	//5-1. 리뷰 삭제 성공
 	@Test
 	@DisplayName("리뷰 삭제 성공")
@@ -235,6 +353,7 @@ public class ReviewServiceTest {
 			.storeId(storeId)
 			.title("삭제 전 제목")
 			.content("삭제 전 내용")
+			.rate(4)
 			.build();
 
 		when(reviewRepository.findById(reviewId)).thenReturn(Optional.of(review));
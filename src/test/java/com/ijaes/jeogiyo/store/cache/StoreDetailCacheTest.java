@@ -0,0 +1,86 @@
+package com.ijaes.jeogiyo.store.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.ijaes.jeogiyo.common.dto.CacheStatsResponse;
+import com.ijaes.jeogiyo.common.exception.CustomException;
+import com.ijaes.jeogiyo.common.exception.ErrorCode;
+import com.ijaes.jeogiyo.store.dto.response.StoreDetailResponse;
+
+@DisplayName("StoreDetailCache 테스트")
+class StoreDetailCacheTest {
+
+	private StoreDetailCache storeDetailCache;
+
+	@BeforeEach
+	void setUp() {
+		storeDetailCache = new StoreDetailCache(100, 60);
+	}
+
+	@Test
+	@DisplayName("적재 후 조회는 히트, 무효화 후 조회는 다시 적재")
+	void get_loadsOnceUntilInvalidated() {
+		// given
+		UUID storeId = UUID.randomUUID();
+		StoreDetailResponse detail = detail(storeId, UUID.randomUUID());
+
+		// when
+		storeDetailCache.get(storeId, id -> detail);
+		storeDetailCache.get(storeId, id -> fail("캐시에서 반환되어야 합니다"));
+		storeDetailCache.invalidate(storeId);
+		storeDetailCache.get(storeId, id -> detail);
+
+		// then
+		CacheStatsResponse stats = storeDetailCache.stats();
+		assertEquals("storeDetail", stats.getName());
+		assertEquals(1, stats.getHitCount());
+		assertEquals(2, stats.getMissCount());
+	}
+
+	@Test
+	@DisplayName("사장님 ID 로 무효화하면 해당 사장님 매장만 제거")
+	void invalidateByOwner() {
+		// given
+		UUID ownerId = UUID.randomUUID();
+		UUID ownedStoreId = UUID.randomUUID();
+		UUID otherStoreId = UUID.randomUUID();
+		storeDetailCache.get(ownedStoreId, id -> detail(id, ownerId));
+		storeDetailCache.get(otherStoreId, id -> detail(id, UUID.randomUUID()));
+
+		// when
+		storeDetailCache.invalidateByOwner(ownerId);
+
+		// then
+		assertEquals(1, storeDetailCache.stats().getSize());
+		assertEquals(otherStoreId, storeDetailCache.get(otherStoreId, id -> null).getId());
+	}
+
+	@Test
+	@DisplayName("적재 중 예외가 발생하면 캐시하지 않고 전파")
+	void get_loaderExceptionIsNotCached() {
+		// given
+		UUID storeId = UUID.randomUUID();
+
+		// when & then
+		CustomException exception = assertThrows(CustomException.class,
+			() -> storeDetailCache.get(storeId, id -> {
+				throw new CustomException(ErrorCode.STORE_NOT_FOUND);
+			}));
+		assertEquals(ErrorCode.STORE_NOT_FOUND, exception.getErrorCode());
+		assertEquals(0, storeDetailCache.stats().getSize());
+	}
+
+	private StoreDetailResponse detail(UUID storeId, UUID ownerId) {
+		return StoreDetailResponse.builder()
+			.id(storeId)
+			.name("소문난 국밥집")
+			.owner(StoreDetailResponse.OwnerInfo.builder().id(ownerId).build())
+			.build();
+	}
+}
@@ -0,0 +1,63 @@
+package com.ijaes.jeogiyo.store.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.ijaes.jeogiyo.store.entity.Category;
+import com.ijaes.jeogiyo.store.index.SearchMode;
+
+@DisplayName("StoreSearchCache 테스트")
+class StoreSearchCacheTest {
+
+	private StoreSearchCache storeSearchCache;
+
+	@BeforeEach
+	void setUp() {
+		storeSearchCache = new StoreSearchCache(100, 60);
+	}
+
+	@Test
+	@DisplayName("세대가 오르기 전까지는 캐시에서 반환, 오른 후에는 다시 적재")
+	void getPage_reloadsAfterGenerationBump() {
+		// given
+		StoreSearchKey key = StoreSearchKey.of("치킨", SearchMode.TEXT, null, null, null, 0, 10);
+		UUID before = UUID.randomUUID();
+		UUID after = UUID.randomUUID();
+		storeSearchCache.getPage(key, k -> page(before));
+
+		// when
+		SearchResultPage cached = storeSearchCache.getPage(key, k -> page(after));
+		storeSearchCache.bumpGeneration();
+		SearchResultPage reloaded = storeSearchCache.getPage(key, k -> page(after));
+
+		// then
+		assertEquals(List.of(before), cached.getStoreIds());
+		assertEquals(List.of(after), reloaded.getStoreIds());
+		assertEquals(1, reloaded.getGeneration());
+	}
+
+	@Test
+	@DisplayName("검색어는 정규화, 가까운 사용자는 같은 키를 공유")
+	void key_normalizesQueryAndLocation() {
+		// when
+		StoreSearchKey first = StoreSearchKey.of("Chicken", SearchMode.TEXT, Category.KOREAN, 37.4971, 127.0271, 0, 10);
+		StoreSearchKey nearby = StoreSearchKey.of("CHICKEN", SearchMode.TEXT, Category.KOREAN, 37.4979, 127.0276, 0, 10);
+		StoreSearchKey farAway = StoreSearchKey.of("chicken", SearchMode.TEXT, Category.KOREAN, 37.5665, 126.9780, 0, 10);
+
+		// then
+		assertEquals(first, nearby);
+		assertNotEquals(first, farAway);
+		assertEquals(37.495, first.latitude(), 1e-9);
+		assertNull(StoreSearchKey.of("chicken", SearchMode.TEXT, null, null, 127.0276, 0, 10).latitude());
+	}
+
+	private SearchResultPage page(UUID storeId) {
+		return new SearchResultPage(storeSearchCache.currentGeneration(), List.of(storeId), 1);
+	}
+}
@@ -21,6 +21,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
 import com.ijaes.jeogiyo.store.dto.request.UpdateStoreRequest;
+import com.ijaes.jeogiyo.store.dto.response.SearchTrendResponse;
 import com.ijaes.jeogiyo.store.dto.response.StoreResponse;
 import com.ijaes.jeogiyo.store.service.StoreAdminService;
 
@@ -246,4 +247,20 @@ class StoreAdminControllerTest {
 		assertTrue(result.getStatusCode().is2xxSuccessful());
 		assertNotNull(result.getBody());
 	}
+
+	@Test
+	@DisplayName("인기 검색어 조회 API - 성공")
+	void getSearchTrends_success() {
+		// given
+		when(storeAdminService.getSearchTrends(60, 20))
+			.thenReturn(java.util.List.of(new SearchTrendResponse("국밥", 12)));
+
+		// when
+		ResponseEntity<java.util.List<SearchTrendResponse>> result = storeAdminController.getSearchTrends(60, 20);
+
+		// then
+		assertEquals(200, result.getStatusCodeValue());
+		assertEquals("국밥", result.getBody().get(0).getQuery());
+		verify(storeAdminService, times(1)).getSearchTrends(60, 20);
+	}
 }
@@ -4,10 +4,12 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -23,6 +25,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
+import com.ijaes.jeogiyo.store.dto.response.RatingHistogramResponse;
 import com.ijaes.jeogiyo.store.dto.response.StoreDetailResponse;
 import com.ijaes.jeogiyo.store.dto.response.StoreResponse;
 import com.ijaes.jeogiyo.store.service.StoreUserService;
@@ -78,12 +81,12 @@ class StoreUserControllerTest {
 
 		Page<StoreResponse> expectedPage = new PageImpl<>(java.util.List.of(store));
 
-		when(storeUserService.getAllStores(anyInt(), anyInt(), anyString(), any(Authentication.class)))
+		when(storeUserService.getAllStores(anyInt(), anyInt(), anyString(), isNull(), isNull(), any(Authentication.class)))
 			.thenReturn(expectedPage);
 
 		// when
 		Authentication authentication = createMockAuthentication();
-		ResponseEntity<Page<StoreResponse>> result = storeUserController.getAllStores(0, 10, "rate", authentication);
+		ResponseEntity<Page<StoreResponse>> result = storeUserController.getAllStores(0, 10, "rate", null, null, authentication);
 
 		// then
 		assertNotNull(result);
@@ -92,7 +95,7 @@ class StoreUserControllerTest {
 		assertEquals(1, result.getBody().getTotalElements());
 		assertEquals(storeId, result.getBody().getContent().get(0).getId());
 		assertEquals("소문난 국밥집", result.getBody().getContent().get(0).getName());
-		verify(storeUserService, times(1)).getAllStores(anyInt(), anyInt(), anyString(), any(Authentication.class));
+		verify(storeUserService, times(1)).getAllStores(anyInt(), anyInt(), anyString(), isNull(), isNull(), any(Authentication.class));
 	}
 
 	@Test
@@ -101,12 +104,12 @@ class StoreUserControllerTest {
 		// given
 		Page<StoreResponse> expectedPage = new PageImpl<>(java.util.List.of());
 
-		when(storeUserService.getAllStores(anyInt(), anyInt(), anyString(), any(Authentication.class)))
+		when(storeUserService.getAllStores(anyInt(), anyInt(), anyString(), isNull(), isNull(), any(Authentication.class)))
 			.thenReturn(expectedPage);
 
 		// when
 		Authentication authentication = createMockAuthentication();
-		ResponseEntity<Page<StoreResponse>> result = storeUserController.getAllStores(0, 10, "distance", authentication);
+		ResponseEntity<Page<StoreResponse>> result = storeUserController.getAllStores(0, 10, "distance", null, null, authentication);
 
 		// then
 		assertNotNull(result);
@@ -132,17 +135,17 @@ class StoreUserControllerTest {
 
 		Page<StoreResponse> expectedPage = new PageImpl<>(java.util.List.of(store));
 
-		when(storeUserService.getAllStores(anyInt(), anyInt(), anyString(), any(Authentication.class)))
+		when(storeUserService.getAllStores(anyInt(), anyInt(), anyString(), isNull(), isNull(), any(Authentication.class)))
 			.thenReturn(expectedPage);
 
 		// when
 		Authentication authentication = createMockAuthentication();
-		ResponseEntity<Page<StoreResponse>> result = storeUserController.getAllStores(0, 10, "name", authentication);
+		ResponseEntity<Page<StoreResponse>> result = storeUserController.getAllStores(0, 10, "name", null, null, authentication);
 
 		// then
 		assertNotNull(result.getBody());
 		assertEquals(1, result.getBody().getTotalElements());
-		verify(storeUserService, times(1)).getAllStores(anyInt(), anyInt(), anyString(), any(Authentication.class));
+		verify(storeUserService, times(1)).getAllStores(anyInt(), anyInt(), anyString(), isNull(), isNull(), any(Authentication.class));
 	}
 
 	@Test
@@ -184,6 +187,27 @@ class StoreUserControllerTest {
 		verify(storeUserService, times(1)).getStoreDetail(storeId);
 	}
 
+	@Test
+	@DisplayName("매장 별점 분포 조회 API - 성공")
+	void getRatingHistogram_success() {
+		// given
+		RatingHistogramResponse histogram = RatingHistogramResponse.builder()
+			.storeId(storeId)
+			.rate(4.0)
+			.ratingCount(3)
+			.starCounts(List.of(0L, 0L, 1L, 1L, 1L))
+			.build();
+		when(storeUserService.getRatingHistogram(storeId)).thenReturn(histogram);
+
+		// when
+		ResponseEntity<RatingHistogramResponse> result = storeUserController.getRatingHistogram(storeId);
+
+		// then
+		assertEquals(200, result.getStatusCodeValue());
+		assertEquals(3, result.getBody().getRatingCount());
+		verify(storeUserService, times(1)).getRatingHistogram(storeId);
+	}
+
 	@Test
 	@DisplayName("매장 상세 조회 API - 사장님 정보 포함")
 	void getStoreDetail_ownerInfoIncluded() {
@@ -226,16 +250,16 @@ class StoreUserControllerTest {
 		// given
 		Page<StoreResponse> expectedPage = new PageImpl<>(java.util.List.of());
 
-		when(storeUserService.getAllStores(anyInt(), anyInt(), anyString(), any(Authentication.class)))
+		when(storeUserService.getAllStores(anyInt(), anyInt(), anyString(), isNull(), isNull(), any(Authentication.class)))
 			.thenReturn(expectedPage);
 
 		// when
 		Authentication authentication = createMockAuthentication();
-		ResponseEntity<Page<StoreResponse>> result = storeUserController.getAllStores(0, 20, "rate", authentication);
+		ResponseEntity<Page<StoreResponse>> result = storeUserController.getAllStores(0, 20, "rate", null, null, authentication);
 
 		// then
 		assertNotNull(result);
-		verify(storeUserService, times(1)).getAllStores(anyInt(), anyInt(), anyString(), any(Authentication.class));
+		verify(storeUserService, times(1)).getAllStores(anyInt(), anyInt(), anyString(), isNull(), isNull(), any(Authentication.class));
 	}
 
 	@Test
@@ -244,12 +268,12 @@ class StoreUserControllerTest {
 		// given
 		Page<StoreResponse> expectedPage = new PageImpl<>(java.util.List.of());
 
-		when(storeUserService.getAllStores(anyInt(), anyInt(), anyString(), any(Authentication.class)))
+		when(storeUserService.getAllStores(anyInt(), anyInt(), anyString(), isNull(), isNull(), any(Authentication.class)))
 			.thenReturn(expectedPage);
 
 		// when
 		Authentication authentication = createMockAuthentication();
-		ResponseEntity<Page<StoreResponse>> result = storeUserController.getAllStores(0, 10, "distance", authentication);
+		ResponseEntity<Page<StoreResponse>> result = storeUserController.getAllStores(0, 10, "distance", null, null, authentication);
 
 		// then
 		assertNotNull(result);
@@ -0,0 +1,140 @@
+package com.ijaes.jeogiyo.store.event;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.ijaes.jeogiyo.store.repository.RatingAggregate;
+
+@DisplayName("StoreRatingDeltaBuffer 테스트")
+class StoreRatingDeltaBufferTest {
+
+	private StoreRatingDeltaBuffer buffer;
+	private UUID storeId;
+
+	@BeforeEach
+	void setUp() {
+		buffer = new StoreRatingDeltaBuffer();
+		storeId = UUID.randomUUID();
+	}
+
+	@Test
+	@DisplayName("같은 매장의 변화량은 하나로 합쳐서 꺼냄")
+	void drain_coalescesPerStore() {
+		// given
+		UUID otherId = UUID.randomUUID();
+		buffer.add(storeId, new long[] {0, 0, 0, 0, 1});
+		buffer.add(storeId, new long[] {0, 0, 0, 1, -1});
+		buffer.add(otherId, new long[] {1, 0, 0, 0, 0});
+
+		// when
+		List<RatingAggregate> drained = buffer.drain();
+
+		// then
+		assertEquals(2, drained.size());
+		RatingAggregate delta = drained.stream()
+			.filter(aggregate -> aggregate.getStoreId().equals(storeId))
+			.findFirst()
+			.orElseThrow();
+		assertArrayEquals(new long[] {0, 0, 0, 1, 0}, delta.getStarCounts());
+		assertEquals(4, delta.getRatingSum());
+		assertEquals(1, delta.getRatingCount());
+		assertEquals(0, buffer.size());
+	}
+
+	@Test
+	@DisplayName("합쳐서 변화가 없어진 매장은 버림")
+	void drain_dropsCancelledDeltas() {
+		// given
+		buffer.add(storeId, new long[] {0, 0, 1, 0, 0});
+		buffer.add(storeId, new long[] {0, 0, -1, 0, 0});
+
+		// when
+		List<RatingAggregate> drained = buffer.drain();
+
+		// then
+		assertTrue(drained.isEmpty());
+	}
+
+	@Test
+	@DisplayName("넣은 배열을 나중에 바꿔도 버퍼에는 영향 없음")
+	void add_copiesInput() {
+		// given
+		long[] starCountDeltas = {0, 1, 0, 0, 0};
+		buffer.add(storeId, starCountDeltas);
+
+		// when
+		starCountDeltas[1] = 5;
+
+		// then
+		assertArrayEquals(new long[] {0, 1, 0, 0, 0}, buffer.drain().get(0).getStarCounts());
+	}
+
+	@Test
+	@DisplayName("반영에 실패해 되돌린 변화량은 새로 들어온 변화량과 합쳐짐")
+	void restore_mergesWithNewDeltas() {
+		// given
+		buffer.add(storeId, new long[] {0, 0, 0, 0, 1});
+		List<RatingAggregate> failed = buffer.drain();
+		buffer.add(storeId, new long[] {0, 0, 0, 0, 1});
+
+		// when
+		buffer.restore(failed);
+
+		// then
+		assertArrayEquals(new long[] {0, 0, 0, 0, 2}, buffer.drain().get(0).getStarCounts());
+	}
+
+	@Test
+	@DisplayName("커밋 중인 리뷰가 버퍼에 넣기 전이면 스냅샷을 읽지 않고, 넣은 뒤에는 읽음")
+	void whileCommitsPaused_waitsForCommitInProgress() throws InterruptedException {
+		// given
+		CountDownLatch entered = new CountDownLatch(1);
+		CountDownLatch added = new CountDownLatch(1);
+		Thread committer = new Thread(() -> {
+			buffer.enterCommit();
+			entered.countDown();
+			try {
+				added.await();
+				buffer.add(storeId, new long[] {0, 0, 0, 0, 1});
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} finally {
+				buffer.exitCommit();
+			}
+		});
+		committer.start();
+		assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+		// when
+		Optional<Boolean> whileCommitting = buffer.whileCommitsPaused(Duration.ofMillis(50),
+			() -> buffer.hasPending(storeId));
+		added.countDown();
+		Optional<Boolean> afterCommit = buffer.whileCommitsPaused(Duration.ofSeconds(5),
+			() -> buffer.hasPending(storeId));
+		committer.join();
+
+		// then
+		assertTrue(whileCommitting.isEmpty());
+		assertEquals(Optional.of(true), afterCommit);
+	}
+
+	@Test
+	@DisplayName("커밋 전에 롤백되어 enterCommit 없이 exitCommit 이 불려도 안전")
+	void exitCommit_withoutEnter() {
+		// when
+		buffer.exitCommit();
+
+		// then
+		assertEquals(Optional.of(1), buffer.whileCommitsPaused(Duration.ofMillis(50), () -> 1));
+	}
+}
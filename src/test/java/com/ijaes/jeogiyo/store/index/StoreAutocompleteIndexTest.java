@@ -0,0 +1,102 @@
+package com.ijaes.jeogiyo.store.index;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.ijaes.jeogiyo.store.entity.Category;
+
+@DisplayName("StoreAutocompleteIndex 테스트")
+class StoreAutocompleteIndexTest {
+
+	private StoreAutocompleteIndex storeAutocompleteIndex;
+
+	private UUID gukbapStoreId;
+	private UUID chickenStoreId;
+	private UUID menuId;
+
+	@BeforeEach
+	void setUp() {
+		storeAutocompleteIndex = new StoreAutocompleteIndex();
+
+		gukbapStoreId = UUID.randomUUID();
+		chickenStoreId = UUID.randomUUID();
+		menuId = UUID.randomUUID();
+
+		storeAutocompleteIndex.load(
+			List.of(
+				new SearchableStore(gukbapStoreId, "소문난 국밥집", Category.KOREAN, 3.5, null, null),
+				new SearchableStore(chickenStoreId, "Chicken 국가대표", Category.KOREAN, 4.5, null, null)
+			),
+			List.of(
+				new SearchableMenu(menuId, gukbapStoreId, "국밥"),
+				new SearchableMenu(UUID.randomUUID(), chickenStoreId, "국밥")
+			)
+		);
+	}
+
+	@Test
+	@DisplayName("이름 시작과 단어 시작으로 추천, 평점 내림차순, 같은 메뉴명은 한 번만")
+	void suggest_ordersByRate() {
+		// when
+		List<AutocompleteSuggestion> result = storeAutocompleteIndex.suggest("국", 10);
+
+		// then
+		assertEquals(3, result.size());
+		assertEquals(AutocompleteSuggestion.Type.MENU, result.get(0).getType());
+		assertEquals(4.5, result.get(0).getRate());
+		assertEquals(chickenStoreId, result.get(1).getStoreId());
+		assertEquals(gukbapStoreId, result.get(2).getStoreId());
+		assertEquals(List.of(chickenStoreId), storeAutocompleteIndex.suggest("CHI", 10).stream()
+			.map(AutocompleteSuggestion::getStoreId).toList());
+		assertTrue(storeAutocompleteIndex.suggest("밥", 10).isEmpty());
+	}
+
+	@Test
+	@DisplayName("평점/메뉴/매장 변경은 다시 만들 때까지 직전 스냅샷으로 조회, 다시 만든 뒤 반영")
+	void suggest_reflectsUpdatesAfterRebuild() {
+		// when
+		storeAutocompleteIndex.putRate(gukbapStoreId, 5.0);
+		storeAutocompleteIndex.removeStore(chickenStoreId);
+		storeAutocompleteIndex.putMenu(menuId, gukbapStoreId, "국수");
+		List<AutocompleteSuggestion> beforeRebuild = storeAutocompleteIndex.suggest("국", 10);
+		boolean rebuilt = storeAutocompleteIndex.rebuildIfDirty();
+		List<AutocompleteSuggestion> result = storeAutocompleteIndex.suggest("국", 10);
+
+		// then
+		assertEquals(3, beforeRebuild.size());
+		assertTrue(rebuilt);
+		assertEquals(List.of("국수", "소문난 국밥집"), result.stream().map(AutocompleteSuggestion::getText).toList());
+		assertEquals(1, storeAutocompleteIndex.suggest("국", 1).size());
+	}
+
+	@Test
+	@DisplayName("어느 노드의 상위 목록에도 들거나 빠질 수 없는 평점 변경은 다시 만들지 않음")
+	void putRate_skipsRebuildWhenTopSuggestionsCannotChange() {
+		// given
+		List<SearchableStore> stores = new ArrayList<>();
+		for (int i = 0; i < StoreAutocompleteIndex.MAX_SUGGESTIONS; i++) {
+			stores.add(new SearchableStore(UUID.randomUUID(), "피자 " + i, Category.KOREAN, 4.0 + i * 0.01, null, null));
+		}
+		UUID lowRatedStoreId = UUID.randomUUID();
+		stores.add(new SearchableStore(lowRatedStoreId, "피자", Category.KOREAN, 1.0, null, null));
+		storeAutocompleteIndex.load(stores, List.of());
+
+		// when
+		storeAutocompleteIndex.putRate(lowRatedStoreId, 2.0);
+		boolean rebuiltForLowRate = storeAutocompleteIndex.rebuildIfDirty();
+		storeAutocompleteIndex.putRate(lowRatedStoreId, 4.5);
+		boolean rebuiltForHighRate = storeAutocompleteIndex.rebuildIfDirty();
+
+		// then
+		assertFalse(rebuiltForLowRate);
+		assertTrue(rebuiltForHighRate);
+		assertEquals(lowRatedStoreId, storeAutocompleteIndex.suggest("피자", 1).get(0).getStoreId());
+	}
+}
@@ -0,0 +1,211 @@
+package com.ijaes.jeogiyo.store.index;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.ijaes.jeogiyo.common.util.GeoUtils;
+import com.ijaes.jeogiyo.store.entity.Category;
+
+@DisplayName("StoreGeoIndex 테스트")
+class StoreGeoIndexTest {
+
+	private static final double USER_LAT = 37.4979;
+	private static final double USER_LON = 127.0276;
+
+	private StoreGeoIndex storeGeoIndex;
+
+	@BeforeEach
+	void setUp() {
+		storeGeoIndex = new StoreGeoIndex();
+	}
+
+	@Test
+	@DisplayName("거리순 조회 - 전체 정렬 결과와 동일한 순서")
+	void findNearest_matchesFullSort() {
+		// given
+		Random random = new Random(42);
+		List<NearbyStore> expected = new ArrayList<>();
+		for (int i = 0; i < 500; i++) {
+			UUID storeId = UUID.randomUUID();
+			double latitude = 37.0 + random.nextDouble();
+			double longitude = 126.5 + random.nextDouble();
+			storeGeoIndex.put(storeId, Category.KOREAN, latitude, longitude);
+			expected.add(new NearbyStore(storeId, GeoUtils.distanceKm(USER_LAT, USER_LON, latitude, longitude)));
+		}
+		expected.sort(Comparator.comparingDouble(NearbyStore::getDistance));
+
+		// when
+		List<NearbyStore> firstPage = storeGeoIndex.findNearest(USER_LAT, USER_LON, null, 0, 10);
+		List<NearbyStore> deepPage = storeGeoIndex.findNearest(USER_LAT, USER_LON, null, 240, 20);
+
+		// then
+		assertEquals(500, storeGeoIndex.size());
+		assertEquals(10, firstPage.size());
+		assertEquals(20, deepPage.size());
+		for (int i = 0; i < firstPage.size(); i++) {
+			assertEquals(expected.get(i).getStoreId(), firstPage.get(i).getStoreId());
+		}
+		for (int i = 0; i < deepPage.size(); i++) {
+			assertEquals(expected.get(240 + i).getStoreId(), deepPage.get(i).getStoreId());
+		}
+	}
+
+	@Test
+	@DisplayName("커서 조회 - 이어붙인 페이지가 전체 정렬 결과와 동일")
+	void findNearestAfter_pagesMatchFullSort() {
+		// given
+		Random random = new Random(7);
+		List<NearbyStore> expected = new ArrayList<>();
+		for (int i = 0; i < 300; i++) {
+			UUID storeId = UUID.randomUUID();
+			double latitude = 37.0 + random.nextDouble();
+			double longitude = 126.5 + random.nextDouble();
+			storeGeoIndex.put(storeId, Category.KOREAN, latitude, longitude);
+			expected.add(new NearbyStore(storeId, GeoUtils.distanceKm(USER_LAT, USER_LON, latitude, longitude)));
+		}
+		// 같은 좌표의 매장은 매장 ID 순으로 이어져야 한다
+		for (int i = 0; i < 5; i++) {
+			UUID storeId = UUID.randomUUID();
+			storeGeoIndex.put(storeId, Category.KOREAN, 37.51, 127.03);
+			expected.add(new NearbyStore(storeId, GeoUtils.distanceKm(USER_LAT, USER_LON, 37.51, 127.03)));
+		}
+		expected.sort(Comparator.comparingDouble(NearbyStore::getDistance).thenComparing(NearbyStore::getStoreId));
+
+		// when
+		List<NearbyStore> scrolled = new ArrayList<>(storeGeoIndex.findNearest(USER_LAT, USER_LON, null, 0, 7));
+		while (scrolled.size() < expected.size()) {
+			NearbyStore last = scrolled.get(scrolled.size() - 1);
+			DistanceCursor cursor = new DistanceCursor(last.getDistance(), last.getStoreId());
+			List<NearbyStore> page = storeGeoIndex.findNearestAfter(USER_LAT, USER_LON, null, cursor, 7);
+			assertFalse(page.isEmpty());
+			scrolled.addAll(page);
+		}
+
+		// then
+		assertEquals(expected.size(), scrolled.size());
+		for (int i = 0; i < expected.size(); i++) {
+			assertEquals(expected.get(i).getStoreId(), scrolled.get(i).getStoreId());
+		}
+	}
+
+	@Test
+	@DisplayName("좌표 수정 및 삭제 반영")
+	void putAndRemove() {
+		// given
+		UUID nearStoreId = UUID.randomUUID();
+		UUID farStoreId = UUID.randomUUID();
+		storeGeoIndex.put(nearStoreId, Category.KOREAN, USER_LAT, USER_LON);
+		storeGeoIndex.put(farStoreId, Category.KOREAN, 35.1796, 129.0756);
+
+		// when
+		storeGeoIndex.put(nearStoreId, Category.KOREAN, 33.4996, 126.5312);
+		List<NearbyStore> afterMove = storeGeoIndex.findNearest(USER_LAT, USER_LON, null, 0, 10);
+		storeGeoIndex.remove(farStoreId);
+		List<NearbyStore> afterRemove = storeGeoIndex.findNearest(USER_LAT, USER_LON, null, 0, 10);
+
+		// then
+		assertEquals(farStoreId, afterMove.get(0).getStoreId());
+		assertEquals(nearStoreId, afterMove.get(1).getStoreId());
+		assertEquals(1, afterRemove.size());
+		assertEquals(nearStoreId, afterRemove.get(0).getStoreId());
+	}
+
+	@Test
+	@DisplayName("카테고리 필터 - 해당 카테고리 매장만 조회")
+	void findNearest_byCategory() {
+		// given
+		UUID nearJapanese = UUID.randomUUID();
+		UUID farKorean = UUID.randomUUID();
+		UUID nearKorean = UUID.randomUUID();
+		storeGeoIndex.put(nearJapanese, Category.JAPANESE, USER_LAT, USER_LON);
+		storeGeoIndex.put(farKorean, Category.KOREAN, 35.1796, 129.0756);
+		storeGeoIndex.put(nearKorean, Category.KOREAN, 37.5000, 127.0300);
+
+		// when
+		List<NearbyStore> korean = storeGeoIndex.findNearest(USER_LAT, USER_LON, Category.KOREAN, 0, 10);
+		storeGeoIndex.put(nearJapanese, Category.KOREAN, USER_LAT, USER_LON);
+		List<NearbyStore> japanese = storeGeoIndex.findNearest(USER_LAT, USER_LON, Category.JAPANESE, 0, 10);
+
+		// then
+		assertEquals(2, korean.size());
+		assertEquals(nearKorean, korean.get(0).getStoreId());
+		assertEquals(farKorean, korean.get(1).getStoreId());
+		assertTrue(japanese.isEmpty());
+		assertEquals(3, storeGeoIndex.size(Category.KOREAN));
+		assertEquals(3, storeGeoIndex.size());
+	}
+
+	@Test
+	@DisplayName("좌표가 없는 매장은 인덱스에서 제외")
+	void put_withoutCoordinates() {
+		// given
+		UUID storeId = UUID.randomUUID();
+		storeGeoIndex.put(storeId, Category.KOREAN, USER_LAT, USER_LON);
+
+		// when
+		storeGeoIndex.put(storeId, Category.KOREAN, null, null);
+
+		// then
+		assertEquals(0, storeGeoIndex.size());
+		assertTrue(storeGeoIndex.findNearest(USER_LAT, USER_LON, null, 0, 10).isEmpty());
+	}
+
+	@Test
+	@DisplayName("시작 시 적재 - 적재 전에 이벤트로 삭제/이동된 매장은 스냅샷 값으로 되살리지 않음")
+	void load_skipsStoresTouchedByEvents() {
+		// given
+		UUID deletedStoreId = UUID.randomUUID();
+		UUID movedStoreId = UUID.randomUUID();
+		UUID untouchedStoreId = UUID.randomUUID();
+		StoreCoordinates snapshot = new StoreCoordinates(
+			new UUID[] {deletedStoreId, movedStoreId, untouchedStoreId},
+			new Category[] {Category.KOREAN, Category.KOREAN, Category.KOREAN},
+			new double[] {USER_LAT, USER_LAT, 37.5000},
+			new double[] {USER_LON, USER_LON, 127.0300});
+		storeGeoIndex.remove(deletedStoreId);
+		storeGeoIndex.put(movedStoreId, Category.KOREAN, 35.1796, 129.0756);
+
+		// when
+		storeGeoIndex.load(snapshot);
+		storeGeoIndex.remove(untouchedStoreId);
+		List<NearbyStore> nearest = storeGeoIndex.findNearest(USER_LAT, USER_LON, null, 0, 10);
+
+		// then
+		assertTrue(storeGeoIndex.isLoaded());
+		assertEquals(1, nearest.size());
+		assertEquals(movedStoreId, nearest.get(0).getStoreId());
+		assertTrue(nearest.get(0).getDistance() > 300);
+	}
+
+	@Test
+	@DisplayName("멀리 떨어진 좌표를 고친 뒤에도 조회 결과가 정확")
+	void findNearest_afterOutlierRemoved() {
+		// given
+		UUID outlierId = UUID.randomUUID();
+		UUID nearStoreId = UUID.randomUUID();
+		storeGeoIndex.put(outlierId, Category.KOREAN, 0.0, 0.0);
+		storeGeoIndex.put(nearStoreId, Category.KOREAN, 37.5000, 127.0300);
+
+		// when
+		storeGeoIndex.put(outlierId, Category.KOREAN, USER_LAT, USER_LON);
+		List<NearbyStore> nearest = storeGeoIndex.findNearest(USER_LAT, USER_LON, null, 0, 10);
+		storeGeoIndex.remove(outlierId);
+		storeGeoIndex.remove(nearStoreId);
+		List<NearbyStore> empty = storeGeoIndex.findNearest(USER_LAT, USER_LON, null, 0, 10);
+
+		// then
+		assertEquals(2, nearest.size());
+		assertEquals(outlierId, nearest.get(0).getStoreId());
+		assertEquals(nearStoreId, nearest.get(1).getStoreId());
+		assertTrue(empty.isEmpty());
+	}
+}
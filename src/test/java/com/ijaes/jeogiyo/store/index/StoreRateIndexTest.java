@@ -0,0 +1,135 @@
+package com.ijaes.jeogiyo.store.index;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.ijaes.jeogiyo.store.entity.Category;
+
+@DisplayName("StoreRateIndex 테스트")
+class StoreRateIndexTest {
+
+	private StoreRateIndex storeRateIndex;
+
+	@BeforeEach
+	void setUp() {
+		storeRateIndex = new StoreRateIndex();
+	}
+
+	@Test
+	@DisplayName("평점 내림차순 페이지 조회 및 평점 변경 반영")
+	void findPage_ordersByRateDesc() {
+		// given
+		UUID first = UUID.randomUUID();
+		UUID second = UUID.randomUUID();
+		UUID third = UUID.randomUUID();
+		storeRateIndex.put(first, Category.KOREAN, 4.8);
+		storeRateIndex.put(second, Category.KOREAN, 3.0);
+		storeRateIndex.put(third, Category.KOREAN, 4.0);
+
+		// when
+		storeRateIndex.put(second, Category.KOREAN, 5.0);
+		List<RatedStore> firstPage = storeRateIndex.findPage(null, 0, 2);
+		List<RatedStore> secondPage = storeRateIndex.findPage(null, 2, 2);
+
+		// then
+		assertEquals(3, storeRateIndex.size());
+		assertEquals(second, firstPage.get(0).getStoreId());
+		assertEquals(first, firstPage.get(1).getStoreId());
+		assertEquals(1, secondPage.size());
+		assertEquals(third, secondPage.get(0).getStoreId());
+	}
+
+	@Test
+	@DisplayName("DB 대조 - 어긋난 평점과 삭제된 매장 복구")
+	void reconcile_repairsDrift() {
+		// given
+		UUID drifted = UUID.randomUUID();
+		UUID deleted = UUID.randomUUID();
+		UUID missing = UUID.randomUUID();
+		storeRateIndex.put(drifted, Category.KOREAN, 1.0);
+		storeRateIndex.put(deleted, Category.KOREAN, 3.0);
+
+		// when
+		long snapshotVersion = storeRateIndex.currentVersion();
+		int repaired = storeRateIndex.reconcile(
+			List.of(new RatedStore(drifted, Category.KOREAN, 4.0), new RatedStore(missing, Category.KOREAN, 2.0)), snapshotVersion);
+
+		// then
+		assertEquals(3, repaired);
+		List<RatedStore> page = storeRateIndex.findPage(null, 0, 10);
+		assertEquals(2, page.size());
+		assertEquals(drifted, page.get(0).getStoreId());
+		assertEquals(4.0, page.get(0).getRate());
+		assertEquals(missing, page.get(1).getStoreId());
+	}
+
+	@Test
+	@DisplayName("DB 대조 - 스냅샷 이후 갱신된 매장은 유지")
+	void reconcile_keepsNewerUpdates() {
+		// given
+		UUID storeId = UUID.randomUUID();
+		storeRateIndex.put(storeId, Category.KOREAN, 3.0);
+		long snapshotVersion = storeRateIndex.currentVersion();
+		List<RatedStore> snapshot = List.of(new RatedStore(storeId, Category.KOREAN, 3.0));
+
+		// when
+		storeRateIndex.put(storeId, Category.KOREAN, 4.5);
+		UUID createdStoreId = UUID.randomUUID();
+		storeRateIndex.put(createdStoreId, Category.KOREAN, 0.0);
+		int repaired = storeRateIndex.reconcile(snapshot, snapshotVersion);
+
+		// then
+		assertEquals(0, repaired);
+		assertEquals(2, storeRateIndex.size());
+		assertEquals(4.5, storeRateIndex.findPage(null, 0, 1).get(0).getRate());
+	}
+
+	@Test
+	@DisplayName("DB 대조 - 스냅샷 이후 제거된 매장은 되살리지 않고, 이후 스냅샷에 다시 있으면 복구")
+	void reconcile_keepsRemovalAfterSnapshot() {
+		// given
+		UUID storeId = UUID.randomUUID();
+		storeRateIndex.put(storeId, Category.KOREAN, 3.0);
+		long snapshotVersion = storeRateIndex.currentVersion();
+		List<RatedStore> snapshot = List.of(new RatedStore(storeId, Category.KOREAN, 3.0));
+
+		// when
+		storeRateIndex.remove(storeId);
+		int staleRepaired = storeRateIndex.reconcile(snapshot, snapshotVersion);
+		int laterRepaired = storeRateIndex.reconcile(snapshot, storeRateIndex.currentVersion());
+
+		// then
+		assertEquals(0, staleRepaired);
+		assertEquals(1, laterRepaired);
+		assertEquals(1, storeRateIndex.size());
+	}
+
+	@Test
+	@DisplayName("카테고리별 조회 - 카테고리 변경 시 파티션 이동")
+	void findPage_byCategory() {
+		// given
+		UUID korean = UUID.randomUUID();
+		UUID japanese = UUID.randomUUID();
+		storeRateIndex.put(korean, Category.KOREAN, 4.0);
+		storeRateIndex.put(japanese, Category.JAPANESE, 5.0);
+
+		// when
+		List<RatedStore> koreanBefore = storeRateIndex.findPage(Category.KOREAN, 0, 10);
+		storeRateIndex.put(japanese, Category.KOREAN, 5.0);
+		List<RatedStore> koreanAfter = storeRateIndex.findPage(Category.KOREAN, 0, 10);
+
+		// then
+		assertEquals(1, koreanBefore.size());
+		assertEquals(korean, koreanBefore.get(0).getStoreId());
+		assertEquals(2, koreanAfter.size());
+		assertEquals(japanese, koreanAfter.get(0).getStoreId());
+		assertEquals(0, storeRateIndex.size(Category.JAPANESE));
+		assertEquals(2, storeRateIndex.size());
+	}
+}
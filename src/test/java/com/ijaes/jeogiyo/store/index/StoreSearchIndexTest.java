@@ -0,0 +1,163 @@
+package com.ijaes.jeogiyo.store.index;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.ijaes.jeogiyo.store.entity.Category;
+
+@DisplayName("StoreSearchIndex 테스트")
+class StoreSearchIndexTest {
+
+	private StoreSearchIndex storeSearchIndex;
+
+	private UUID oldStoreId;
+	private UUID newStoreId;
+	private UUID nameOnlyStoreId;
+	private UUID menuId;
+
+	@BeforeEach
+	void setUp() {
+		storeSearchIndex = new StoreSearchIndex();
+
+		oldStoreId = UUID.randomUUID();
+		newStoreId = UUID.randomUUID();
+		nameOnlyStoreId = UUID.randomUUID();
+		menuId = UUID.randomUUID();
+
+		storeSearchIndex.load(
+			List.of(
+				new SearchableStore(oldStoreId, "한식당", Category.KOREAN, 4.0, null, null),
+				new SearchableStore(nameOnlyStoreId, "Chicken 치킨공방", Category.CHINESE, 4.0, null, null),
+				new SearchableStore(newStoreId, "분식집", Category.KOREAN, 4.0, null, null)
+			),
+			List.of(
+				new SearchableMenu(menuId, oldStoreId, "양념치킨"),
+				new SearchableMenu(UUID.randomUUID(), newStoreId, "치킨너겟"),
+				new SearchableMenu(UUID.randomUUID(), nameOnlyStoreId, "감자튀김")
+			)
+		);
+	}
+
+	@Test
+	@DisplayName("앞부분 일치가 중간 일치보다, 같은 일치 정도면 메뉴명 일치가 매장명 일치보다 먼저")
+	void search_ranksByMatchQuality() {
+		// when
+		StoreSearchResult result = storeSearchIndex.search("치킨", SearchMode.TEXT, null, null, null, 0, 10);
+
+		// then
+		assertEquals(3, result.getTotal());
+		assertEquals(List.of(newStoreId, oldStoreId, nameOnlyStoreId), result.getStoreIds());
+	}
+
+	@Test
+	@DisplayName("대소문자 구분 없이 부분 문자열 검색, 페이지와 카테고리 적용")
+	void search_caseInsensitivePagedAndFiltered() {
+		// when
+		StoreSearchResult byLatin = storeSearchIndex.search("CKEN", SearchMode.TEXT, null, null, null, 0, 10);
+		StoreSearchResult secondPage = storeSearchIndex.search("치킨", SearchMode.TEXT, null, null, null, 1, 1);
+		StoreSearchResult korean = storeSearchIndex.search("치킨", SearchMode.TEXT, Category.KOREAN, null, null, 0, 10);
+
+		// then
+		assertEquals(List.of(nameOnlyStoreId), byLatin.getStoreIds());
+		assertEquals(List.of(oldStoreId), secondPage.getStoreIds());
+		assertEquals(3, secondPage.getTotal());
+		assertEquals(2, korean.getTotal());
+	}
+
+	@Test
+	@DisplayName("n-gram 이 여러 메뉴에 나뉘어 있을 뿐 한 메뉴에 포함되지 않으면 제외")
+	void search_verifiesCandidates() {
+		// given
+		storeSearchIndex.putMenu(UUID.randomUUID(), oldStoreId, "치킨너겟");
+
+		// when
+		StoreSearchResult result = storeSearchIndex.search("양념치킨너겟", SearchMode.TEXT, null, null, null, 0, 10);
+
+		// then
+		assertEquals(0, result.getTotal());
+	}
+
+	@Test
+	@DisplayName("메뉴/매장 변경과 삭제를 즉시 반영")
+	void search_reflectsIncrementalUpdates() {
+		// when
+		storeSearchIndex.putMenu(menuId, oldStoreId, "비빔밥");
+		storeSearchIndex.removeStore(newStoreId);
+		UUID createdStoreId = UUID.randomUUID();
+		storeSearchIndex.putStore(createdStoreId, "치킨마을", Category.KOREAN, 4.0, null, null);
+		StoreSearchResult result = storeSearchIndex.search("치킨", SearchMode.TEXT, null, null, null, 0, 10);
+
+		// then
+		assertEquals(List.of(createdStoreId, nameOnlyStoreId), result.getStoreIds());
+		assertEquals(List.of(oldStoreId),
+			storeSearchIndex.search("비빔", SearchMode.TEXT, null, null, null, 0, 10).getStoreIds());
+		assertEquals(3, storeSearchIndex.size());
+	}
+
+	@Test
+	@DisplayName("초성 검색 - 매장명/메뉴명의 초성으로 검색")
+	void search_byChosung() {
+		// when
+		StoreSearchResult result = storeSearchIndex.search("ㅊㅋ", SearchMode.CHOSUNG, null, null, null, 0, 10);
+		StoreSearchResult yangnyeom = storeSearchIndex.search("ㅇㄴㅊ", SearchMode.CHOSUNG, null, null, null, 0, 10);
+
+		// then
+		assertEquals(List.of(newStoreId, oldStoreId, nameOnlyStoreId), result.getStoreIds());
+		assertEquals(List.of(oldStoreId), yangnyeom.getStoreIds());
+		assertEquals(0, storeSearchIndex.search("ㅊㅋ", SearchMode.TEXT, null, null, null, 0, 10).getTotal());
+	}
+
+	@Test
+	@DisplayName("자모 검색 - 입력 중인 마지막 글자도 일치")
+	void search_byJamo() {
+		// when
+		StoreSearchResult result = storeSearchIndex.search("양념칰", SearchMode.JAMO, null, null, null, 0, 10);
+		StoreSearchResult partial = storeSearchIndex.search("치ㅋ", SearchMode.JAMO, Category.KOREAN, null, null, 0, 10);
+
+		// then
+		assertEquals(List.of(oldStoreId), result.getStoreIds());
+		assertEquals(List.of(newStoreId, oldStoreId), partial.getStoreIds());
+	}
+
+	@Test
+	@DisplayName("일치 정도가 같으면 평점과 사용자와의 거리로 정렬")
+	void search_ranksByRateAndDistance() {
+		// given
+		UUID nearStoreId = UUID.randomUUID();
+		UUID farStoreId = UUID.randomUUID();
+		UUID topRatedStoreId = UUID.randomUUID();
+		storeSearchIndex.putStore(nearStoreId, "국밥 역삼점", Category.KOREAN, 4.0, 37.4979, 127.0276);
+		storeSearchIndex.putStore(farStoreId, "국밥 판교점", Category.KOREAN, 4.0, 37.3948, 127.1112);
+		storeSearchIndex.putStore(topRatedStoreId, "국밥 수원점", Category.KOREAN, 3.0, 37.2636, 127.0286);
+
+		// when
+		StoreSearchResult byDistance = storeSearchIndex.search("국밥", SearchMode.TEXT, null, 37.4979, 127.0276, 0, 10);
+		storeSearchIndex.putRate(topRatedStoreId, 5.0);
+		StoreSearchResult withoutLocation = storeSearchIndex.search("국밥", SearchMode.TEXT, null, null, null, 0, 10);
+
+		// then
+		assertEquals(List.of(nearStoreId, farStoreId, topRatedStoreId), byDistance.getStoreIds());
+		assertEquals(List.of(topRatedStoreId, farStoreId, nearStoreId), withoutLocation.getStoreIds());
+	}
+
+	@Test
+	@DisplayName("정확히 일치하는 매장명이 가장 먼저")
+	void search_exactNameFirst() {
+		// given
+		UUID exactStoreId = UUID.randomUUID();
+		storeSearchIndex.putStore(exactStoreId, "치킨", Category.KOREAN, 4.0, null, null);
+
+		// when
+		StoreSearchResult result = storeSearchIndex.search("치킨", SearchMode.TEXT, null, null, null, 0, 1);
+
+		// then
+		assertEquals(List.of(exactStoreId), result.getStoreIds());
+		assertEquals(4, result.getTotal());
+	}
+}
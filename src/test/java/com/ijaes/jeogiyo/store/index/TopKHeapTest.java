@@ -0,0 +1,82 @@
+package com.ijaes.jeogiyo.store.index;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TopKHeap 테스트")
+class TopKHeapTest {
+
+	@Test
+	@DisplayName("가장 작은 k개를 오름차순으로 반환")
+	void sortAscending_keepsSmallestKeys() {
+		// given
+		Random random = new Random(7);
+		double[] keys = new double[1000];
+		TopKHeap heap = new TopKHeap(30);
+		for (int i = 0; i < keys.length; i++) {
+			keys[i] = random.nextDouble() * 100;
+			heap.offer(keys[i], i);
+		}
+
+		// when
+		heap.sortAscending();
+
+		// then
+		double[] expected = keys.clone();
+		Arrays.sort(expected);
+		assertEquals(30, heap.size());
+		for (int i = 0; i < heap.size(); i++) {
+			assertEquals(expected[i], heap.keyAt(i));
+			assertEquals(keys[heap.slotAt(i)], heap.keyAt(i));
+		}
+	}
+
+	@Test
+	@DisplayName("가득 찬 힙은 최대 키 이상인 후보를 거부")
+	void offer_rejectsLargerKeyWhenFull() {
+		// given
+		TopKHeap heap = new TopKHeap(2);
+		heap.offer(1.0, 0);
+		heap.offer(3.0, 1);
+
+		// when & then
+		assertTrue(heap.isFull());
+		assertEquals(3.0, heap.maxKey());
+		assertFalse(heap.offer(5.0, 2));
+		assertTrue(heap.offer(2.0, 3));
+		assertEquals(2.0, heap.maxKey());
+	}
+
+	@Test
+	@DisplayName("용량이 0이면 어떤 후보도 받지 않음")
+	void offer_zeroCapacity() {
+		TopKHeap heap = new TopKHeap(0);
+
+		assertFalse(heap.offer(1.0, 0));
+		assertEquals(0, heap.size());
+	}
+
+	@Test
+	@DisplayName("키가 같으면 tieBreaker 가 작은 후보를 남기고 먼저 정렬 (평점 내림차순 + 거리 오름차순)")
+	void offer_breaksTiesByTieBreaker() {
+		// given
+		double[] rates = {4.5, 4.5, 3.0, 4.5};
+		double[] distances = {2.0, 0.5, 0.1, 1.0};
+		TopKHeap heap = new TopKHeap(2);
+
+		// when
+		for (int i = 0; i < rates.length; i++) {
+			heap.offer(-rates[i], Double.doubleToLongBits(distances[i]), i);
+		}
+		heap.sortAscending();
+
+		// then
+		assertEquals(1, heap.slotAt(0));
+		assertEquals(3, heap.slotAt(1));
+	}
+}
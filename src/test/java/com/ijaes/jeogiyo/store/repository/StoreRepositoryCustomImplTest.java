@@ -0,0 +1,177 @@
+package com.ijaes.jeogiyo.store.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.TestPropertySource;
+
+import com.ijaes.jeogiyo.common.config.QueryDslConfig;
+import com.ijaes.jeogiyo.menu.entity.Menu;
+import com.ijaes.jeogiyo.store.entity.Category;
+import com.ijaes.jeogiyo.store.entity.Store;
+import com.ijaes.jeogiyo.user.entity.Role;
+import com.ijaes.jeogiyo.user.entity.User;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import jakarta.persistence.EntityManager;
+
+@DataJpaTest
+@Import({StoreRepositoryCustomImpl.class, QueryDslConfig.class})
+@TestPropertySource(properties = {
+	"spring.jpa.hibernate.ddl-auto=create",
+	"spring.datasource.url=jdbc:h2:mem:testdb;MODE=MYSQL;DB_CLOSE_DELAY=-1"
+})
+@EntityScan(basePackages = {
+	"com.ijaes.jeogiyo.menu.entity",
+	"com.ijaes.jeogiyo.store.entity",
+	"com.ijaes.jeogiyo.user.entity"
+})
+@EnableJpaRepositories(basePackages = "com.ijaes.jeogiyo.store.repository")
+class StoreRepositoryCustomImplTest {
+
+	@Autowired
+	private EntityManager em;
+
+	private StoreRepositoryCustomImpl storeRepositoryCustom;
+
+	private User owner;
+	private UUID menuMatchedStoreId;
+	private UUID bothMatchedStoreId;
+	private UUID nameMatchedStoreId;
+
+	@BeforeEach
+	void setUp() {
+		em.createQuery("DELETE FROM Menu").executeUpdate();
+		em.createQuery("DELETE FROM Store").executeUpdate();
+		em.createQuery("DELETE FROM User").executeUpdate();
+		em.flush();
+
+		storeRepositoryCustom = new StoreRepositoryCustomImpl(new JPAQueryFactory(em), StoreSearchBackend.LIKE);
+
+		owner = User.builder()
+			.username("owner")
+			.password("encoded_password")
+			.name("사장님")
+			.address("서울시 강남구")
+			.phoneNumber("010-1111-2222")
+			.isOwner(true)
+			.role(Role.OWNER)
+			.build();
+		em.persist(owner);
+
+		// given: 메뉴명만 일치
+		Store menuMatched = persistStore("111-11-11111", "한식당", Category.KOREAN);
+		persistMenu(menuMatched, "양념치킨");
+		persistMenu(menuMatched, "후라이드치킨");
+		menuMatchedStoreId = menuMatched.getId();
+
+		// given: 매장명과 메뉴명 모두 일치
+		Store bothMatched = persistStore("222-22-22222", "치킨마을", Category.CHINESE);
+		persistMenu(bothMatched, "반반치킨");
+		bothMatchedStoreId = bothMatched.getId();
+
+		// given: 매장명만 일치
+		Store nameMatched = persistStore("333-33-33333", "치킨공방", Category.CHINESE);
+		persistMenu(nameMatched, "감자튀김");
+		nameMatchedStoreId = nameMatched.getId();
+
+		// given: 일치하지 않음
+		Store unmatched = persistStore("444-44-44444", "국밥집", Category.KOREAN);
+		persistMenu(unmatched, "순대국밥");
+
+		// given: 삭제된 메뉴만 일치
+		Store deletedMenuOnly = persistStore("555-55-55555", "분식집", Category.KOREAN);
+		Menu deletedMenu = persistMenu(deletedMenuOnly, "치킨너겟");
+		deletedMenu.softDelete();
+
+		em.flush();
+		em.clear();
+	}
+
+	@Test
+	@DisplayName("매장 검색 - 메뉴 일치 매장이 먼저, 중복 없이 조회")
+	void searchStores_menuMatchesFirstWithoutDuplicates() {
+		// when
+		Page<Store> result = storeRepositoryCustom.searchStores("치킨", null, PageRequest.of(0, 10));
+
+		// then
+		assertThat(result.getTotalElements()).isEqualTo(3);
+		assertThat(result.getContent()).extracting(Store::getId)
+			.containsExactlyInAnyOrder(menuMatchedStoreId, bothMatchedStoreId, nameMatchedStoreId);
+		assertThat(result.getContent().get(2).getId()).isEqualTo(nameMatchedStoreId);
+	}
+
+	@Test
+	@DisplayName("매장 검색 - DB 에서 페이지 단위로 조회하고 전체 개수는 따로 센다")
+	void searchStores_paginatesInDatabase() {
+		// when
+		Page<Store> firstPage = storeRepositoryCustom.searchStores("치킨", null, PageRequest.of(0, 2));
+		Page<Store> secondPage = storeRepositoryCustom.searchStores("치킨", null, PageRequest.of(1, 2));
+
+		// then
+		assertThat(firstPage.getContent()).hasSize(2);
+		assertThat(firstPage.getTotalElements()).isEqualTo(3);
+		assertThat(secondPage.getContent()).extracting(Store::getId).containsExactly(nameMatchedStoreId);
+	}
+
+	@Test
+	@DisplayName("매장 검색 - 카테고리 필터")
+	void searchStores_withCategory() {
+		// when
+		Page<Store> result = storeRepositoryCustom.searchStores("치킨", Category.KOREAN, PageRequest.of(0, 10));
+
+		// then
+		assertThat(result.getTotalElements()).isEqualTo(1);
+		assertThat(result.getContent().get(0).getId()).isEqualTo(menuMatchedStoreId);
+	}
+
+	@Test
+	@DisplayName("매장 검색 - FULLTEXT 설정이어도 ngram 보다 짧은 검색어는 LIKE 로 검색")
+	void searchStores_fulltextShortQueryFallsBackToLike() {
+		// given
+		StoreRepositoryCustomImpl fulltextRepository =
+			new StoreRepositoryCustomImpl(new JPAQueryFactory(em), StoreSearchBackend.FULLTEXT);
+
+		// when
+		Page<Store> result = fulltextRepository.searchStores("킨", Category.CHINESE, PageRequest.of(0, 10));
+
+		// then
+		assertThat(result.getContent()).extracting(Store::getId)
+			.containsExactly(bothMatchedStoreId, nameMatchedStoreId);
+	}
+
+	private Store persistStore(String businessNumber, String name, Category category) {
+		Store store = Store.builder()
+			.businessNumber(businessNumber)
+			.name(name)
+			.address("서울시 강남구")
+			.description(name + " 입니다.")
+			.category(category)
+			.rate(4.0)
+			.owner(owner)
+			.build();
+		em.persist(store);
+		return store;
+	}
+
+	private Menu persistMenu(Store store, String name) {
+		Menu menu = Menu.builder()
+			.store(store)
+			.name(name)
+			.price(10000)
+			.build();
+		em.persist(menu);
+		return menu;
+	}
+}
@@ -19,7 +19,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -27,11 +29,16 @@ import org.springframework.data.domain.Pageable;
 
 import com.ijaes.jeogiyo.common.exception.CustomException;
 import com.ijaes.jeogiyo.common.exception.ErrorCode;
+import com.ijaes.jeogiyo.store.cache.StoreSearchKey;
 import com.ijaes.jeogiyo.store.dto.request.UpdateStoreRequest;
+import com.ijaes.jeogiyo.store.dto.response.SearchTrendResponse;
 import com.ijaes.jeogiyo.store.dto.response.StoreResponse;
 import com.ijaes.jeogiyo.store.entity.Category;
 import com.ijaes.jeogiyo.store.entity.Store;
+import com.ijaes.jeogiyo.store.event.StoreEvent;
+import com.ijaes.jeogiyo.store.index.SearchMode;
 import com.ijaes.jeogiyo.store.repository.StoreRepository;
+import com.ijaes.jeogiyo.store.trend.StoreSearchTrendTracker;
 import com.ijaes.jeogiyo.user.entity.User;
 import com.ijaes.jeogiyo.user.entity.Role;
 
@@ -42,6 +49,12 @@ class StoreAdminServiceTest {
 	@Mock
 	private StoreRepository storeRepository;
 
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	@Spy
+	private StoreSearchTrendTracker storeSearchTrendTracker = new StoreSearchTrendTracker(300, 12, 100);
+
 	@InjectMocks
 	private StoreAdminService storeAdminService;
 
@@ -444,6 +457,7 @@ class StoreAdminServiceTest {
 		// then
 		verify(storeRepository, times(1)).findByIdNotDeleted(storeId);
 		verify(storeRepository, times(1)).save(any(Store.class));
+		verify(eventPublisher, times(1)).publishEvent(any(StoreEvent.class));
 		assertTrue(testStore.isDeleted());
 		assertNotNull(testStore.getDeletedAt());
 	}
@@ -523,10 +537,10 @@ class StoreAdminServiceTest {
 			.build();
 		deletedStore.softDelete();
 
-		List<Store> stores = List.of(testStore, deletedStore);
-		Page<Store> storePage = new PageImpl<>(stores, pageable, 2);
+		List<StoreResponse> stores = List.of(StoreResponse.fromEntity(testStore), StoreResponse.fromEntity(deletedStore));
+		Page<StoreResponse> storePage = new PageImpl<>(stores, pageable, 2);
 
-		when(storeRepository.findAllIncludingDeleted(any(Pageable.class))).thenReturn(storePage);
+		when(storeRepository.findStoreResponsesIncludingDeleted(any(Pageable.class))).thenReturn(storePage);
 
 		// when
 		Page<StoreResponse> result = storeAdminService.getAllStores(0, 10, "createdAt", "DESC");
@@ -535,7 +549,7 @@ class StoreAdminServiceTest {
 		assertNotNull(result);
 		assertEquals(2, result.getTotalElements());
 		assertEquals(1, result.getTotalPages());
-		verify(storeRepository, times(1)).findAllIncludingDeleted(any(Pageable.class));
+		verify(storeRepository, times(1)).findStoreResponsesIncludingDeleted(any(Pageable.class));
 	}
 
 	@Test
@@ -543,9 +557,9 @@ class StoreAdminServiceTest {
 	void getAllStores_empty() {
 		// given
 		Pageable pageable = PageRequest.of(0, 10);
-		Page<Store> emptyPage = new PageImpl<>(List.of(), pageable, 0);
+		Page<StoreResponse> emptyPage = new PageImpl<>(List.of(), pageable, 0);
 
-		when(storeRepository.findAllIncludingDeleted(any(Pageable.class))).thenReturn(emptyPage);
+		when(storeRepository.findStoreResponsesIncludingDeleted(any(Pageable.class))).thenReturn(emptyPage);
 
 		// when
 		Page<StoreResponse> result = storeAdminService.getAllStores(0, 10, "createdAt", "DESC");
@@ -553,7 +567,7 @@ class StoreAdminServiceTest {
 		// then
 		assertNotNull(result);
 		assertEquals(0, result.getTotalElements());
-		verify(storeRepository, times(1)).findAllIncludingDeleted(any(Pageable.class));
+		verify(storeRepository, times(1)).findStoreResponsesIncludingDeleted(any(Pageable.class));
 	}
 
 	@Test
@@ -561,10 +575,10 @@ class StoreAdminServiceTest {
 	void getAllStores_pagination() {
 		// given
 		Pageable pageable = PageRequest.of(1, 5);
-		List<Store> storeList = List.of(testStore);
-		Page<Store> storePage = new PageImpl<>(storeList, pageable, 15);
+		List<StoreResponse> storeList = List.of(StoreResponse.fromEntity(testStore));
+		Page<StoreResponse> storePage = new PageImpl<>(storeList, pageable, 15);
 
-		when(storeRepository.findAllIncludingDeleted(any(Pageable.class))).thenReturn(storePage);
+		when(storeRepository.findStoreResponsesIncludingDeleted(any(Pageable.class))).thenReturn(storePage);
 
 		// when
 		Page<StoreResponse> result = storeAdminService.getAllStores(1, 5, "createdAt", "DESC");
@@ -575,6 +589,34 @@ class StoreAdminServiceTest {
 		assertEquals(3, result.getTotalPages());
 		assertEquals(1, result.getNumber());
 		assertEquals(5, result.getSize());
-		verify(storeRepository, times(1)).findAllIncludingDeleted(any(Pageable.class));
+		verify(storeRepository, times(1)).findStoreResponsesIncludingDeleted(any(Pageable.class));
+	}
+
+	@Test
+	@DisplayName("인기 검색어 조회 - 일반 검색어만 횟수 내림차순")
+	void getSearchTrends_success() {
+		// given
+		storeSearchTrendTracker.record(StoreSearchKey.of("국밥", SearchMode.TEXT, null, null, null, 0, 10));
+		storeSearchTrendTracker.record(StoreSearchKey.of("국밥", SearchMode.TEXT, Category.KOREAN, null, null, 0, 10));
+		storeSearchTrendTracker.record(StoreSearchKey.of("Chicken", SearchMode.TEXT, null, null, null, 0, 10));
+		storeSearchTrendTracker.record(StoreSearchKey.of("ㄱㅂ", SearchMode.CHOSUNG, null, null, null, 0, 10));
+
+		// when
+		List<SearchTrendResponse> result = storeAdminService.getSearchTrends(60, 10);
+
+		// then
+		assertEquals(2, result.size());
+		assertEquals("국밥", result.get(0).getQuery());
+		assertEquals(2, result.get(0).getCount());
+		assertEquals("chicken", result.get(1).getQuery());
+	}
+
+	@Test
+	@DisplayName("인기 검색어 조회 - 실패 (잘못된 기간)")
+	void getSearchTrends_invalidMinutes() {
+		// when & then
+		CustomException exception = assertThrows(CustomException.class,
+			() -> storeAdminService.getSearchTrends(0, 10));
+		assertEquals(ErrorCode.INVALID_INPUT_VALUE, exception.getErrorCode());
 	}
 }
@@ -16,6 +16,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 
 import com.ijaes.jeogiyo.common.client.NaverGeocodeClient;
@@ -25,6 +26,7 @@ import com.ijaes.jeogiyo.store.dto.request.CreateStoreRequest;
 import com.ijaes.jeogiyo.store.dto.response.StoreResponse;
 import com.ijaes.jeogiyo.store.entity.Category;
 import com.ijaes.jeogiyo.store.entity.Store;
+import com.ijaes.jeogiyo.store.event.StoreEvent;
 import com.ijaes.jeogiyo.store.repository.StoreRepository;
 import com.ijaes.jeogiyo.user.entity.Role;
 import com.ijaes.jeogiyo.user.entity.User;
@@ -39,6 +41,9 @@ class StoreOwnerServiceTest {
 	@Mock
 	private NaverGeocodeClient naverGeocodeClient;
 
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
 	@InjectMocks
 	private StoreOwnerService storeOwnerService;
 
@@ -119,6 +124,7 @@ class StoreOwnerServiceTest {
 
 		verify(storeRepository, times(1)).existsByOwnerId(ownerId);
 		verify(storeRepository, times(1)).save(any(Store.class));
+		verify(eventPublisher, times(1)).publishEvent(any(StoreEvent.class));
 	}
 
 	@Test
@@ -0,0 +1,200 @@
+package com.ijaes.jeogiyo.store.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.ijaes.jeogiyo.review.repository.ReviewRepositoryCustom;
+import com.ijaes.jeogiyo.store.cache.StoreDetailCache;
+import com.ijaes.jeogiyo.store.cache.StoreSummaryCache;
+import com.ijaes.jeogiyo.store.entity.Category;
+import com.ijaes.jeogiyo.store.entity.Store;
+import com.ijaes.jeogiyo.store.event.StoreRatingDeltaBuffer;
+import com.ijaes.jeogiyo.store.index.StoreAutocompleteIndex;
+import com.ijaes.jeogiyo.store.index.StoreRateIndex;
+import com.ijaes.jeogiyo.store.index.StoreSearchIndex;
+import com.ijaes.jeogiyo.store.repository.RatingAggregate;
+import com.ijaes.jeogiyo.store.repository.StoreRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StoreRatingService 테스트")
+class StoreRatingServiceTest {
+
+	@Mock
+	private StoreRepository storeRepository;
+
+	@Mock
+	private ReviewRepositoryCustom reviewRepositoryCustom;
+
+	@Mock
+	private StoreRateIndex storeRateIndex;
+
+	@Mock
+	private StoreSearchIndex storeSearchIndex;
+
+	@Mock
+	private StoreAutocompleteIndex storeAutocompleteIndex;
+
+	@Spy
+	private StoreDetailCache storeDetailCache = new StoreDetailCache(100, 60);
+
+	@Spy
+	private StoreSummaryCache storeSummaryCache = new StoreSummaryCache(100, 60);
+
+	@Spy
+	private StoreRatingDeltaBuffer storeRatingDeltaBuffer = new StoreRatingDeltaBuffer();
+
+	@InjectMocks
+	private StoreRatingService storeRatingService;
+
+	private UUID storeId;
+	private Store testStore;
+
+	@BeforeEach
+	void setUp() {
+		storeId = UUID.randomUUID();
+		testStore = Store.builder()
+			.id(storeId)
+			.name("소문난 국밥집")
+			.category(Category.KOREAN)
+			.rate(4.5)
+			.ratingSum(9)
+			.ratingCount(2)
+			.build();
+	}
+
+	@Test
+	@DisplayName("평점 변화량 반영 - 여러 매장을 한 번에 DB 갱신 후 다시 읽은 평점으로 색인 갱신")
+	void applyDeltas_updatesIndexes() {
+		// given
+		UUID deletedId = UUID.randomUUID();
+		Store deletedStore = Store.builder()
+			.id(deletedId)
+			.category(Category.CHINESE)
+			.rate(3.0)
+			.build();
+		deletedStore.softDelete();
+		when(storeRepository.findAllById(List.of(storeId, deletedId))).thenReturn(List.of(testStore, deletedStore));
+
+		// when
+		storeRatingService.applyDeltas(List.of(
+			RatingAggregate.fromStarCounts(storeId, new long[] {0, 0, -1, 0, 1}),
+			RatingAggregate.fromStarCounts(deletedId, new long[] {0, 0, 1, 0, 0})));
+
+		// then
+		verify(storeRepository).applyRatingDeltas(argThat(deltas -> deltas.size() == 2
+			&& deltas.get(0).getRatingSum() == 2 && deltas.get(0).getRatingCount() == 0));
+		verify(storeDetailCache).invalidate(storeId);
+		verify(storeSummaryCache).invalidate(storeId);
+		verify(storeDetailCache).invalidate(deletedId);
+		verify(storeRateIndex).put(storeId, Category.KOREAN, 4.5);
+		verify(storeSearchIndex).putRate(storeId, 4.5);
+		verify(storeAutocompleteIndex).putRate(storeId, 4.5);
+		verify(storeRateIndex, never()).put(deletedId, Category.CHINESE, 3.0);
+	}
+
+	@Test
+	@DisplayName("집계 보정 - 리뷰 기준 집계와 어긋난 매장만 차이만큼 보정")
+	void reconcileAggregates_repairsDrift() {
+		// given
+		UUID driftedId = UUID.randomUUID();
+		UUID emptiedId = UUID.randomUUID();
+		when(reviewRepositoryCustom.countRatesGroupByStore()).thenReturn(List.of(
+			RatingAggregate.fromStarCounts(storeId, new long[] {0, 0, 0, 1, 1}),
+			RatingAggregate.fromStarCounts(driftedId, new long[] {0, 0, 0, 3, 0})));
+		when(storeRepository.findAllRatingAggregates()).thenReturn(List.of(
+			RatingAggregate.fromStarCounts(storeId, new long[] {0, 0, 0, 1, 1}),
+			RatingAggregate.fromStarCounts(driftedId, new long[] {0, 0, 0, 2, 0}),
+			RatingAggregate.fromStarCounts(emptiedId, new long[] {0, 0, 0, 0, 1})));
+		when(storeRepository.findAllById(List.of(driftedId, emptiedId))).thenReturn(List.of());
+
+		// when
+		int repaired = storeRatingService.reconcileAggregates();
+
+		// then
+		assertEquals(2, repaired);
+		verify(storeRepository).applyRatingDeltas(argThat(deltas -> deltas.size() == 2
+			&& deltas.get(0).getStoreId().equals(driftedId) && deltas.get(0).getRatingSum() == 4
+			&& deltas.get(0).getRatingCount() == 1 && deltas.get(0).getStarCounts()[3] == 1
+			&& deltas.get(1).getStoreId().equals(emptiedId) && deltas.get(1).getRatingSum() == -5
+			&& deltas.get(1).getRatingCount() == -1 && deltas.get(1).getStarCounts()[4] == -1));
+	}
+
+	@Test
+	@DisplayName("집계 보정 - 분포 컬럼만 비어 있으면 합계/개수는 그대로 두고 분포만 채움")
+	void reconcileAggregates_backfillsHistogramOnly() {
+		// given
+		when(reviewRepositoryCustom.countRatesGroupByStore()).thenReturn(List.of(
+			RatingAggregate.fromStarCounts(storeId, new long[] {0, 0, 0, 1, 1})));
+		when(storeRepository.findAllRatingAggregates()).thenReturn(List.of(
+			new RatingAggregate(storeId, new long[5], 9, 2)));
+		when(storeRepository.findAllById(List.of(storeId))).thenReturn(List.of(testStore));
+
+		// when
+		int repaired = storeRatingService.reconcileAggregates();
+
+		// then
+		assertEquals(1, repaired);
+		verify(storeRepository).applyRatingDeltas(argThat(deltas -> deltas.size() == 1
+			&& deltas.get(0).getRatingSum() == 0 && deltas.get(0).getRatingCount() == 0
+			&& deltas.get(0).getStarCounts()[3] == 1 && deltas.get(0).getStarCounts()[4] == 1));
+	}
+
+	@Test
+	@DisplayName("집계 보정 - 반영 전 변화량이 남은 매장은 건너뛰어, 이후 반영과 합쳐 한 번만 더해짐")
+	void reconcileAggregates_skipsStoresWithPendingDeltas() {
+		// given
+		long[] stored = {0, 0, 0, 0, 1};
+		when(reviewRepositoryCustom.countRatesGroupByStore()).thenReturn(List.of(
+			RatingAggregate.fromStarCounts(storeId, new long[] {0, 0, 0, 0, 2})));
+		when(storeRepository.findAllRatingAggregates()).thenReturn(List.of(
+			RatingAggregate.fromStarCounts(storeId, stored)));
+		storeRatingDeltaBuffer.add(storeId, new long[] {0, 0, 0, 0, 1});
+
+		// when
+		int repaired = storeRatingService.reconcileAggregates();
+		List<RatingAggregate> pending = storeRatingDeltaBuffer.drain();
+
+		// then
+		assertEquals(0, repaired);
+		verify(storeRepository, never()).applyRatingDeltas(argThat(deltas -> !deltas.isEmpty()));
+		assertEquals(1, pending.size());
+		long[] afterFlush = new long[RatingAggregate.STAR_LEVELS];
+		for (int i = 0; i < afterFlush.length; i++) {
+			afterFlush[i] = stored[i] + pending.get(0).getStarCounts()[i];
+		}
+		assertArrayEquals(new long[] {0, 0, 0, 0, 2}, afterFlush);
+	}
+
+	@Test
+	@DisplayName("집계 보정 - 진행 중인 리뷰 커밋을 기다리지 못하면 이번 보정은 건너뜀")
+	void reconcileAggregates_skipsWhenCommitsDoNotPause() {
+		// given
+		doReturn(Optional.empty()).when(storeRatingDeltaBuffer).whileCommitsPaused(any(), any());
+
+		// when
+		int repaired = storeRatingService.reconcileAggregates();
+
+		// then
+		assertEquals(0, repaired);
+		verify(reviewRepositoryCustom, never()).countRatesGroupByStore();
+		verify(storeRepository, never()).applyRatingDeltas(any());
+	}
+}
@@ -2,6 +2,13 @@ package com.ijaes.jeogiyo.store.service;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
@@ -14,6 +21,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -23,13 +31,33 @@ import org.springframework.data.domain.Sort;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
+import com.ijaes.jeogiyo.common.dto.SliceResponse;
 import com.ijaes.jeogiyo.common.exception.CustomException;
 import com.ijaes.jeogiyo.common.exception.ErrorCode;
+import com.ijaes.jeogiyo.store.cache.StoreDetailCache;
+import com.ijaes.jeogiyo.store.cache.StoreSearchCache;
+import com.ijaes.jeogiyo.store.cache.StoreSearchKey;
+import com.ijaes.jeogiyo.store.cache.StoreSummary;
+import com.ijaes.jeogiyo.store.cache.StoreSummaryCache;
+import com.ijaes.jeogiyo.store.dto.response.AutocompleteResponse;
+import com.ijaes.jeogiyo.store.dto.response.RatingHistogramResponse;
 import com.ijaes.jeogiyo.store.dto.response.StoreDetailResponse;
 import com.ijaes.jeogiyo.store.dto.response.StoreResponse;
 import com.ijaes.jeogiyo.store.entity.Category;
 import com.ijaes.jeogiyo.store.entity.Store;
+import com.ijaes.jeogiyo.store.index.AutocompleteSuggestion;
+import com.ijaes.jeogiyo.store.index.DistanceCursor;
+import com.ijaes.jeogiyo.store.index.NearbyStore;
+import com.ijaes.jeogiyo.store.index.RatedStore;
+import com.ijaes.jeogiyo.store.index.SearchMode;
+import com.ijaes.jeogiyo.store.index.StoreAutocompleteIndex;
+import com.ijaes.jeogiyo.store.index.StoreCoordinates;
+import com.ijaes.jeogiyo.store.index.StoreGeoIndex;
+import com.ijaes.jeogiyo.store.index.StoreRateIndex;
+import com.ijaes.jeogiyo.store.index.StoreSearchIndex;
+import com.ijaes.jeogiyo.store.index.StoreSearchResult;
 import com.ijaes.jeogiyo.store.repository.StoreRepository;
+import com.ijaes.jeogiyo.store.trend.StoreSearchTrendTracker;
 import com.ijaes.jeogiyo.user.entity.User;
 import com.ijaes.jeogiyo.user.entity.Role;
 
@@ -40,6 +68,30 @@ class StoreUserServiceTest {
 	@Mock
 	private StoreRepository storeRepository;
 
+	@Mock
+	private StoreGeoIndex storeGeoIndex;
+
+	@Mock
+	private StoreRateIndex storeRateIndex;
+
+	@Mock
+	private StoreSearchIndex storeSearchIndex;
+
+	@Mock
+	private StoreAutocompleteIndex storeAutocompleteIndex;
+
+	@Spy
+	private StoreDetailCache storeDetailCache = new StoreDetailCache(100, 60);
+
+	@Spy
+	private StoreSearchCache storeSearchCache = new StoreSearchCache(100, 60);
+
+	@Spy
+	private StoreSummaryCache storeSummaryCache = new StoreSummaryCache(100, 60);
+
+	@Spy
+	private StoreSearchTrendTracker storeSearchTrendTracker = new StoreSearchTrendTracker(300, 12, 100);
+
 	@InjectMocks
 	private StoreUserService storeUserService;
 
@@ -103,13 +155,14 @@ class StoreUserServiceTest {
 		String direction = "DESC";
 
 		Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, sortBy));
-		Page<Store> storePage = new PageImpl<>(List.of(testStore), pageable, 1);
+		Page<StoreResponse> storePage = new PageImpl<>(List.of(StoreResponse.fromEntity(testStore, 0.0)), pageable, 1);
 
-		when(storeRepository.findAllNotDeleted(any(Pageable.class))).thenReturn(storePage);
+		when(storeRepository.findStoreResponsesNotDeleted(isNull(), eq(37.4979), eq(127.0276), any(Pageable.class)))
+			.thenReturn(storePage);
 
 		// when
 		Authentication authentication = createMockAuthentication();
-		Page<StoreResponse> result = storeUserService.getAllStores(page, size, sortBy, authentication);
+		Page<StoreResponse> result = storeUserService.getAllStores(page, size, sortBy, null, null, authentication);
 
 		// then
 		assertNotNull(result);
@@ -127,14 +180,16 @@ class StoreUserServiceTest {
 		String sortBy = "name";
 		String direction = "ASC";
 
-		Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.ASC, sortBy));
-		Page<Store> storePage = new PageImpl<>(List.of(testStore), pageable, 1);
+		StoreCoordinates coordinates = new StoreCoordinates(
+			new UUID[] {storeId}, new Category[] {Category.KOREAN}, new double[] {37.4979}, new double[] {127.0276});
 
-		when(storeRepository.findAllNotDeleted(any(Pageable.class))).thenReturn(storePage);
+		when(storeRepository.findAllCoordinatesNotDeleted(null)).thenReturn(coordinates);
+		when(storeRepository.findStoreResponsesByIds(List.of(storeId), 37.4979, 127.0276))
+			.thenReturn(List.of(StoreResponse.fromEntity(testStore, 0.0)));
 
 		// when
 		Authentication authentication = createMockAuthentication();
-		Page<StoreResponse> result = storeUserService.getAllStores(page, size, sortBy, authentication);
+		Page<StoreResponse> result = storeUserService.getAllStores(page, size, sortBy, null, null, authentication);
 
 		// then
 		assertNotNull(result);
@@ -142,18 +197,46 @@ class StoreUserServiceTest {
 		assertEquals("소문난 국밥집", result.getContent().get(0).getName());
 	}
 
+	@Test
+	@DisplayName("모든 매장 조회 - 거리순 (인덱스 미적재 시 요청 페이지만 조회)")
+	void getAllStores_distanceFromDatabaseSelectsOnlyRequestedPage() {
+		// given
+		UUID nearStoreId = UUID.randomUUID();
+		UUID farStoreId = UUID.randomUUID();
+		StoreCoordinates coordinates = new StoreCoordinates(
+			new UUID[] {farStoreId, storeId, nearStoreId},
+			new Category[] {Category.KOREAN, Category.KOREAN, Category.JAPANESE},
+			new double[] {35.1796, 37.5665, 37.4980},
+			new double[] {129.0756, 126.9780, 127.0277});
+
+		when(storeRepository.findAllCoordinatesNotDeleted(null)).thenReturn(coordinates);
+		when(storeRepository.findStoreResponsesByIds(List.of(storeId), 37.4979, 127.0276))
+			.thenReturn(List.of(StoreResponse.fromEntity(testStore, 0.0)));
+
+		// when
+		Authentication authentication = createMockAuthentication();
+		Page<StoreResponse> result = storeUserService.getAllStores(1, 1, "distance", null, null, authentication);
+
+		// then
+		assertEquals(3, result.getTotalElements());
+		assertEquals(1, result.getContent().size());
+		assertEquals(storeId, result.getContent().get(0).getId());
+		verify(storeRepository, never()).findStoreResponsesNotDeleted(any(), any(), any(), any(Pageable.class));
+	}
+
 	@Test
 	@DisplayName("모든 매장 조회 - 빈 페이지")
 	void getAllStores_emptyPage() {
 		// given
 		Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "rate"));
-		Page<Store> emptyPage = new PageImpl<>(List.of(), pageable, 0);
+		Page<StoreResponse> emptyPage = new PageImpl<>(List.of(), pageable, 0);
 
-		when(storeRepository.findAllNotDeleted(any(Pageable.class))).thenReturn(emptyPage);
+		when(storeRepository.findStoreResponsesNotDeleted(isNull(), eq(37.4979), eq(127.0276), any(Pageable.class)))
+			.thenReturn(emptyPage);
 
 		// when
 		Authentication authentication = createMockAuthentication();
-		Page<StoreResponse> result = storeUserService.getAllStores(0, 10, "rate", authentication);
+		Page<StoreResponse> result = storeUserService.getAllStores(0, 10, "rate", null, null, authentication);
 
 		// then
 		assertNotNull(result);
@@ -194,6 +277,26 @@ class StoreUserServiceTest {
 		assertEquals("김사장", result.getOwner().getName());
 	}
 
+	@Test
+	@DisplayName("매장 상세 조회 - 두 번째 조회는 캐시에서 반환")
+	void getStoreDetail_cached() {
+		// given
+		StoreDetailResponse mockDetailResponse = StoreDetailResponse.builder()
+			.id(storeId)
+			.name("소문난 국밥집")
+			.build();
+		when(storeRepository.findStoreDetailById(storeId)).thenReturn(Optional.of(mockDetailResponse));
+
+		// when
+		storeUserService.getStoreDetail(storeId);
+		StoreDetailResponse result = storeUserService.getStoreDetail(storeId);
+
+		// then
+		assertEquals("소문난 국밥집", result.getName());
+		verify(storeRepository, times(1)).findStoreDetailById(storeId);
+		assertEquals(1, storeDetailCache.stats().getHitCount());
+	}
+
 	@Test
 	@DisplayName("매장 상세 조회 - 존재하지 않는 매장")
 	void getStoreDetail_notFound() {
@@ -222,6 +325,39 @@ class StoreUserServiceTest {
 		assertEquals(ErrorCode.STORE_NOT_FOUND, exception.getErrorCode());
 	}
 
+	@Test
+	@DisplayName("별점 분포 조회 - 성공")
+	void getRatingHistogram_success() {
+		// given
+		RatingHistogramResponse histogram = RatingHistogramResponse.builder()
+			.storeId(storeId)
+			.rate(4.5)
+			.ratingCount(2)
+			.starCounts(List.of(0L, 0L, 0L, 1L, 1L))
+			.build();
+		when(storeRepository.findRatingHistogram(storeId)).thenReturn(Optional.of(histogram));
+
+		// when
+		RatingHistogramResponse result = storeUserService.getRatingHistogram(storeId);
+
+		// then
+		assertEquals(2, result.getRatingCount());
+		assertEquals(List.of(0L, 0L, 0L, 1L, 1L), result.getStarCounts());
+	}
+
+	@Test
+	@DisplayName("별점 분포 조회 - 존재하지 않는 매장")
+	void getRatingHistogram_notFound() {
+		// given
+		UUID nonExistentId = UUID.randomUUID();
+		when(storeRepository.findRatingHistogram(nonExistentId)).thenReturn(Optional.empty());
+
+		// when & then
+		CustomException exception = assertThrows(CustomException.class,
+			() -> storeUserService.getRatingHistogram(nonExistentId));
+		assertEquals(ErrorCode.STORE_NOT_FOUND, exception.getErrorCode());
+	}
+
 	@Test
 	@DisplayName("모든 매장 조회 - 여러 매장")
 	void getAllStores_multipleStores() {
@@ -253,13 +389,15 @@ class StoreUserServiceTest {
 			.build();
 
 		Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "rate"));
-		Page<Store> storePage = new PageImpl<>(List.of(testStore, store2), pageable, 2);
+		Page<StoreResponse> storePage = new PageImpl<>(
+			List.of(StoreResponse.fromEntity(testStore, 0.0), StoreResponse.fromEntity(store2, 6.5)), pageable, 2);
 
-		when(storeRepository.findAllNotDeleted(any(Pageable.class))).thenReturn(storePage);
+		when(storeRepository.findStoreResponsesNotDeleted(isNull(), eq(37.4979), eq(127.0276), any(Pageable.class)))
+			.thenReturn(storePage);
 
 		// when
 		Authentication authentication = createMockAuthentication();
-		Page<StoreResponse> result = storeUserService.getAllStores(0, 10, "rate", authentication);
+		Page<StoreResponse> result = storeUserService.getAllStores(0, 10, "rate", null, null, authentication);
 
 		// then
 		assertEquals(2, result.getTotalElements());
@@ -267,6 +405,313 @@ class StoreUserServiceTest {
 		assertEquals("유명한 라면집", result.getContent().get(1).getName());
 	}
 
+	@Test
+	@DisplayName("모든 매장 조회 - 거리순 (격자 인덱스 사용)")
+	void getAllStores_distanceFromGeoIndex() {
+		// given
+		when(storeGeoIndex.isLoaded()).thenReturn(true);
+		when(storeGeoIndex.findNearest(37.4979, 127.0276, null, 0, 10)).thenReturn(List.of(new NearbyStore(storeId, 0.0)));
+		when(storeGeoIndex.size(null)).thenReturn(1);
+		when(storeRepository.findStoreResponsesByIds(List.of(storeId), 37.4979, 127.0276))
+			.thenReturn(List.of(StoreResponse.fromEntity(testStore, 0.0)));
+
+		// when
+		Authentication authentication = createMockAuthentication();
+		Page<StoreResponse> result = storeUserService.getAllStores(0, 10, "distance", null, null, authentication);
+
+		// then
+		assertEquals(1, result.getTotalElements());
+		assertEquals(storeId, result.getContent().get(0).getId());
+		assertEquals(0.0, result.getContent().get(0).getDistance());
+		verify(storeRepository, never()).findStoreResponsesNotDeleted(any(), any(), any(), any(Pageable.class));
+	}
+
+	@Test
+	@DisplayName("모든 매장 조회 - 평점순 (평점 인덱스 사용)")
+	void getAllStores_rateFromIndex() {
+		// given
+		when(storeRateIndex.isLoaded()).thenReturn(true);
+		when(storeRateIndex.findPage(null, 0, 10)).thenReturn(List.of(new RatedStore(storeId, Category.KOREAN, 4.5)));
+		when(storeRateIndex.size(null)).thenReturn(1);
+		when(storeRepository.findStoreResponsesByIds(List.of(storeId), 37.4979, 127.0276))
+			.thenReturn(List.of(StoreResponse.fromEntity(testStore, 0.0)));
+
+		// when
+		Authentication authentication = createMockAuthentication();
+		Page<StoreResponse> result = storeUserService.getAllStores(0, 10, "rate", null, null, authentication);
+
+		// then
+		assertEquals(1, result.getTotalElements());
+		assertEquals(4.5, result.getContent().get(0).getRate());
+		verify(storeRepository, never()).findStoreResponsesNotDeleted(any(), any(), any(), any(Pageable.class));
+	}
+
+	@Test
+	@DisplayName("모든 매장 조회 - 카테고리 필터 (해당 카테고리 파티션만 조회)")
+	void getAllStores_withCategory() {
+		// given
+		when(storeRateIndex.isLoaded()).thenReturn(true);
+		when(storeRateIndex.findPage(Category.KOREAN, 0, 10))
+			.thenReturn(List.of(new RatedStore(storeId, Category.KOREAN, 4.5)));
+		when(storeRateIndex.size(Category.KOREAN)).thenReturn(1);
+		when(storeRepository.findStoreResponsesByIds(List.of(storeId), 37.4979, 127.0276))
+			.thenReturn(List.of(StoreResponse.fromEntity(testStore, 0.0)));
+
+		// when
+		Authentication authentication = createMockAuthentication();
+		Page<StoreResponse> result = storeUserService.getAllStores(0, 10, "rate", "korean", null, authentication);
+
+		// then
+		assertEquals(1, result.getTotalElements());
+		assertEquals("KOREAN", result.getContent().get(0).getCategory());
+	}
+
+	@Test
+	@DisplayName("모든 매장 조회 - 잘못된 카테고리")
+	void getAllStores_invalidCategory() {
+		// when & then
+		Authentication authentication = createMockAuthentication();
+		CustomException exception = assertThrows(CustomException.class,
+			() -> storeUserService.getAllStores(0, 10, "rate", "FRENCH", null, authentication));
+		assertEquals(ErrorCode.INVALID_CATEGORY, exception.getErrorCode());
+	}
+
+	@Test
+	@DisplayName("모든 매장 조회 - 반경 내 매장만 조회")
+	void getAllStores_withinRadius() {
+		// given
+		StoreResponse nearbyStore = StoreResponse.fromEntity(testStore, 0.0);
+		when(storeRepository.findNearby(37.4979, 127.0276, 3.0, null, PageRequest.of(0, 10)))
+			.thenReturn(new PageImpl<>(List.of(nearbyStore), PageRequest.of(0, 10), 1));
+
+		// when
+		Authentication authentication = createMockAuthentication();
+		Page<StoreResponse> result = storeUserService.getAllStores(0, 10, "distance", null, 3.0, authentication);
+
+		// then
+		assertEquals(1, result.getTotalElements());
+		assertEquals(storeId, result.getContent().get(0).getId());
+		verify(storeGeoIndex, never()).findNearest(anyDouble(), anyDouble(), any(), anyInt(), anyInt());
+	}
+
+	@Test
+	@DisplayName("모든 매장 조회 - 반경이 0 이하이면 예외")
+	void getAllStores_invalidRadius() {
+		// when & then
+		Authentication authentication = createMockAuthentication();
+		CustomException exception = assertThrows(CustomException.class,
+			() -> storeUserService.getAllStores(0, 10, "distance", null, 0.0, authentication));
+		assertEquals(ErrorCode.INVALID_INPUT_VALUE, exception.getErrorCode());
+	}
+
+	@Test
+	@DisplayName("매장 검색 - 검색 색인에서 사용자 좌표 기준으로 순위를 매겨 조회")
+	void searchStores_fromSearchIndex() {
+		// given
+		when(storeSearchIndex.isLoaded()).thenReturn(true);
+		StoreSearchKey key = StoreSearchKey.of("국밥", SearchMode.TEXT, null, 37.4979, 127.0276, 1, 10);
+		when(storeSearchIndex.search("국밥", SearchMode.TEXT, null, key.latitude(), key.longitude(), 10, 10))
+			.thenReturn(new StoreSearchResult(List.of(storeId), 11));
+		when(storeRepository.findStoreSummariesByIds(List.of(storeId)))
+			.thenReturn(List.of(new StoreSummary(StoreResponse.fromEntity(testStore), 37.4979, 127.0276)));
+
+		// when
+		Authentication authentication = createMockAuthentication();
+		Page<StoreResponse> result = storeUserService.searchStores("국밥", null, null, 1, 10, authentication);
+
+		// then
+		assertEquals(11, result.getTotalElements());
+		assertEquals(storeId, result.getContent().get(0).getId());
+		assertEquals(0.0, result.getContent().get(0).getDistance());
+		verify(storeRepository, never()).searchStores(any(), any(), any(Pageable.class));
+	}
+
+	@Test
+	@DisplayName("매장 검색 - 같은 검색은 캐시에서 반환, 매장/메뉴 변경 후에는 다시 검색")
+	void searchStores_cachedUntilGenerationBump() {
+		// given
+		when(storeSearchIndex.isLoaded()).thenReturn(true);
+		when(storeSearchIndex.search(any(), any(), any(), any(), any(), anyInt(), anyInt()))
+			.thenReturn(new StoreSearchResult(List.of(storeId), 1));
+		when(storeRepository.findStoreSummariesByIds(List.of(storeId)))
+			.thenReturn(List.of(new StoreSummary(StoreResponse.fromEntity(testStore), 37.4979, 127.0276)));
+
+		// when
+		Authentication authentication = createMockAuthentication();
+		storeUserService.searchStores("국밥", null, null, 0, 10, authentication);
+		storeUserService.searchStores("국밥", null, "TEXT", 0, 10, authentication);
+		storeSearchCache.bumpGeneration();
+		Page<StoreResponse> result = storeUserService.searchStores("국밥", null, null, 0, 10, authentication);
+
+		// then
+		assertEquals(storeId, result.getContent().get(0).getId());
+		verify(storeSearchIndex, times(2)).search(any(), any(), any(), any(), any(), anyInt(), anyInt());
+		verify(storeRepository, times(1)).findStoreSummariesByIds(any());
+	}
+
+	@Test
+	@DisplayName("검색 캐시 미리 적재 - 최근 요청된 검색을 다시 계산해 캐시 교체")
+	void warmUpSearchCache_refreshesRecentSearches() {
+		// given
+		when(storeSearchIndex.isLoaded()).thenReturn(true);
+		when(storeSearchIndex.search(any(), any(), any(), any(), any(), anyInt(), anyInt()))
+			.thenReturn(new StoreSearchResult(List.of(storeId), 1));
+		when(storeRepository.findStoreSummariesByIds(List.of(storeId)))
+			.thenReturn(List.of(new StoreSummary(StoreResponse.fromEntity(testStore), 37.4979, 127.0276)));
+		Authentication authentication = createMockAuthentication();
+		storeUserService.searchStores("국밥", null, null, 0, 10, authentication);
+
+		// when
+		int warmed = storeUserService.warmUpSearchCache(10);
+		storeUserService.searchStores("국밥", null, null, 0, 10, authentication);
+
+		// then
+		assertEquals(1, warmed);
+		verify(storeSearchTrendTracker, times(2)).record(any());
+		verify(storeSearchIndex, times(2)).search(any(), any(), any(), any(), any(), anyInt(), anyInt());
+	}
+
+	@Test
+	@DisplayName("매장 검색 - 색인 미적재 시 DB 검색")
+	void searchStores_fromDatabase() {
+		// given
+		Pageable pageable = PageRequest.of(0, 10);
+		when(storeRepository.searchStores("국밥", Category.KOREAN, pageable))
+			.thenReturn(new PageImpl<>(List.of(testStore), pageable, 1));
+
+		// when
+		Authentication authentication = createMockAuthentication();
+		Page<StoreResponse> result = storeUserService.searchStores("국밥", "korean", "text", 0, 10, authentication);
+
+		// then
+		assertEquals(1, result.getTotalElements());
+		assertEquals("소문난 국밥집", result.getContent().get(0).getName());
+	}
+
+	@Test
+	@DisplayName("매장 검색 - 초성 검색은 색인 사용")
+	void searchStores_byChosung() {
+		// given
+		when(storeSearchIndex.isLoaded()).thenReturn(true);
+		StoreSearchKey key = StoreSearchKey.of("ㄱㅂ", SearchMode.CHOSUNG, null, 37.4979, 127.0276, 0, 10);
+		when(storeSearchIndex.search("ㄱㅂ", SearchMode.CHOSUNG, null, key.latitude(), key.longitude(), 0, 10))
+			.thenReturn(new StoreSearchResult(List.of(storeId), 1));
+		when(storeRepository.findStoreSummariesByIds(List.of(storeId)))
+			.thenReturn(List.of(new StoreSummary(StoreResponse.fromEntity(testStore), 37.4979, 127.0276)));
+
+		// when
+		Authentication authentication = createMockAuthentication();
+		Page<StoreResponse> result = storeUserService.searchStores("ㄱㅂ", null, "chosung", 0, 10, authentication);
+
+		// then
+		assertEquals(storeId, result.getContent().get(0).getId());
+	}
+
+	@Test
+	@DisplayName("매장 검색 - 색인 미적재 시 초성/자모 검색은 예외")
+	void searchStores_chosungWithoutIndex() {
+		// when & then
+		Authentication authentication = createMockAuthentication();
+		CustomException exception = assertThrows(CustomException.class,
+			() -> storeUserService.searchStores("ㄱㅂ", null, "CHOSUNG", 0, 10, authentication));
+		assertEquals(ErrorCode.SEARCH_INDEX_NOT_READY, exception.getErrorCode());
+		verify(storeRepository, never()).searchStores(any(), any(), any(Pageable.class));
+	}
+
+	@Test
+	@DisplayName("매장 검색 - 잘못된 검색 방식")
+	void searchStores_invalidMode() {
+		// when & then
+		Authentication authentication = createMockAuthentication();
+		CustomException exception = assertThrows(CustomException.class,
+			() -> storeUserService.searchStores("국밥", null, "fuzzy", 0, 10, authentication));
+		assertEquals(ErrorCode.INVALID_SEARCH_MODE, exception.getErrorCode());
+	}
+
+	@Test
+	@DisplayName("검색어 자동완성 - 추천 개수는 최대 10개")
+	void autocomplete_fromIndex() {
+		// given
+		when(storeAutocompleteIndex.isLoaded()).thenReturn(true);
+		when(storeAutocompleteIndex.suggest("소문", StoreAutocompleteIndex.MAX_SUGGESTIONS)).thenReturn(
+			List.of(new AutocompleteSuggestion(AutocompleteSuggestion.Type.STORE, "소문난 국밥집", storeId, 4.5)));
+
+		// when
+		List<AutocompleteResponse> result = storeUserService.autocomplete("소문", 50);
+
+		// then
+		assertEquals(1, result.size());
+		assertEquals("STORE", result.get(0).getType());
+		assertEquals(storeId, result.get(0).getStoreId());
+	}
+
+	@Test
+	@DisplayName("검색어 자동완성 - 색인 미적재 시 빈 목록")
+	void autocomplete_indexNotLoaded() {
+		// when
+		List<AutocompleteResponse> result = storeUserService.autocomplete("소문", 10);
+
+		// then
+		assertTrue(result.isEmpty());
+		verify(storeAutocompleteIndex, never()).suggest(any(), anyInt());
+	}
+
+	@Test
+	@DisplayName("거리순 커서 조회 - 다음 페이지 커서 발급")
+	void getStoresByDistanceCursor_firstPage() {
+		// given
+		UUID nextStoreId = UUID.randomUUID();
+		when(storeGeoIndex.isLoaded()).thenReturn(true);
+		when(storeGeoIndex.findNearest(37.4979, 127.0276, null, 0, 2))
+			.thenReturn(List.of(new NearbyStore(storeId, 0.0), new NearbyStore(nextStoreId, 1.5)));
+		when(storeRepository.findStoreResponsesByIds(List.of(storeId), 37.4979, 127.0276))
+			.thenReturn(List.of(StoreResponse.fromEntity(testStore, 0.0)));
+
+		// when
+		Authentication authentication = createMockAuthentication();
+		SliceResponse<StoreResponse> result = storeUserService.getStoresByDistanceCursor("", 1, null, authentication);
+
+		// then
+		assertTrue(result.isHasNext());
+		assertEquals(1, result.getContent().size());
+		assertEquals(storeId, result.getContent().get(0).getId());
+		DistanceCursor nextCursor = DistanceCursor.decode(result.getNextCursor());
+		assertEquals(0.0, nextCursor.getDistance());
+		assertEquals(storeId, nextCursor.getStoreId());
+	}
+
+	@Test
+	@DisplayName("거리순 커서 조회 - 커서 이후부터 조회")
+	void getStoresByDistanceCursor_afterCursor() {
+		// given
+		DistanceCursor cursor = new DistanceCursor(0.5, UUID.randomUUID());
+		when(storeGeoIndex.isLoaded()).thenReturn(true);
+		when(storeGeoIndex.findNearestAfter(eq(37.4979), eq(127.0276), isNull(), any(DistanceCursor.class), eq(11)))
+			.thenReturn(List.of(new NearbyStore(storeId, 1.0)));
+		when(storeRepository.findStoreResponsesByIds(List.of(storeId), 37.4979, 127.0276))
+			.thenReturn(List.of(StoreResponse.fromEntity(testStore, 0.0)));
+
+		// when
+		Authentication authentication = createMockAuthentication();
+		SliceResponse<StoreResponse> result = storeUserService.getStoresByDistanceCursor(cursor.encode(), 10, null,
+			authentication);
+
+		// then
+		assertFalse(result.isHasNext());
+		assertNull(result.getNextCursor());
+		assertEquals(storeId, result.getContent().get(0).getId());
+	}
+
+	@Test
+	@DisplayName("거리순 커서 조회 - 잘못된 커서")
+	void getStoresByDistanceCursor_invalidCursor() {
+		// when & then
+		Authentication authentication = createMockAuthentication();
+		CustomException exception = assertThrows(CustomException.class,
+			() -> storeUserService.getStoresByDistanceCursor("not-a-cursor", 10, null, authentication));
+		assertEquals(ErrorCode.INVALID_CURSOR, exception.getErrorCode());
+	}
+
 	private Authentication createMockAuthentication() {
 		return new org.springframework.security.authentication.UsernamePasswordAuthenticationToken(
 			testUser,
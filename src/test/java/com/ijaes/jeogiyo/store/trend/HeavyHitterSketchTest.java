@@ -0,0 +1,96 @@
+package com.ijaes.jeogiyo.store.trend;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("HeavyHitterSketch 테스트")
+class HeavyHitterSketchTest {
+
+	private AtomicLong now;
+	private HeavyHitterSketch<String> sketch;
+
+	@BeforeEach
+	void setUp() {
+		now = new AtomicLong();
+		sketch = new HeavyHitterSketch<>(1024, 3, Duration.ofMinutes(1), 3, now::get);
+	}
+
+	@Test
+	@DisplayName("횟수 내림차순 상위 키 조회")
+	void top_ordersByCount() {
+		// given
+		add("국밥", 5);
+		add("치킨", 3);
+		add("피자", 1);
+
+		// when
+		List<HeavyHitter<String>> top = sketch.top(1, 2);
+
+		// then
+		assertEquals(2, top.size());
+		assertEquals("국밥", top.get(0).getKey());
+		assertEquals(5, top.get(0).getCount());
+		assertEquals("치킨", top.get(1).getKey());
+		assertEquals(3, top.get(1).getCount());
+	}
+
+	@Test
+	@DisplayName("후보가 가득 차면 최솟값 후보보다 많이 나온 키만 교체")
+	void add_replacesMinimumCandidate() {
+		// given
+		add("국밥", 5);
+		add("치킨", 4);
+		add("피자", 1);
+
+		// when
+		add("족발", 1);
+		List<HeavyHitter<String>> afterOne = sketch.top(1, 10);
+		add("족발", 1);
+		List<HeavyHitter<String>> afterTwo = sketch.top(1, 10);
+
+		// then
+		assertTrue(afterOne.stream().noneMatch(hitter -> hitter.getKey().equals("족발")));
+		assertEquals(3, afterTwo.size());
+		assertTrue(afterTwo.stream().anyMatch(hitter -> hitter.getKey().equals("족발")));
+		assertTrue(afterTwo.stream().noneMatch(hitter -> hitter.getKey().equals("피자")));
+	}
+
+	@Test
+	@DisplayName("구간별 집계 - 조회 구간 밖의 횟수는 제외하고 오래된 구간은 교체")
+	void top_perWindow() {
+		// given
+		add("국밥", 4);
+		now.set(Duration.ofMinutes(1).toMillis());
+		add("국밥", 1);
+		add("치킨", 2);
+
+		// when
+		List<HeavyHitter<String>> lastMinute = sketch.top(1, 10);
+		List<HeavyHitter<String>> lastTwoMinutes = sketch.top(2, 10);
+		now.set(Duration.ofMinutes(3).toMillis());
+		add("피자", 1);
+		List<HeavyHitter<String>> afterRotation = sketch.top(3, 10);
+
+		// then
+		assertEquals("치킨", lastMinute.get(0).getKey());
+		assertEquals(1, lastMinute.get(1).getCount());
+		assertEquals("국밥", lastTwoMinutes.get(0).getKey());
+		assertEquals(5, lastTwoMinutes.get(0).getCount());
+		assertEquals(3, afterRotation.size());
+		assertEquals(1, afterRotation.stream().filter(hitter -> hitter.getKey().equals("국밥")).findFirst()
+			.orElseThrow().getCount());
+	}
+
+	private void add(String key, int times) {
+		for (int i = 0; i < times; i++) {
+			sketch.add(key);
+		}
+	}
+}